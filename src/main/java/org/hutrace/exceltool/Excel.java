@@ -3,13 +3,23 @@ package org.hutrace.exceltool;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.hutrace.exceltool.annotation.ExcelField;
 import org.hutrace.exceltool.pojo.ExcelType;
 import org.hutrace.exceltool.pojo.TitleAlias;
+import org.hutrace.exceltool.read.BatchConsumer;
+import org.hutrace.exceltool.read.ExcelTable;
 import org.hutrace.exceltool.read.Reader;
+import org.hutrace.exceltool.read.RowPublisher;
+import org.hutrace.exceltool.utils.AsyncTask;
 import org.hutrace.exceltool.write.Writer;
 
 /**
@@ -262,6 +272,1034 @@ public class Excel {
 		return reader(sheetName).toJavaBean(in, type, clazs);
 	}
 	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path)
+	 */
+	public static List<Map<String, Object>> readToMap(Path path) throws IOException {
+		return reader().toMap(path);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(Path path, TitleAlias[] titleAlias) throws IOException {
+		return reader().toMap(path, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(Path, Class)
+	 */
+	public static <T> List<T> readToJavaBean(Path path, Class<T> clazs) throws IOException {
+		return reader().toJavaBean(path, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType)
+	 */
+	public static List<Map<String, Object>> readToMap(byte[] bytes, ExcelType type) throws IOException {
+		return reader().toMap(bytes, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(byte[] bytes, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return reader().toMap(bytes, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(byte[], ExcelType, Class)
+	 */
+	public static <T> List<T> readToJavaBean(byte[] bytes, ExcelType type, Class<T> clazs) throws IOException {
+		return reader().toJavaBean(bytes, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType)
+	 */
+	public static List<Map<String, Object>> readToMap(ByteBuffer buffer, ExcelType type) throws IOException {
+		return reader().toMap(buffer, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(ByteBuffer buffer, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return reader().toMap(buffer, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(ByteBuffer, ExcelType, Class)
+	 */
+	public static <T> List<T> readToJavaBean(ByteBuffer buffer, ExcelType type, Class<T> clazs) throws IOException {
+		return reader().toJavaBean(buffer, type, clazs);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(String)
+	 */
+	public static ExcelTable readToTable(String realPath) throws IOException {
+		return reader().toTable(realPath);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(InputStream, ExcelType)
+	 */
+	public static ExcelTable readToTable(InputStream in, ExcelType type) throws IOException {
+		return reader().toTable(in, type);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(Path)
+	 */
+	public static ExcelTable readToTable(Path path) throws IOException {
+		return reader().toTable(path);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(byte[], ExcelType)
+	 */
+	public static ExcelTable readToTable(byte[] bytes, ExcelType type) throws IOException {
+		return reader().toTable(bytes, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path)
+	 */
+	public static List<Map<String, Object>> readToMap(Path path, String sheetName) throws IOException {
+		return reader(sheetName).toMap(path);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(Path path, TitleAlias[] titleAlias, String sheetName) throws IOException {
+		return reader(sheetName).toMap(path, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(Path, Class)
+	 */
+	public static <T> List<T> readToJavaBean(Path path, Class<T> clazs, String sheetName) throws IOException {
+		return reader(sheetName).toJavaBean(path, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType)
+	 */
+	public static List<Map<String, Object>> readToMap(byte[] bytes, ExcelType type, String sheetName) throws IOException {
+		return reader(sheetName).toMap(bytes, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(byte[] bytes, ExcelType type, TitleAlias[] titleAlias, String sheetName) throws IOException {
+		return reader(sheetName).toMap(bytes, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(byte[], ExcelType, Class)
+	 */
+	public static <T> List<T> readToJavaBean(byte[] bytes, ExcelType type, Class<T> clazs, String sheetName) throws IOException {
+		return reader(sheetName).toJavaBean(bytes, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType)
+	 */
+	public static List<Map<String, Object>> readToMap(ByteBuffer buffer, ExcelType type, String sheetName) throws IOException {
+		return reader(sheetName).toMap(buffer, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType, TitleAlias[])
+	 */
+	public static List<Map<String, Object>> readToMap(ByteBuffer buffer, ExcelType type, TitleAlias[] titleAlias, String sheetName) throws IOException {
+		return reader(sheetName).toMap(buffer, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(ByteBuffer, ExcelType, Class)
+	 */
+	public static <T> List<T> readToJavaBean(ByteBuffer buffer, ExcelType type, Class<T> clazs, String sheetName) throws IOException {
+		return reader(sheetName).toJavaBean(buffer, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, Consumer)
+	 */
+	public static void readToMap(String realPath, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(realPath, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, Consumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(in, type, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], Consumer)
+	 */
+	public static void readToMap(String realPath, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(realPath, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], Consumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(in, type, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, Consumer)
+	 */
+	public static <T> void readToJavaBean(String realPath, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		reader().toJavaBean(realPath, clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, Consumer)
+	 */
+	public static <T> void readToJavaBean(InputStream in, ExcelType type, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		reader().toJavaBean(in, type, clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(String, Consumer)
+	 */
+	public static void readToMap(String realPath, Consumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(realPath, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, Consumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, Consumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(in, type, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], Consumer)
+	 */
+	public static void readToMap(String realPath, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(realPath, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], Consumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(in, type, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, Consumer)
+	 */
+	public static <T> void readToJavaBean(String realPath, Class<T> clazs, Consumer<? super T> consumer, String sheetName) throws IOException {
+		reader(sheetName).toJavaBean(realPath, clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, Consumer)
+	 */
+	public static <T> void readToJavaBean(InputStream in, ExcelType type, Class<T> clazs, Consumer<? super T> consumer, String sheetName) throws IOException {
+		reader(sheetName).toJavaBean(in, type, clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(String)
+	 */
+	public static Map<String, List<Map<String, Object>>> readAllSheetsToMap(String realPath) throws IOException {
+		return reader().toMapAllSheets(realPath);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(InputStream, ExcelType)
+	 */
+	public static Map<String, List<Map<String, Object>>> readAllSheetsToMap(InputStream in, ExcelType type) throws IOException {
+		return reader().toMapAllSheets(in, type);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(String, TitleAlias[])
+	 */
+	public static Map<String, List<Map<String, Object>>> readAllSheetsToMap(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return reader().toMapAllSheets(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(InputStream, ExcelType, TitleAlias[])
+	 */
+	public static Map<String, List<Map<String, Object>>> readAllSheetsToMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return reader().toMapAllSheets(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toJavaBeanAllSheets(String, Class)
+	 */
+	public static <T> Map<String, List<T>> readAllSheetsToJavaBean(String realPath, Class<T> clazs) throws IOException {
+		return reader().toJavaBeanAllSheets(realPath, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toJavaBeanAllSheets(InputStream, ExcelType, Class)
+	 */
+	public static <T> Map<String, List<T>> readAllSheetsToJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return reader().toJavaBeanAllSheets(in, type, clazs);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, int, BatchConsumer)
+	 */
+	public static void readToMap(String realPath, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(realPath, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, int, BatchConsumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(in, type, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], int, BatchConsumer)
+	 */
+	public static void readToMap(String realPath, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(realPath, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], int, BatchConsumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		reader().toMap(in, type, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, int, BatchConsumer)
+	 */
+	public static <T> void readToJavaBean(String realPath, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		reader().toJavaBean(realPath, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, int, BatchConsumer)
+	 */
+	public static <T> void readToJavaBean(InputStream in, ExcelType type, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		reader().toJavaBean(in, type, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(String, int, BatchConsumer)
+	 */
+	public static void readToMap(String realPath, int batchSize, BatchConsumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(realPath, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, int, BatchConsumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, int batchSize, BatchConsumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(in, type, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], int, BatchConsumer)
+	 */
+	public static void readToMap(String realPath, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(realPath, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], int, BatchConsumer)
+	 */
+	public static void readToMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer, String sheetName) throws IOException {
+		reader(sheetName).toMap(in, type, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, int, BatchConsumer)
+	 */
+	public static <T> void readToJavaBean(String realPath, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer, String sheetName) throws IOException {
+		reader(sheetName).toJavaBean(realPath, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, int, BatchConsumer)
+	 */
+	public static <T> void readToJavaBean(InputStream in, ExcelType type, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer, String sheetName) throws IOException {
+		reader(sheetName).toJavaBean(in, type, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String)
+	 */
+	public static Stream<Map<String, Object>> streamMap(String realPath) throws IOException {
+		return reader().streamMap(realPath);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType)
+	 */
+	public static Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type) throws IOException {
+		return reader().streamMap(in, type);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String, TitleAlias[])
+	 */
+	public static Stream<Map<String, Object>> streamMap(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return reader().streamMap(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType, TitleAlias[])
+	 */
+	public static Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return reader().streamMap(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(String, Class)
+	 */
+	public static <T> Stream<T> streamJavaBean(String realPath, Class<T> clazs) throws IOException {
+		return reader().streamJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(InputStream, ExcelType, Class)
+	 */
+	public static <T> Stream<T> streamJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return reader().streamJavaBean(in, type, clazs);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String)
+	 */
+	public static Stream<Map<String, Object>> streamMap(String realPath, String sheetName) throws IOException {
+		return reader(sheetName).streamMap(realPath);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType)
+	 */
+	public static Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type, String sheetName) throws IOException {
+		return reader(sheetName).streamMap(in, type);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String, TitleAlias[])
+	 */
+	public static Stream<Map<String, Object>> streamMap(String realPath, TitleAlias[] titleAlias, String sheetName) throws IOException {
+		return reader(sheetName).streamMap(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType, TitleAlias[])
+	 */
+	public static Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, String sheetName) throws IOException {
+		return reader(sheetName).streamMap(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(String, Class)
+	 */
+	public static <T> Stream<T> streamJavaBean(String realPath, Class<T> clazs, String sheetName) throws IOException {
+		return reader(sheetName).streamJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param sheetName 读取Excel的sheet名称，默认读取Excel的第一个sheet，如果你的Excel有多个sheet，并且你想读取你需要的sheet时，你可以指定它。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(InputStream, ExcelType, Class)
+	 */
+	public static <T> Stream<T> streamJavaBean(InputStream in, ExcelType type, Class<T> clazs, String sheetName) throws IOException {
+		return reader(sheetName).streamJavaBean(in, type, clazs);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishMap(String)
+	 */
+	public static RowPublisher<Map<String, Object>> publishMap(String realPath) {
+		return reader().publishMap(realPath);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishMap(InputStream, ExcelType)
+	 */
+	public static RowPublisher<Map<String, Object>> publishMap(InputStream in, ExcelType type) {
+		return reader().publishMap(in, type);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishJavaBean(String, Class)
+	 */
+	public static <T> RowPublisher<T> publishJavaBean(String realPath, Class<T> clazs) {
+		return reader().publishJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishJavaBean(InputStream, ExcelType, Class)
+	 */
+	public static <T> RowPublisher<T> publishJavaBean(InputStream in, ExcelType type, Class<T> clazs) {
+		return reader().publishJavaBean(in, type, clazs);
+	}
+	
 	/**
 	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
 	 * <p>写入Excel的列是无序的（针对整体而言无序）
@@ -1104,4 +2142,418 @@ public class Excel {
 		return writer(sheetName).javaBeanToBytes((List<Object>) list, collation, type);
 	}
 	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToMap(String)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @return 读取的数据
+	 * @see #readToMap(String)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(String realPath) {
+		return readToMapAsync(realPath, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToMap(String)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToMap(String)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(String realPath, Executor executor) {
+		return AsyncTask.submit(() -> readToMap(realPath), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToMap(InputStream, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @return 读取的数据
+	 * @see #readToMap(InputStream, ExcelType)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(InputStream in, ExcelType type) {
+		return readToMapAsync(in, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToMap(InputStream, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToMap(InputStream, ExcelType)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(InputStream in, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> readToMap(in, type), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToMap(Path)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param path Excel文件的路径
+	 * @return 读取的数据
+	 * @see #readToMap(Path)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(Path path) {
+		return readToMapAsync(path, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToMap(Path)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param path Excel文件的路径
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToMap(Path)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(Path path, Executor executor) {
+		return AsyncTask.submit(() -> readToMap(path), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToMap(byte[], ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param bytes Excel文件的内容
+	 * @param type Excel文件的类型
+	 * @return 读取的数据
+	 * @see #readToMap(byte[], ExcelType)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(byte[] bytes, ExcelType type) {
+		return readToMapAsync(bytes, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToMap(byte[], ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param bytes Excel文件的内容
+	 * @param type Excel文件的类型
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToMap(byte[], ExcelType)
+	 */
+	public static CompletableFuture<List<Map<String, Object>>> readToMapAsync(byte[] bytes, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> readToMap(bytes, type), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToJavaBean(String, Class)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return 读取的数据
+	 * @see #readToJavaBean(String, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(String realPath, Class<T> clazs) {
+		return readToJavaBeanAsync(realPath, clazs, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToJavaBean(String, Class)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToJavaBean(String, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(String realPath, Class<T> clazs, Executor executor) {
+		return AsyncTask.submit(() -> readToJavaBean(realPath, clazs), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToJavaBean(InputStream, ExcelType, Class)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return 读取的数据
+	 * @see #readToJavaBean(InputStream, ExcelType, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(InputStream in, ExcelType type, Class<T> clazs) {
+		return readToJavaBeanAsync(in, type, clazs, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToJavaBean(InputStream, ExcelType, Class)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToJavaBean(InputStream, ExcelType, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(InputStream in, ExcelType type, Class<T> clazs, Executor executor) {
+		return AsyncTask.submit(() -> readToJavaBean(in, type, clazs), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToJavaBean(Path, Class)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param path Excel文件的路径
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return 读取的数据
+	 * @see #readToJavaBean(Path, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(Path path, Class<T> clazs) {
+		return readToJavaBeanAsync(path, clazs, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToJavaBean(Path, Class)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param path Excel文件的路径
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToJavaBean(Path, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(Path path, Class<T> clazs, Executor executor) {
+		return AsyncTask.submit(() -> readToJavaBean(path, clazs), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToJavaBean(byte[], ExcelType, Class)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param bytes Excel文件的内容
+	 * @param type Excel文件的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return 读取的数据
+	 * @see #readToJavaBean(byte[], ExcelType, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(byte[] bytes, ExcelType type, Class<T> clazs) {
+		return readToJavaBeanAsync(bytes, type, clazs, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToJavaBean(byte[], ExcelType, Class)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param bytes Excel文件的内容
+	 * @param type Excel文件的类型
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToJavaBean(byte[], ExcelType, Class)
+	 */
+	public static <T> CompletableFuture<List<T>> readToJavaBeanAsync(byte[] bytes, ExcelType type, Class<T> clazs, Executor executor) {
+		return AsyncTask.submit(() -> readToJavaBean(bytes, type, clazs), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToTable(String)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @return 读取的数据
+	 * @see #readToTable(String)
+	 */
+	public static CompletableFuture<ExcelTable> readToTableAsync(String realPath) {
+		return readToTableAsync(realPath, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToTable(String)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param realPath 读取文件的绝对路径，根据后缀判断Excel的类型
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToTable(String)
+	 */
+	public static CompletableFuture<ExcelTable> readToTableAsync(String realPath, Executor executor) {
+		return AsyncTask.submit(() -> readToTable(realPath), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步读取Excel，读取的方式与{@link #readToTable(InputStream, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @return 读取的数据
+	 * @see #readToTable(InputStream, ExcelType)
+	 */
+	public static CompletableFuture<ExcelTable> readToTableAsync(InputStream in, ExcelType type) {
+		return readToTableAsync(in, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步读取Excel，读取的方式与{@link #readToTable(InputStream, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断读取，不再解析后面的行
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型
+	 * @param executor 执行读取的线程池
+	 * @return 读取的数据，读取出错时以抛出的异常结束
+	 * @see #readToTable(InputStream, ExcelType)
+	 */
+	public static CompletableFuture<ExcelTable> readToTableAsync(InputStream in, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> readToTable(in, type), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeMapToFile(List, String)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @return 写入完成后结束
+	 * @see #writeMapToFile(List, String)
+	 */
+	public static CompletableFuture<Void> writeMapToFileAsync(List<Map<String, Object>> list, String realPath) {
+		return writeMapToFileAsync(list, realPath, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeMapToFile(List, String)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param executor 执行写入的线程池
+	 * @return 写入完成后结束，写入出错时以抛出的异常结束
+	 * @see #writeMapToFile(List, String)
+	 */
+	public static CompletableFuture<Void> writeMapToFileAsync(List<Map<String, Object>> list, String realPath, Executor executor) {
+		return AsyncTask.submit(() -> {
+			writeMapToFile(list, realPath);
+			return null;
+		}, executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeJavaBeanToFile(List, String)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @return 写入完成后结束
+	 * @see #writeJavaBeanToFile(List, String)
+	 */
+	public static <T> CompletableFuture<Void> writeJavaBeanToFileAsync(List<T> list, String realPath) {
+		return writeJavaBeanToFileAsync(list, realPath, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeJavaBeanToFile(List, String)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param executor 执行写入的线程池
+	 * @return 写入完成后结束，写入出错时以抛出的异常结束
+	 * @see #writeJavaBeanToFile(List, String)
+	 */
+	public static <T> CompletableFuture<Void> writeJavaBeanToFileAsync(List<T> list, String realPath, Executor executor) {
+		return AsyncTask.submit(() -> {
+			writeJavaBeanToFile(list, realPath);
+			return null;
+		}, executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeMapToOutputStream(List, OutputStream, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type Excel文件的类型
+	 * @return 写入完成后结束
+	 * @see #writeMapToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public static CompletableFuture<Void> writeMapToOutputStreamAsync(List<Map<String, Object>> list, OutputStream out, ExcelType type) {
+		return writeMapToOutputStreamAsync(list, out, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeMapToOutputStream(List, OutputStream, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type Excel文件的类型
+	 * @param executor 执行写入的线程池
+	 * @return 写入完成后结束，写入出错时以抛出的异常结束
+	 * @see #writeMapToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public static CompletableFuture<Void> writeMapToOutputStreamAsync(List<Map<String, Object>> list, OutputStream out, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> {
+			writeMapToOutputStream(list, out, type);
+			return null;
+		}, executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeJavaBeanToOutputStream(List, OutputStream, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type Excel文件的类型
+	 * @return 写入完成后结束
+	 * @see #writeJavaBeanToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public static <T> CompletableFuture<Void> writeJavaBeanToOutputStreamAsync(List<T> list, OutputStream out, ExcelType type) {
+		return writeJavaBeanToOutputStreamAsync(list, out, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeJavaBeanToOutputStream(List, OutputStream, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type Excel文件的类型
+	 * @param executor 执行写入的线程池
+	 * @return 写入完成后结束，写入出错时以抛出的异常结束
+	 * @see #writeJavaBeanToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public static <T> CompletableFuture<Void> writeJavaBeanToOutputStreamAsync(List<T> list, OutputStream out, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> {
+			writeJavaBeanToOutputStream(list, out, type);
+			return null;
+		}, executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeMapToBytes(List, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param type Excel文件的类型
+	 * @return 写入的字节数组
+	 * @see #writeMapToBytes(List, ExcelType)
+	 */
+	public static CompletableFuture<byte[]> writeMapToBytesAsync(List<Map<String, Object>> list, ExcelType type) {
+		return writeMapToBytesAsync(list, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeMapToBytes(List, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param type Excel文件的类型
+	 * @param executor 执行写入的线程池
+	 * @return 写入的字节数组，写入出错时以抛出的异常结束
+	 * @see #writeMapToBytes(List, ExcelType)
+	 */
+	public static CompletableFuture<byte[]> writeMapToBytesAsync(List<Map<String, Object>> list, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> writeMapToBytes(list, type), executor);
+	}
+	
+	/**
+	 * <p>在默认的线程池中异步写入Excel，写入的方式与{@link #writeJavaBeanToBytes(List, ExcelType)}相同
+	 * <p>默认的线程池见{@link AsyncTask#commonExecutor()}
+	 * @param list 写入Excel的数据
+	 * @param type Excel文件的类型
+	 * @return 写入的字节数组
+	 * @see #writeJavaBeanToBytes(List, ExcelType)
+	 */
+	public static <T> CompletableFuture<byte[]> writeJavaBeanToBytesAsync(List<T> list, ExcelType type) {
+		return writeJavaBeanToBytesAsync(list, type, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>在executor中异步写入Excel，写入的方式与{@link #writeJavaBeanToBytes(List, ExcelType)}相同
+	 * <p>调用返回对象的{@link CompletableFuture#cancel(boolean)}会中断写入，不再写入后面的行
+	 * @param list 写入Excel的数据
+	 * @param type Excel文件的类型
+	 * @param executor 执行写入的线程池
+	 * @return 写入的字节数组，写入出错时以抛出的异常结束
+	 * @see #writeJavaBeanToBytes(List, ExcelType)
+	 */
+	public static <T> CompletableFuture<byte[]> writeJavaBeanToBytesAsync(List<T> list, ExcelType type, Executor executor) {
+		return AsyncTask.submit(() -> writeJavaBeanToBytes(list, type), executor);
+	}
+	
 }
@@ -0,0 +1,25 @@
+package org.hutrace.exceltool.converter;
+
+/**
+ * <p>读取数据的类型转换器
+ * <p>把从Excel中读取到的数据（String、Double、Boolean、Date或null）转换成JavaBean字段的类型
+ * <p>读取标题时每一列只查找一次转换器，之后每一行直接调用，实现类必须是线程安全的
+ * <p>可以通过{@link Converters#register(Class, Converter)}注册自定义的转换器，例如金额类型、使用编码的枚举
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T> 转换后的类型
+ * @see Converters
+ */
+@FunctionalInterface
+public interface Converter<T> {
+
+	/**
+	 * 转换读取到的数据
+	 * @param value 读取到的数据，可能为null
+	 * @return 转换后的数据
+	 * @throws org.hutrace.exceltool.exception.TypeCastException 无法转换时
+	 */
+	T convert(Object value);
+
+}
@@ -0,0 +1,307 @@
+package org.hutrace.exceltool.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hutrace.exceltool.exception.TypeCastException;
+import org.hutrace.exceltool.utils.TypeUtils;
+
+/**
+ * <p>类型转换器的注册中心
+ * <p>每个类型对应一个专门的{@link Converter}，不需要在每次转换时按类型逐个判断（见{@link TypeUtils#cast(Object, Class)}）
+ * <p>内置的转换器按类型缓存在{@link ClassValue}中；注册的转换器优先于内置的转换器，注册后读取的标题行开始生效
+ * <p>整数类型的转换器可以读取"21.0"这样的文本（没有小数部分时），例如xlsx中保存为文本的数字
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Converter
+ */
+public class Converters {
+
+	/**
+	 * 调用者注册的转换器
+	 */
+	private static final Map<Class<?>, Converter<?>> REGISTERED = new ConcurrentHashMap<>();
+
+	/**
+	 * 内置的转换器
+	 */
+	private static final ClassValue<Converter<?>> DEFAULTS = new ClassValue<Converter<?>>() {
+		@Override
+		protected Converter<?> computeValue(Class<?> type) {
+			return create(type);
+		}
+	};
+
+	/**
+	 * <p>注册类型的转换器，替换已经注册的转换器和内置的转换器
+	 * <p>基本类型与包装类型需要分别注册，例如int.class与Integer.class
+	 * @param type 转换后的类型
+	 * @param converter 转换器
+	 */
+	public static <T> void register(Class<T> type, Converter<? extends T> converter) {
+		if(type == null) {
+			throw new NullPointerException("The [type] cannot be null");
+		}
+		if(converter == null) {
+			throw new NullPointerException("The [converter] cannot be null");
+		}
+		REGISTERED.put(type, converter);
+	}
+
+	/**
+	 * 移除注册的转换器，之后使用内置的转换器
+	 * @param type 转换后的类型
+	 */
+	public static void unregister(Class<?> type) {
+		if(type == null) {
+			throw new NullPointerException("The [type] cannot be null");
+		}
+		REGISTERED.remove(type);
+	}
+
+	/**
+	 * 获取类型的转换器
+	 * @param type 转换后的类型
+	 * @return 注册的转换器，没有注册时返回内置的转换器
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Converter<T> find(Class<T> type) {
+		if(type == null) {
+			throw new NullPointerException("The [type] cannot be null");
+		}
+		Converter<?> converter = REGISTERED.get(type);
+		if(converter == null) {
+			converter = DEFAULTS.get(type);
+		}
+		return (Converter<T>) converter;
+	}
+
+	/**
+	 * 创建内置的转换器，结果与{@link TypeUtils#cast(Object, Class)}一致
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Converter<?> create(Class<?> type) {
+		if(type == int.class) {
+			return value -> {
+				Integer result = toInt(value);
+				return result == null ? 0 : result;
+			};
+		}
+		if(type == Integer.class) {
+			return Converters::toInt;
+		}
+		if(type == long.class) {
+			return value -> {
+				Long result = toLong(value);
+				return result == null ? 0L : result;
+			};
+		}
+		if(type == Long.class) {
+			return Converters::toLong;
+		}
+		if(type == double.class) {
+			return value -> {
+				Double result = toDouble(value);
+				return result == null ? 0D : result;
+			};
+		}
+		if(type == Double.class) {
+			return Converters::toDouble;
+		}
+		if(type == float.class) {
+			return value -> {
+				Float result = toFloat(value);
+				return result == null ? 0F : result;
+			};
+		}
+		if(type == Float.class) {
+			return Converters::toFloat;
+		}
+		if(type == short.class) {
+			return value -> {
+				Short result = toShort(value);
+				return result == null ? (short) 0 : result;
+			};
+		}
+		if(type == Short.class) {
+			return Converters::toShort;
+		}
+		if(type == byte.class) {
+			return value -> {
+				Byte result = toByte(value);
+				return result == null ? (byte) 0 : result;
+			};
+		}
+		if(type == Byte.class) {
+			return Converters::toByte;
+		}
+		if(type == boolean.class) {
+			return value -> {
+				Boolean result = TypeUtils.castToBoolean(value);
+				return result == null ? Boolean.FALSE : result;
+			};
+		}
+		if(type == Boolean.class) {
+			return TypeUtils::castToBoolean;
+		}
+		if(type == char.class || type == Character.class) {
+			return TypeUtils::castToChar;
+		}
+		if(type == String.class) {
+			return TypeUtils::castToString;
+		}
+		if(type == BigDecimal.class) {
+			return TypeUtils::castToBigDecimal;
+		}
+		if(type == BigInteger.class) {
+			return TypeUtils::castToBigInteger;
+		}
+		if(type == Date.class) {
+			return TypeUtils::castToDate;
+		}
+		if(type.isEnum()) {
+			return value -> value == null || type.isInstance(value) ? value : TypeUtils.castToEnum(value, (Class) type);
+		}
+		return value -> TypeUtils.cast(value, type);
+	}
+
+	private static Integer toInt(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).intValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			try {
+				return Integer.parseInt(text);
+			}catch (NumberFormatException e) {
+				return (int) integral(text, value, "int", Integer.MIN_VALUE, Integer.MAX_VALUE);
+			}
+		}
+		return TypeUtils.castToInt(value);
+	}
+
+	private static Long toLong(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).longValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			try {
+				return Long.parseLong(text);
+			}catch (NumberFormatException e) {
+				return integral(text, value, "long", Long.MIN_VALUE, Long.MAX_VALUE);
+			}
+		}
+		return TypeUtils.castToLong(value);
+	}
+
+	private static Short toShort(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).shortValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			try {
+				return Short.parseShort(text);
+			}catch (NumberFormatException e) {
+				return (short) integral(text, value, "short", Short.MIN_VALUE, Short.MAX_VALUE);
+			}
+		}
+		return TypeUtils.castToShort(value);
+	}
+
+	private static Byte toByte(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).byteValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			try {
+				return Byte.parseByte(text);
+			}catch (NumberFormatException e) {
+				return (byte) integral(text, value, "byte", Byte.MIN_VALUE, Byte.MAX_VALUE);
+			}
+		}
+		return TypeUtils.castToByte(value);
+	}
+
+	private static Double toDouble(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).doubleValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			return Double.parseDouble(text);
+		}
+		return TypeUtils.castToDouble(value);
+	}
+
+	private static Float toFloat(Object value) {
+		if(value instanceof Number) {
+			return ((Number) value).floatValue();
+		}
+		if(value instanceof String) {
+			String text = text((String) value);
+			if(text == null) {
+				return null;
+			}
+			return Float.parseFloat(text);
+		}
+		return TypeUtils.castToFloat(value);
+	}
+
+	/**
+	 * 去掉数字文本中的千分位逗号，空文本与"null"返回null
+	 */
+	private static String text(String text) {
+		if(text.length() == 0 || "null".equals(text) || "NULL".equals(text)) {
+			return null;
+		}
+		if(text.indexOf(',') < 0) {
+			return text;
+		}
+		StringBuilder digits = new StringBuilder(text.length());
+		for(int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if(c != ',') {
+				digits.append(c);
+			}
+		}
+		return digits.toString();
+	}
+
+	/**
+	 * 解析没有小数部分的数字文本，例如"21.0"、"1E3"
+	 */
+	private static long integral(String text, Object value, String type, long min, long max) {
+		try {
+			long result = new BigDecimal(text.trim()).longValueExact();
+			if(result >= min && result <= max) {
+				return result;
+			}
+		}catch (NumberFormatException | ArithmeticException e) {
+			throw new TypeCastException("can not cast to " + type + ", value : " + value, e);
+		}
+		throw new TypeCastException("can not cast to " + type + ", value : " + value);
+	}
+
+}
@@ -0,0 +1,68 @@
+package org.hutrace.exceltool.mapper;
+
+/**
+ * <p>JavaBean的读写映射
+ * <p>通常由{@link org.hutrace.exceltool.processor.ExcelFieldProcessor}在编译时生成，直接调用getter与setter，不使用反射
+ * <p>字段按JavaBean中声明的顺序编号，只包含同时有getter与setter的非静态字段
+ * <p>实现类必须是无状态的，同一个对象会在多个线程中同时使用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T> JavaBean的类型
+ * @see BeanMappers
+ */
+public interface BeanMapper<T> {
+
+	/**
+	 * 获取JavaBean的类
+	 * @return JavaBean的类
+	 */
+	Class<T> type();
+
+	/**
+	 * 创建JavaBean对象
+	 * @return JavaBean对象
+	 */
+	T newInstance();
+
+	/**
+	 * 获取字段名称
+	 * @return 按声明顺序排列的字段名称
+	 */
+	String[] fields();
+
+	/**
+	 * <p>获取字段对应的Excel标题
+	 * <p>有{@link org.hutrace.exceltool.annotation.ExcelField}注解时为注解的title，否则为字段名称
+	 * @return 与{@link #fields()}顺序一致的标题
+	 */
+	String[] titles();
+
+	/**
+	 * <p>获取字段的类型，读取时用于查找调用者注册的{@link org.hutrace.exceltool.converter.Converter}
+	 * <p>默认返回null，此时只使用{@link #set(Object, int, Object)}中的类型转换
+	 * @return 与{@link #fields()}顺序一致的字段类型
+	 */
+	default Class<?>[] types() {
+		return null;
+	}
+
+	/**
+	 * <p>将读取到的数据设置到JavaBean中
+	 * <p>{@link #types()}不为null时，value已经由对应类型的{@link org.hutrace.exceltool.converter.Converter}转换过，只需要强转；
+	 * 为null时value是读取到的原始数据，需要自己转换成字段的类型
+	 * @param bean JavaBean对象
+	 * @param field 字段的下标
+	 * @param value 读取到的数据
+	 */
+	void set(T bean, int field, Object value);
+
+	/**
+	 * 获取字段的值
+	 * @param bean JavaBean对象
+	 * @param field 字段的下标
+	 * @return 字段的值
+	 */
+	Object get(T bean, int field);
+
+}
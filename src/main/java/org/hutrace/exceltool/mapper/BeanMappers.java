@@ -0,0 +1,68 @@
+package org.hutrace.exceltool.mapper;
+
+import java.util.Optional;
+
+/**
+ * <p>查找编译时生成的{@link BeanMapper}
+ * <p>生成的类与JavaBean在同一个包中，名称为JavaBean的类名（内部类的"$"换成"_"）加上{@link #SUFFIX}
+ * <p>查找结果按类缓存，没有生成映射的类使用反射读写
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see org.hutrace.exceltool.processor.ExcelFieldProcessor
+ */
+public class BeanMappers {
+
+	/**
+	 * 生成的类名的后缀
+	 */
+	public static final String SUFFIX = "_ExcelMapper";
+
+	private static final ClassValue<Optional<BeanMapper<?>>> MAPPERS = new ClassValue<Optional<BeanMapper<?>>>() {
+		@Override
+		protected Optional<BeanMapper<?>> computeValue(Class<?> type) {
+			return Optional.ofNullable(load(type));
+		}
+	};
+
+	/**
+	 * 获取JavaBean的映射
+	 * @param type JavaBean的类
+	 * @return 生成的映射，没有时返回null
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BeanMapper<T> find(Class<T> type) {
+		return (BeanMapper<T>) MAPPERS.get(type).orElse(null);
+	}
+
+	/**
+	 * 获取生成的映射类的完整名称
+	 * @param type JavaBean的类
+	 * @return 映射类的完整名称
+	 */
+	public static String mapperName(Class<?> type) {
+		String name = type.getName();
+		int dot = name.lastIndexOf('.');
+		return name.substring(0, dot + 1) + name.substring(dot + 1).replace('$', '_') + SUFFIX;
+	}
+
+	private static BeanMapper<?> load(Class<?> type) {
+		if(type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+			return null;
+		}
+		try {
+			Class<?> clazs = Class.forName(mapperName(type), true, type.getClassLoader());
+			if(!BeanMapper.class.isAssignableFrom(clazs)) {
+				return null;
+			}
+			BeanMapper<?> mapper = (BeanMapper<?>) clazs.getDeclaredConstructor().newInstance();
+			return mapper.type() == type ? mapper : null;
+		}catch (ClassNotFoundException e) {
+			return null;
+		}catch (ReflectiveOperationException | LinkageError e) {
+			// 生成的类与当前版本不兼容时使用反射
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,370 @@
+package org.hutrace.exceltool.mapper;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.converter.Converter;
+import org.hutrace.exceltool.converter.Converters;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.pojo.TitleMatching;
+import org.hutrace.exceltool.utils.Accessors;
+
+/**
+ * <p>JavaBean的读写元数据
+ * <p>包含字段的顺序、标题、类型、getter与setter访问器以及构造访问器
+ * <p>每个类只解析一次，结果缓存在{@link ClassValue}中，所有{@link org.hutrace.exceltool.read.Reader}与{@link org.hutrace.exceltool.write.Writer}共用，
+ * 类被卸载时缓存随之释放
+ * <p>有{@link BeanMappers}找到的生成映射时使用它，否则使用反射解析
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class BeanMetadata {
+
+	private static final ClassValue<BeanMetadata> CACHE = new ClassValue<BeanMetadata>() {
+		@Override
+		protected BeanMetadata computeValue(Class<?> type) {
+			MISSES.increment();
+			return new BeanMetadata(type);
+		}
+	};
+
+	/**
+	 * 获取元数据的次数
+	 */
+	private static final LongAdder LOOKUPS = new LongAdder();
+
+	/**
+	 * 解析元数据的次数
+	 */
+	private static final LongAdder MISSES = new LongAdder();
+
+	/**
+	 * JavaBean的类
+	 */
+	private final Class<?> type;
+
+	/**
+	 * 按声明顺序排列的字段
+	 */
+	private final Property[] properties;
+
+	/**
+	 * 按{@link #properties}顺序排列的标题
+	 */
+	private final String[] titles;
+
+	/**
+	 * 字段名称到字段的索引
+	 */
+	private final Map<String, Property> names;
+
+	/**
+	 * 每种匹配方式下标题到字段的索引
+	 */
+	private final Map<TitleMatching, Map<String, Property>> titleIndexes;
+
+	/**
+	 * 构造访问器，没有可用的无参构造方法时为null
+	 */
+	private final Supplier<?> constructor;
+
+	/**
+	 * 构造访问器创建失败的原因
+	 */
+	private final Exception constructorError;
+
+	private BeanMetadata(Class<?> type) {
+		this.type = type;
+		BeanMapper<?> mapper = BeanMappers.find(type);
+		Supplier<?> constructor = null;
+		Exception constructorError = null;
+		if(mapper != null) {
+			properties = mapped(mapper);
+			constructor = mapper::newInstance;
+		}else {
+			properties = reflected(type);
+			try {
+				constructor = Accessors.constructor(type);
+			}catch (ReflectiveOperationException | RuntimeException e) {
+				constructorError = e;
+			}
+		}
+		this.constructor = constructor;
+		this.constructorError = constructorError;
+		titles = new String[properties.length];
+		String[] fields = new String[properties.length];
+		for(int i = 0; i < properties.length; i++) {
+			titles[i] = properties[i].title;
+			fields[i] = properties[i].name;
+		}
+		names = TitleMatching.EXACT.index(fields, properties);
+		titleIndexes = new EnumMap<>(TitleMatching.class);
+		for(TitleMatching matching : TitleMatching.values()) {
+			titleIndexes.put(matching, matching.index(titles, properties));
+		}
+	}
+
+	/**
+	 * 获取JavaBean的元数据，第一次获取时解析，之后从缓存中获取
+	 * @param type JavaBean的类
+	 * @return 元数据
+	 */
+	public static BeanMetadata of(Class<?> type) {
+		if(type == null) {
+			throw new NullPointerException("The [type] cannot be null");
+		}
+		LOOKUPS.increment();
+		return CACHE.get(type);
+	}
+
+	/**
+	 * 获取命中缓存的次数
+	 * @return 命中次数
+	 */
+	public static long hits() {
+		return Math.max(LOOKUPS.sum() - MISSES.sum(), 0);
+	}
+
+	/**
+	 * 获取没有命中缓存（需要解析）的次数
+	 * @return 没有命中的次数
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * 获取JavaBean的类
+	 * @return JavaBean的类
+	 */
+	public Class<?> type() {
+		return type;
+	}
+
+	/**
+	 * 获取按声明顺序排列的字段，不能修改返回的数组
+	 * @return 字段
+	 */
+	public Property[] properties() {
+		return properties;
+	}
+
+	/**
+	 * 获取按{@link #properties()}顺序排列的标题，不能修改返回的数组
+	 * @return 标题
+	 */
+	public String[] titles() {
+		return titles;
+	}
+
+	/**
+	 * 获取字段
+	 * @param name 字段名称
+	 * @return 字段，没有时返回null
+	 */
+	public Property property(String name) {
+		return names.get(name);
+	}
+
+	/**
+	 * <p>获取Excel标题对应的字段
+	 * <p>使用预先建立的索引查找，多个字段的标题相同时返回第一个
+	 * @param title Excel的标题
+	 * @param matching 标题的匹配方式
+	 * @return 字段，没有时返回null
+	 */
+	public Property titled(String title, TitleMatching matching) {
+		return titleIndexes.get(matching).get(matching.key(title));
+	}
+
+	/**
+	 * 获取构造访问器
+	 * @return 构造访问器
+	 * @throws ExcelReaderException 没有可用的无参构造方法时
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Supplier<T> constructor() {
+		if(constructor == null) {
+			throw new ExcelReaderException("Failed to create a JavaBean object", constructorError);
+		}
+		return (Supplier<T>) constructor;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Property[] mapped(BeanMapper<?> mapper) {
+		BeanMapper<Object> target = (BeanMapper<Object>) mapper;
+		String[] fields = mapper.fields();
+		String[] titles = mapper.titles();
+		Class<?>[] types = mapper.types();
+		Property[] properties = new Property[fields.length];
+		for(int i = 0; i < fields.length; i++) {
+			int field = i;
+			properties[i] = new Property(fields[i], titles[i], types == null ? null : types[i],
+					bean -> target.get(bean, field), (bean, value) -> target.set(bean, field, value), null);
+		}
+		return properties;
+	}
+
+	private static Property[] reflected(Class<?> type) {
+		Field[] fields = type.getDeclaredFields();
+		Property[] properties = new Property[fields.length];
+		Field field;
+		ExcelField annot;
+		String name;
+		for(int i = 0; i < fields.length; i++) {
+			field = fields[i];
+			name = field.getName();
+			annot = field.getAnnotation(ExcelField.class);
+			Function<Object, Object> getter = null;
+			BiConsumer<Object, Object> setter = null;
+			Exception error = null;
+			try {
+				PropertyDescriptor descriptor = new PropertyDescriptor(name, type);
+				Method read = descriptor.getReadMethod();
+				Method write = descriptor.getWriteMethod();
+				getter = read == null ? null : Accessors.getter(read);
+				setter = write == null ? null : Accessors.setter(write);
+			}catch (IntrospectionException | ReflectiveOperationException | RuntimeException e) {
+				error = e;
+			}
+			properties[i] = new Property(name, annot == null ? name : annot.title(), field.getType(), getter, setter, error);
+		}
+		return properties;
+	}
+
+	/**
+	 * <p>JavaBean的一个字段
+	 * <p>访问器在解析时创建，没有getter或setter的字段在使用对应的访问器时抛出异常
+	 */
+	public static class Property {
+
+		/**
+		 * 字段名称
+		 */
+		private final String name;
+
+		/**
+		 * Excel的标题
+		 */
+		private final String title;
+
+		/**
+		 * 字段类型，生成的映射没有提供类型时为null
+		 */
+		private final Class<?> type;
+
+		/**
+		 * getter访问器，没有getter时为null
+		 */
+		private final Function<Object, Object> getter;
+
+		/**
+		 * setter访问器，没有setter时为null
+		 */
+		private final BiConsumer<Object, Object> setter;
+
+		/**
+		 * 访问器创建失败的原因
+		 */
+		private final Exception error;
+
+		private Property(String name, String title, Class<?> type, Function<Object, Object> getter,
+				BiConsumer<Object, Object> setter, Exception error) {
+			this.name = name;
+			this.title = title;
+			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
+			this.error = error;
+		}
+
+		/**
+		 * 获取字段名称
+		 * @return 字段名称
+		 */
+		public String name() {
+			return name;
+		}
+
+		/**
+		 * 获取Excel的标题，有{@link ExcelField}注解时为注解的title，否则为字段名称
+		 * @return 标题
+		 */
+		public String title() {
+			return title;
+		}
+
+		/**
+		 * 获取字段类型
+		 * @return 字段类型，生成的映射没有提供类型时为null
+		 */
+		public Class<?> type() {
+			return type;
+		}
+
+		/**
+		 * 获取getter访问器
+		 * @return getter访问器
+		 * @throws ExcelReaderException 字段没有getter时
+		 */
+		public Function<Object, Object> getter() {
+			if(getter == null) {
+				throw missing("getter");
+			}
+			return getter;
+		}
+
+		/**
+		 * 获取setter访问器，传入的值需要先经过{@link #converter()}转换
+		 * @return setter访问器
+		 * @throws ExcelReaderException 字段没有setter时
+		 */
+		public BiConsumer<Object, Object> setter() {
+			if(setter == null) {
+				throw missing("setter");
+			}
+			return setter;
+		}
+
+		/**
+		 * <p>字段是否为数字类型（基本数字类型及其包装类型）
+		 * <p>读取时这些字段直接使用数字值，{@link java.math.BigDecimal}等需要精确值的类型仍然使用数字的文本
+		 * @return 是否为数字类型
+		 */
+		public boolean isNumeric() {
+			if(type == null || type == boolean.class || type == char.class) {
+				return false;
+			}
+			return type.isPrimitive() || type == Integer.class || type == Long.class || type == Double.class
+					|| type == Float.class || type == Short.class || type == Byte.class;
+		}
+
+		/**
+		 * <p>获取读取的数据到字段类型的转换器
+		 * <p>每次调用都从{@link Converters}查找，读取标题时调用一次，之后注册的转换器在下次读取时生效
+		 * @return 转换器，类型未知（由生成的映射转换）时返回null
+		 */
+		public Converter<?> converter() {
+			return type == null ? null : Converters.find(type);
+		}
+
+		private ExcelReaderException missing(String accessor) {
+			if(error != null) {
+				return new ExcelReaderException(error);
+			}
+			return new ExcelReaderException("The field [" + name + "] has no " + accessor);
+		}
+
+	}
+
+}
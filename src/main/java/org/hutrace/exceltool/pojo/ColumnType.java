@@ -0,0 +1,73 @@
+package org.hutrace.exceltool.pojo;
+
+import java.util.Date;
+
+/**
+ * <p>按列读取时列的数据类型
+ * <p>由列中非空的数据确定，标题行只确定列的个数与名称
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public enum ColumnType {
+
+	/**
+	 * 没有任何非空的数据
+	 */
+	EMPTY,
+
+	/**
+	 * 整数，保存在long[]中
+	 */
+	LONG,
+
+	/**
+	 * 小数，保存在double[]中；同时出现整数与小数时整数也保存为小数
+	 */
+	DOUBLE,
+
+	/**
+	 * 字符串，保存为字典编码int[]，相同的字符串只保存一份
+	 */
+	STRING,
+
+	/**
+	 * 日期，以毫秒时间戳保存在long[]中
+	 */
+	DATE,
+
+	/**
+	 * 布尔值，保存为位图
+	 */
+	BOOLEAN,
+
+	/**
+	 * 同时出现多种类型的数据（整数与小数除外），保存为Object[]
+	 */
+	MIXED;
+
+	/**
+	 * 获取数据对应的类型
+	 * @param value 列的数据，不能为null
+	 * @return 数据对应的类型
+	 */
+	public static ColumnType of(Object value) {
+		if(value instanceof String) {
+			return STRING;
+		}
+		if(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return LONG;
+		}
+		if(value instanceof Number) {
+			return DOUBLE;
+		}
+		if(value instanceof Date) {
+			return DATE;
+		}
+		if(value instanceof Boolean) {
+			return BOOLEAN;
+		}
+		return MIXED;
+	}
+
+}
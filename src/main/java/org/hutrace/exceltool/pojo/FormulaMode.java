@@ -0,0 +1,30 @@
+package org.hutrace.exceltool.pojo;
+
+/**
+ * <p>读取时公式类型的列的返回方式
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public enum FormulaMode {
+
+	/**
+	 * 返回公式的文本，例如"SUM(A1:A3)"
+	 */
+	FORMULA,
+
+	/**
+	 * <p>返回文件中保存的公式结果，不会计算公式
+	 * <p>结果按普通的列返回，数字类型的结果同样按日期格式与{@link NumberMode}处理
+	 * <p>流式读取时不会还原公式的文本
+	 */
+	CACHED,
+
+	/**
+	 * <p>使用{@link org.apache.poi.ss.usermodel.FormulaEvaluator}计算公式后返回结果，适用于没有保存公式结果的文件
+	 * <p>每个Workbook只使用一个计算器，计算结果会缓存起来供后面的公式使用
+	 * <p>计算需要完整的Workbook，不会使用流式读取
+	 */
+	EVALUATE
+
+}
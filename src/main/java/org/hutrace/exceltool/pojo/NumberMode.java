@@ -0,0 +1,22 @@
+package org.hutrace.exceltool.pojo;
+
+/**
+ * <p>读取时数字类型（非日期格式）的列的返回方式
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public enum NumberMode {
+
+	/**
+	 * 返回数字的文本，与Excel中显示的一致（不包括数字格式），例如"21"、"0.5"
+	 */
+	TEXT,
+
+	/**
+	 * <p>直接返回数字，不转换成文本
+	 * <p>没有小数部分并且在double的精确范围内的数字返回{@link Long}，其它返回{@link Double}
+	 */
+	TYPED
+
+}
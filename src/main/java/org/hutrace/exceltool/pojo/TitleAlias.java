@@ -1,5 +1,7 @@
 package org.hutrace.exceltool.pojo;
 
+import java.util.Map;
+
 /**
  * <p>Excel标题与Java字段(属性名)
  * <p>在读取的时候，它会使用{@link #title}匹配Excel的标题，使用{@link #alias}作为Map的key、或者是与JavaBean的字段名匹配
@@ -51,4 +53,37 @@ public class TitleAlias {
 		return alias;
 	}
 	
+	/**
+	 * <p>建立Excel标题到别名的索引，读取时使用
+	 * <p>多个{@link TitleAlias}的标题相同时使用第一个
+	 * @param titleAlias 标题别名数组
+	 * @param matching 标题的匹配方式
+	 * @return 键为{@link TitleMatching#key(String)}的索引
+	 */
+	public static Map<String, String> aliases(TitleAlias[] titleAlias, TitleMatching matching) {
+		String[] keys = new String[titleAlias.length];
+		String[] values = new String[titleAlias.length];
+		for(int i = 0; i < titleAlias.length; i++) {
+			keys[i] = titleAlias[i].title;
+			values[i] = titleAlias[i].alias;
+		}
+		return matching.index(keys, values);
+	}
+	
+	/**
+	 * <p>建立别名到Excel标题的索引，写入时使用
+	 * <p>多个{@link TitleAlias}的别名相同时使用第一个
+	 * @param titleAlias 标题别名数组
+	 * @return 别名到标题的索引
+	 */
+	public static Map<String, String> titles(TitleAlias[] titleAlias) {
+		String[] keys = new String[titleAlias.length];
+		String[] values = new String[titleAlias.length];
+		for(int i = 0; i < titleAlias.length; i++) {
+			keys[i] = titleAlias[i].alias;
+			values[i] = titleAlias[i].title;
+		}
+		return TitleMatching.EXACT.index(keys, values);
+	}
+	
 }
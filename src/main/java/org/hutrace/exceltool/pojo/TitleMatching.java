@@ -0,0 +1,53 @@
+package org.hutrace.exceltool.pojo;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>读取时Excel标题的匹配方式
+ * <p>匹配使用预先建立的哈希索引，每个标题只计算一次{@link #key(String)}，不会在每次比较时重新计算
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public enum TitleMatching {
+
+	/**
+	 * 标题必须完全相同
+	 */
+	EXACT,
+
+	/**
+	 * 去掉首尾空白并忽略大小写后相同即可，例如" User Name"与"user name"
+	 */
+	NORMALIZED;
+
+	/**
+	 * 获取标题用于匹配的键
+	 * @param title 标题
+	 * @return 用于匹配的键，title为null时返回null
+	 */
+	public String key(String title) {
+		if(this == EXACT || title == null) {
+			return title;
+		}
+		return title.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * <p>建立标题到值的索引
+	 * <p>多个标题的键相同时使用第一个
+	 * @param titles 标题
+	 * @param values 与titles顺序一致的值
+	 * @return 键为{@link #key(String)}的索引
+	 */
+	public <V> Map<String, V> index(String[] titles, V[] values) {
+		Map<String, V> index = new HashMap<>(titles.length * 4 / 3 + 1);
+		for(int i = 0; i < titles.length; i++) {
+			index.putIfAbsent(key(titles[i]), values[i]);
+		}
+		return index;
+	}
+
+}
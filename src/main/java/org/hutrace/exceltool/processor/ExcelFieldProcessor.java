@@ -0,0 +1,324 @@
+package org.hutrace.exceltool.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.mapper.BeanMapper;
+import org.hutrace.exceltool.mapper.BeanMappers;
+
+/**
+ * <p>{@link ExcelField}的注解处理器
+ * <p>为每个使用了{@link ExcelField}的JavaBean生成一个{@link BeanMapper}实现类，读写时直接调用getter、setter与类型转换方法，不需要反射
+ * <p>此处理器是可选的，没有注册到META-INF/services中，需要在编译JavaBean时显式指定，例如：
+ * <pre>
+ *  javac -processor org.hutrace.exceltool.processor.ExcelFieldProcessor ...
+ * </pre>
+ * 或者在maven-compiler-plugin的annotationProcessors中添加它。没有生成映射的类在读写时使用反射
+ * <p>非静态字段需要同时有public的getter与setter，否则编译失败（使用反射读写这样的字段同样会失败，不会静默地少写一列）；
+ * JavaBean需要是顶层类或者静态内部类，并且不能是private的
+ * <p>读取时的类型转换由{@link org.hutrace.exceltool.converter.Converters}完成，生成的setter调用只做类型强转
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see BeanMappers
+ */
+@SupportedAnnotationTypes("org.hutrace.exceltool.annotation.ExcelField")
+public class ExcelFieldProcessor extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Set<TypeElement> beans = new LinkedHashSet<>();
+		for(Element element : roundEnv.getElementsAnnotatedWith(ExcelField.class)) {
+			if(element.getKind() == ElementKind.FIELD) {
+				beans.add((TypeElement) element.getEnclosingElement());
+			}
+		}
+		for(TypeElement bean : beans) {
+			if(accessible(bean)) {
+				generate(bean);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 生成的类需要能够直接访问JavaBean
+	 */
+	private boolean accessible(TypeElement bean) {
+		for(Element e = bean; e instanceof TypeElement; e = e.getEnclosingElement()) {
+			TypeElement type = (TypeElement) e;
+			if(type.getModifiers().contains(Modifier.PRIVATE)
+					|| (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+					|| type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+				warning(bean, "No Excel mapper generated: the class must be top-level or a non-private static member class");
+				return false;
+			}
+		}
+		if(bean.getKind() != ElementKind.CLASS) {
+			warning(bean, "No Excel mapper generated: only classes are supported");
+			return false;
+		}
+		return true;
+	}
+
+	private void generate(TypeElement bean) {
+		List<Property> properties = new ArrayList<>();
+		boolean complete = true;
+		for(VariableElement field : ElementFilter.fieldsIn(bean.getEnclosedElements())) {
+			if(field.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			Property property = property(bean, field);
+			if(property == null) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Field cannot be mapped to Excel: it needs a public getter and setter", field);
+				complete = false;
+			}else {
+				properties.add(property);
+			}
+		}
+		if(!complete) {
+			return;
+		}
+		String packageName = packageName(bean);
+		String simpleName = binaryName(bean, packageName).replace('$', '_') + BeanMappers.SUFFIX;
+		String beanName = processingEnv.getTypeUtils().erasure(bean.asType()).toString();
+		StringBuilder source = new StringBuilder();
+		if(packageName.length() > 0) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import org.hutrace.exceltool.exception.ExcelReaderException;\n");
+		source.append("import org.hutrace.exceltool.mapper.BeanMapper;\n\n");
+		source.append("/**\n * ").append(beanName).append("的Excel读写映射，由").append(getClass().getSimpleName()).append("生成，请勿修改\n */\n");
+		source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+		source.append("public final class ").append(simpleName).append(" implements BeanMapper<").append(beanName).append("> {\n\n");
+		source.append("\tprivate static final String[] FIELDS = {");
+		for(int i = 0; i < properties.size(); i++) {
+			source.append(i == 0 ? "" : ", ").append(literal(properties.get(i).name));
+		}
+		source.append("};\n\n");
+		source.append("\tprivate static final String[] TITLES = {");
+		for(int i = 0; i < properties.size(); i++) {
+			source.append(i == 0 ? "" : ", ").append(literal(properties.get(i).title));
+		}
+		source.append("};\n\n");
+		source.append("\t@Override\n\tpublic Class<").append(beanName).append("> type() {\n");
+		source.append("\t\treturn ").append(beanName).append(".class;\n\t}\n\n");
+		source.append("\t@Override\n\tpublic ").append(beanName).append(" newInstance() {\n");
+		if(hasDefaultConstructor(bean)) {
+			source.append("\t\treturn new ").append(beanName).append("();\n\t}\n\n");
+		}else {
+			source.append("\t\tthrow new ExcelReaderException(\"").append(beanName).append(" has no public no-arg constructor\");\n\t}\n\n");
+		}
+		source.append("\t@Override\n\tpublic String[] fields() {\n\t\treturn FIELDS.clone();\n\t}\n\n");
+		source.append("\t@Override\n\tpublic String[] titles() {\n\t\treturn TITLES.clone();\n\t}\n\n");
+		source.append("\t@Override\n\tpublic Class<?>[] types() {\n\t\treturn new Class<?>[] {");
+		for(int i = 0; i < properties.size(); i++) {
+			source.append(i == 0 ? "" : ", ").append(processingEnv.getTypeUtils().erasure(properties.get(i).type)).append(".class");
+		}
+		source.append("};\n\t}\n\n");
+		source.append("\t@Override\n\tpublic void set(").append(beanName).append(" bean, int field, Object value) {\n");
+		source.append("\t\tswitch (field) {\n");
+		for(int i = 0; i < properties.size(); i++) {
+			Property property = properties.get(i);
+			source.append("\t\t\tcase ").append(i).append(":\n");
+			source.append("\t\t\t\tbean.").append(property.setter).append("(").append(cast(property.type)).append(");\n");
+			source.append("\t\t\t\tbreak;\n");
+		}
+		source.append("\t\t\tdefault:\n\t\t\t\tthrow new IndexOutOfBoundsException(\"Field: \" + field);\n");
+		source.append("\t\t}\n\t}\n\n");
+		source.append("\t@Override\n\tpublic Object get(").append(beanName).append(" bean, int field) {\n");
+		source.append("\t\tswitch (field) {\n");
+		for(int i = 0; i < properties.size(); i++) {
+			source.append("\t\t\tcase ").append(i).append(":\n");
+			source.append("\t\t\t\treturn bean.").append(properties.get(i).getter).append("();\n");
+		}
+		source.append("\t\t\tdefault:\n\t\t\t\tthrow new IndexOutOfBoundsException(\"Field: \" + field);\n");
+		source.append("\t\t}\n\t}\n\n}\n");
+		String qualifiedName = packageName.length() > 0 ? packageName + "." + simpleName : simpleName;
+		try(Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, bean).openWriter()) {
+			writer.write(source.toString());
+		}catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the Excel mapper: " + e, bean);
+		}
+	}
+
+	/**
+	 * 与运行时的{@link java.beans.PropertyDescriptor}一致，查找字段的getter与setter
+	 */
+	private Property property(TypeElement bean, VariableElement field) {
+		String name = field.getSimpleName().toString();
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		TypeMirror type = field.asType();
+		String getter = null;
+		String setter = null;
+		for(ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(bean))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if(!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+				continue;
+			}
+			String methodName = method.getSimpleName().toString();
+			if(method.getParameters().isEmpty()) {
+				boolean isGetter = methodName.equals("get" + capitalized)
+						|| (methodName.equals("is" + capitalized) && type.getKind() == TypeKind.BOOLEAN);
+				if(isGetter && processingEnv.getTypeUtils().isSameType(method.getReturnType(), type)) {
+					getter = methodName;
+				}
+			}else if(method.getParameters().size() == 1 && methodName.equals("set" + capitalized)) {
+				if(processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), type)) {
+					setter = methodName;
+				}
+			}
+		}
+		if(getter == null || setter == null) {
+			return null;
+		}
+		ExcelField annot = field.getAnnotation(ExcelField.class);
+		return new Property(name, annot == null ? name : annot.title(), getter, setter, type);
+	}
+
+	/**
+	 * <p>生成把读取到的数据强转成字段类型的表达式
+	 * <p>读取时数据已经由{@link org.hutrace.exceltool.converter.Converters}转换成字段的类型（生成的映射总是提供{@link BeanMapper#types()}），
+	 * 不再重复转换；基本类型的字段在值为null时使用默认值
+	 */
+	private String cast(TypeMirror type) {
+		if(type.getKind().isPrimitive()) {
+			PrimitiveType primitive = (PrimitiveType) type;
+			String boxed = processingEnv.getTypeUtils().boxedClass(primitive).getQualifiedName().toString();
+			return "value == null ? " + defaultValue(primitive.getKind()) + " : (" + boxed + ") value";
+		}
+		return "(" + processingEnv.getTypeUtils().erasure(type) + ") value";
+	}
+
+	private static String defaultValue(TypeKind kind) {
+		switch (kind) {
+			case LONG:
+				return "0L";
+			case SHORT:
+				return "(short) 0";
+			case BYTE:
+				return "(byte) 0";
+			case FLOAT:
+				return "0F";
+			case DOUBLE:
+				return "0D";
+			case BOOLEAN:
+				return "false";
+			case CHAR:
+				return "(char) 0";
+			default:
+				return "0";
+		}
+	}
+
+	private boolean hasDefaultConstructor(TypeElement bean) {
+		if(bean.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		for(ExecutableElement constructor : ElementFilter.constructorsIn(bean.getEnclosedElements())) {
+			if(constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String packageName(TypeElement bean) {
+		PackageElement pkg = processingEnv.getElementUtils().getPackageOf(bean);
+		return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+	}
+
+	/**
+	 * 去掉包名的二进制类名，内部类使用"$"分隔，与{@link Class#getName()}一致
+	 */
+	private String binaryName(TypeElement bean, String packageName) {
+		String name = processingEnv.getElementUtils().getBinaryName(bean).toString();
+		return packageName.length() > 0 ? name.substring(packageName.length() + 1) : name;
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for(int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					literal.append("\\\"");
+					break;
+				case '\\':
+					literal.append("\\\\");
+					break;
+				case '\n':
+					literal.append("\\n");
+					break;
+				case '\r':
+					literal.append("\\r");
+					break;
+				case '\t':
+					literal.append("\\t");
+					break;
+				default:
+					if(c < 0x20) {
+						literal.append(String.format("\\u%04x", (int) c));
+					}else {
+						literal.append(c);
+					}
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	private void warning(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+	}
+
+	/**
+	 * 一个需要映射的字段
+	 */
+	private static class Property {
+
+		private final String name;
+		private final String title;
+		private final String getter;
+		private final String setter;
+		private final TypeMirror type;
+
+		private Property(String name, String title, String getter, String setter, TypeMirror type) {
+			this.name = name;
+			this.title = title;
+			this.getter = getter;
+			this.setter = setter;
+			this.type = type;
+		}
+
+	}
+
+}
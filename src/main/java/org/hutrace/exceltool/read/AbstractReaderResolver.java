@@ -1,16 +1,36 @@
 package org.hutrace.exceltool.read;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.usermodel.HSSFCell;
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.xssf.usermodel.XSSFCell;
 import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.pojo.FormulaMode;
+import org.hutrace.exceltool.pojo.NumberMode;
+import org.hutrace.exceltool.pojo.TitleMatching;
+import org.hutrace.exceltool.read.streaming.StreamingCell;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTCell;
 
 /**
  * <p>读取数据解析器的抽象类
  * <p>实现{@link ReaderResolver}接口，但不实现{@link #title(org.apache.poi.ss.usermodel.Row)}和{@link #row(org.apache.poi.ss.usermodel.Row, int)}方法。
  * <p>定义{@link #cell(Cell, int, int)}方法用于解析{@link Cell}的数据
+ * <p>默认将解析后的数据放入集合中，也可以通过{@link Consumer}逐条交给调用者，此时不会保留任何数据
  * @author HuTrace
  * @since 1.8
  * @version 1.0
@@ -23,11 +43,102 @@ public abstract class AbstractReaderResolver<T> implements ReaderResolver {
 		list = new ArrayList<>();
 	}
 	
+	/**
+	 * <p>使用{@link Consumer}接收数据
+	 * <p>每解析完一行就交给consumer，{@link #data()}将返回空集合
+	 * @param consumer 数据的接收者
+	 */
+	public AbstractReaderResolver(Consumer<? super T> consumer) {
+		if(consumer == null) {
+			throw new NullPointerException("The [consumer] cannot be null");
+		}
+		list = Collections.emptyList();
+		this.consumer = consumer;
+	}
+	
+	private static final byte STYLE_UNKNOWN = 0;
+	private static final byte STYLE_DATE = 1;
+	private static final byte STYLE_NOT_DATE = 2;
+	
+	/**
+	 * {@link HSSFCell}的getCellValueRecord方法，poi中不是public方法，无法访问时为null，改为通过样式对象获取下标
+	 */
+	private static final MethodHandle HSSF_RECORD = hssfRecord();
+	
+	/**
+	 * {@link #dateStyles}与{@link #evaluator}所属的Workbook，只在同一个Workbook中有效
+	 */
+	private Workbook workbook;
+	
+	/**
+	 * 样式下标是否为日期格式的缓存
+	 */
+	private byte[] dateStyles;
+	
+	/**
+	 * {@link FormulaMode#EVALUATE}时使用的公式计算器
+	 */
+	private FormulaEvaluator evaluator;
+	
 	/**
 	 * 数据集合，最终读取的数据。
 	 */
 	private List<T> list;
 	
+	/**
+	 * 数据的接收者，为null时数据放入{@link #list}
+	 */
+	private Consumer<? super T> consumer;
+	
+	/**
+	 * 标题的匹配方式，默认为{@link TitleMatching#EXACT}
+	 */
+	protected TitleMatching matching = TitleMatching.EXACT;
+	
+	@Override
+	public void matching(TitleMatching matching) {
+		if(matching == null) {
+			throw new NullPointerException("The [matching] cannot be null");
+		}
+		this.matching = matching;
+	}
+	
+	/**
+	 * 数字类型的列的返回方式，默认为{@link NumberMode#TEXT}
+	 */
+	protected NumberMode numbers = NumberMode.TEXT;
+	
+	@Override
+	public void numbers(NumberMode numbers) {
+		if(numbers == null) {
+			throw new NullPointerException("The [numbers] cannot be null");
+		}
+		this.numbers = numbers;
+	}
+	
+	/**
+	 * 公式类型的列的返回方式，默认为{@link FormulaMode#FORMULA}
+	 */
+	protected FormulaMode formulas = FormulaMode.FORMULA;
+	
+	@Override
+	public void formulas(FormulaMode formulas) {
+		if(formulas == null) {
+			throw new NullPointerException("The [formulas] cannot be null");
+		}
+		this.formulas = formulas;
+	}
+	
+	/**
+	 * 字符串去重表，为null时不去重
+	 */
+	protected StringPool strings;
+	
+	@Override
+	public void strings(StringPool strings) {
+		this.strings = strings;
+	}
+	
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<T> data() {
@@ -35,28 +146,45 @@ public abstract class AbstractReaderResolver<T> implements ReaderResolver {
 	}
 	
 	/**
-	 * 集合里面添加数据对象
+	 * 集合里面添加数据对象，设置了{@link Consumer}时直接交给它
 	 * @param obj
 	 */
 	public void add(T obj) {
-		list.add(obj);
+		if(consumer != null) {
+			consumer.accept(obj);
+		}else {
+			list.add(obj);
+		}
 	}
 
 	/**
 	 * <p>获取cell的数据
 	 * <p>debug方法
-	 * <p>通过{@link Cell#getCellType()}来判断取值类型
+	 * <p>通过{@link Cell#getCellType()}来判断取值类型，数字类型按{@link #numbers}返回，公式类型按{@link #formulas}返回，字符串使用{@link #strings}去重
 	 * @param cell 列对象
 	 * @param rowIndex 列对象
 	 * @param cellIndex 列对象
 	 * @return 一行中某一列的数据
 	 */
 	public Object cell(Cell cell, int rowIndex, int cellIndex) {
+		return cell(cell, rowIndex, cellIndex, numbers);
+	}
+	
+	/**
+	 * <p>获取cell的数据
+	 * <p>通过{@link Cell#getCellType()}来判断取值类型
+	 * @param cell 列对象
+	 * @param rowIndex 行下标
+	 * @param cellIndex 列下标
+	 * @param numbers 数字类型的列的返回方式
+	 * @return 一行中某一列的数据
+	 */
+	protected Object cell(Cell cell, int rowIndex, int cellIndex, NumberMode numbers) {
 		if(cell == null) {
 			return "";
 		}
 		try {
-			return cell(cell);
+			return cell(cell, numbers);
 		}catch (Exception e) {
 			throw new ExcelReaderException("Read data failed, row " + rowIndex + ", column " + cellIndex, e);
 		}
@@ -66,23 +194,31 @@ public abstract class AbstractReaderResolver<T> implements ReaderResolver {
 	 * <p>获取cell的数据
 	 * <p>通过{@link Cell#getCellType()}来判断取值类型
 	 * @param cell 列对象
+	 * @param numbers 数字类型的列的返回方式
 	 * @return 一行中某一列的数据
 	 */
-	private Object cell(Cell cell) {
+	private Object cell(Cell cell, NumberMode numbers) {
 		switch (cell.getCellType()) {
 			case Cell.CELL_TYPE_BLANK:
 				return "";
 			case Cell.CELL_TYPE_NUMERIC:
-				if(DateUtil.isCellDateFormatted(cell)) {
+				if(isDateFormatted(cell)) {
 					return cell.getDateCellValue();
+				}else if(numbers == NumberMode.TYPED) {
+					return number(cell);
 				}else {
-					cell.setCellType(Cell.CELL_TYPE_STRING);
-					return cell.getStringCellValue();
+					return numberText(cell);
 				}
 			case Cell.CELL_TYPE_STRING:
-				return cell.getStringCellValue();
+				return string(cell.getStringCellValue());
 			case Cell.CELL_TYPE_FORMULA:
-				return cell.getCellFormula();
+				if(formulas == FormulaMode.FORMULA) {
+					return cell.getCellFormula();
+				}
+				if(formulas == FormulaMode.EVALUATE && !(cell instanceof StreamingCell)) {
+					evaluator(cell).evaluateFormulaCell(cell);
+				}
+				return cached(cell, numbers);
 			case Cell.CELL_TYPE_BOOLEAN:
 				return cell.getBooleanCellValue();
 			case Cell.CELL_TYPE_ERROR:
@@ -90,5 +226,161 @@ public abstract class AbstractReaderResolver<T> implements ReaderResolver {
 				return "";
 		}
 	}
+	
+	/**
+	 * <p>获取公式类型的cell保存的结果
+	 * <p>结果按普通的列处理，错误结果返回空字符串
+	 * @param cell 列对象
+	 * @param numbers 数字类型的结果的返回方式
+	 * @return 公式的结果
+	 */
+	private Object cached(Cell cell, NumberMode numbers) {
+		switch (cell.getCachedFormulaResultType()) {
+			case Cell.CELL_TYPE_NUMERIC:
+				if(isDateFormatted(cell)) {
+					return cell.getDateCellValue();
+				}else if(numbers == NumberMode.TYPED) {
+					return number(cell);
+				}else {
+					return numberText(cell);
+				}
+			case Cell.CELL_TYPE_STRING:
+				return string(cell.getStringCellValue());
+			case Cell.CELL_TYPE_BOOLEAN:
+				return cell.getBooleanCellValue();
+			default:
+				return "";
+		}
+	}
+	
+	/**
+	 * <p>获取数字类型的cell的文本
+	 * <p>一般把cell转换为字符串类型后读取；公式的结果、需要计算公式时不修改cell，
+	 * 避免删除公式或让后面的公式读取到字符串，公式的结果在流式读取与非流式读取时格式一致
+	 * @param cell 列对象
+	 * @return 数字的文本
+	 */
+	private String numberText(Cell cell) {
+		if(cell.getCellType() != Cell.CELL_TYPE_FORMULA && (cell instanceof StreamingCell || formulas != FormulaMode.EVALUATE)) {
+			cell.setCellType(Cell.CELL_TYPE_STRING);
+			return string(cell.getStringCellValue());
+		}
+		return string(NumberToTextConverter.toText(cell.getNumericCellValue()));
+	}
+	
+	/**
+	 * 获取cell所属Workbook的公式计算器，每个Workbook只创建一个，计算结果的缓存在所有的cell之间共用
+	 * @param cell 列对象
+	 * @return 公式计算器
+	 */
+	private FormulaEvaluator evaluator(Cell cell) {
+		workbook(cell);
+		if(evaluator == null) {
+			evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+		}
+		return evaluator;
+	}
+	
+	/**
+	 * 切换到cell所属的Workbook，Workbook不同时清空样式缓存与公式计算器
+	 * @param cell 列对象
+	 */
+	private void workbook(Cell cell) {
+		Workbook workbook = cell.getSheet().getWorkbook();
+		if(workbook != this.workbook) {
+			this.workbook = workbook;
+			this.dateStyles = new byte[workbook.getNumCellStyles()];
+			this.evaluator = null;
+		}
+	}
+	
+	/**
+	 * 使用{@link #strings}对读取到的字符串去重
+	 * @param value 读取到的字符串
+	 * @return 去重后的字符串
+	 */
+	private String string(String value) {
+		return strings == null ? value : strings.intern(value);
+	}
+	
+	/**
+	 * <p>获取数字类型的cell的数字值，不会修改cell的类型
+	 * <p>流式读取时整数直接由原始文本解析，不经过double
+	 * @param cell 列对象
+	 * @return {@link Long}或{@link Double}
+	 * @see NumberMode#TYPED
+	 */
+	private Number number(Cell cell) {
+		if(cell instanceof StreamingCell) {
+			return ((StreamingCell) cell).getNumberValue();
+		}
+		return StreamingCell.numberValue(cell.getNumericCellValue());
+	}
+	
+	/**
+	 * <p>判断数字类型的cell是否为日期格式
+	 * <p>流式读取的{@link StreamingCell}没有样式对象，由它自己根据样式下标判断
+	 * <p>其它cell的判断结果按样式下标缓存在{@link #dateStyles}中，与{@link DateUtil#isCellDateFormatted(Cell)}一致，
+	 * 每个样式只读取一次数字格式，之后只需要一次数组查找
+	 * @param cell 列对象
+	 * @return 是否为日期格式
+	 */
+	private boolean isDateFormatted(Cell cell) {
+		if(cell instanceof StreamingCell) {
+			return ((StreamingCell) cell).isDateFormatted();
+		}
+		if(!DateUtil.isValidExcelDate(cell.getNumericCellValue())) {
+			return false;
+		}
+		int style = styleIndex(cell);
+		if(style < 0) {
+			return false;
+		}
+		workbook(cell);
+		if(style >= dateStyles.length) {
+			dateStyles = Arrays.copyOf(dateStyles, Math.max(dateStyles.length << 1, style + 1));
+		}
+		byte state = dateStyles[style];
+		if(state == STYLE_UNKNOWN) {
+			CellStyle cellStyle = cell.getCellStyle();
+			state = cellStyle != null && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString())
+					? STYLE_DATE : STYLE_NOT_DATE;
+			dateStyles[style] = state;
+		}
+		return state == STYLE_DATE;
+	}
+	
+	private static MethodHandle hssfRecord() {
+		try {
+			Method method = HSSFCell.class.getDeclaredMethod("getCellValueRecord");
+			method.setAccessible(true);
+			return MethodHandles.lookup().unreflect(method)
+					.asType(MethodType.methodType(CellValueRecordInterface.class, HSSFCell.class));
+		}catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * 获取cell的样式下标，xls与xlsx都直接读取记录中的样式下标，不创建样式对象
+	 * @param cell 列对象
+	 * @return 样式下标，没有样式时返回-1
+	 */
+	private static int styleIndex(Cell cell) {
+		if(cell instanceof XSSFCell) {
+			CTCell ct = ((XSSFCell) cell).getCTCell();
+			return ct.isSetS() ? (int) ct.getS() : 0;
+		}
+		if(cell instanceof HSSFCell && HSSF_RECORD != null) {
+			try {
+				CellValueRecordInterface record = (CellValueRecordInterface) HSSF_RECORD.invokeExact((HSSFCell) cell);
+				return record.getXFIndex() & 0xFFFF;
+			}catch (Throwable e) {
+				throw new ExcelReaderException(e);
+			}
+		}
+		CellStyle style = cell.getCellStyle();
+		return style == null ? -1 : style.getIndex() & 0xFFFF;
+	}
 
 }
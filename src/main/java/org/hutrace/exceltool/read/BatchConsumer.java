@@ -0,0 +1,26 @@
+package org.hutrace.exceltool.read;
+
+import java.util.List;
+
+/**
+ * <p>分批接收数据的接收者
+ * <p>每次接收固定条数（最后一批可能不足）的数据，例如直接作为JDBC的批量插入
+ * <p>chunk对象会被复用，{@link #accept(List, int)}返回后其中的数据将会被清空，需要保留时请复制
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T>
+ * @see BatchResolver
+ */
+@FunctionalInterface
+public interface BatchConsumer<T> {
+	
+	/**
+	 * 接收一批数据
+	 * @param chunk 一批数据
+	 * @param firstRowIndex 这批数据中第一条数据在Excel中的行下标
+	 * @throws Exception 抛出的异常会被包装成{@link org.hutrace.exceltool.exception.ExcelReaderException}并终止读取
+	 */
+	void accept(List<T> chunk, int firstRowIndex) throws Exception;
+	
+}
@@ -0,0 +1,329 @@
+package org.hutrace.exceltool.read;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.pojo.FormulaMode;
+import org.hutrace.exceltool.pojo.NumberMode;
+import org.hutrace.exceltool.pojo.TitleMatching;
+import org.hutrace.exceltool.utils.AsyncTask;
+
+/**
+ * <p>分批交付数据的解析器
+ * <p>包装一个使用{@link Consumer}交出数据的解析器，把解析后的数据按batchSize分批交给{@link BatchConsumer}
+ * <p>被包装的解析器需要按行的顺序为每一行交出一条数据，用于计算每一批数据的第一个行下标
+ * <p>每一批数据使用的集合会被复用，不会为每一批重新创建
+ * <p>maxInFlight为0时在读取线程中同步交付；大于0时在executor中执行一个交付任务按顺序交付，不会自己创建线程，
+ * 最多有maxInFlight批数据已经交出但还没有处理完，超过时读取线程等待，避免读取速度远大于处理速度时数据堆积
+ * <p>读取完毕时{@link #finish()}交付最后一批数据，读取出错时需要调用{@link #abort()}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T>
+ * @see Reader#batch(java.io.InputStream, org.hutrace.exceltool.pojo.ExcelType, Function, int, BatchConsumer)
+ */
+public class BatchResolver<T> implements ReaderResolver {
+	
+	/**
+	 * 交付线程结束的标记
+	 */
+	private static final Chunk<?> END = new Chunk<>(0);
+	
+	/**
+	 * 被包装的数据解析器
+	 */
+	private ReaderResolver resolver;
+	
+	/**
+	 * 数据的接收者
+	 */
+	private BatchConsumer<T> consumer;
+	
+	/**
+	 * 每一批数据的条数
+	 */
+	private int batchSize;
+	
+	/**
+	 * 正在填充的一批数据
+	 */
+	private Chunk<T> current;
+	
+	/**
+	 * 已经交给被包装的解析器、但还没有交出数据的行下标（被包装的解析器可能会延迟交出数据）
+	 */
+	private ArrayDeque<Integer> rowIndexes = new ArrayDeque<>();
+	
+	/**
+	 * 可以复用的空集合，异步交付时使用
+	 */
+	private BlockingQueue<Chunk<T>> free;
+	
+	/**
+	 * 等待交付的数据，异步交付时使用
+	 */
+	private BlockingQueue<Chunk<T>> filled;
+	
+	/**
+	 * 交付任务，同步交付时为null
+	 */
+	private AsyncTask<Void> worker;
+	
+	/**
+	 * 交付线程中{@link BatchConsumer}抛出的异常
+	 */
+	private volatile Throwable error;
+	
+	/**
+	 * 没能正常停止交付任务时为true，交付任务处理完当前这批数据后结束
+	 */
+	private volatile boolean cancelled;
+	
+	/**
+	 * 异步交付时在{@link AsyncTask#commonExecutor()}中执行交付任务
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param maxInFlight 已交出但还没有处理完的最大批数，为0时在读取线程中同步交付
+	 * @param consumer 数据的接收者
+	 */
+	public BatchResolver(Function<Consumer<T>, ReaderResolver> resolver, int batchSize, int maxInFlight, BatchConsumer<? super T> consumer) {
+		this(resolver, batchSize, maxInFlight, AsyncTask.commonExecutor(), consumer);
+	}
+	
+	/**
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param maxInFlight 已交出但还没有处理完的最大批数，为0时在读取线程中同步交付
+	 * @param executor 执行交付任务的线程池，异步交付时一直占用其中的一个线程直到读取结束
+	 * @param consumer 数据的接收者
+	 */
+	@SuppressWarnings("unchecked")
+	public BatchResolver(Function<Consumer<T>, ReaderResolver> resolver, int batchSize, int maxInFlight, Executor executor, BatchConsumer<? super T> consumer) {
+		if(consumer == null) {
+			throw new NullPointerException("The [consumer] cannot be null");
+		}
+		if(executor == null) {
+			throw new NullPointerException("The [executor] cannot be null");
+		}
+		if(batchSize < 1) {
+			throw new IllegalArgumentException("The [batchSize] must be greater than 0");
+		}
+		if(maxInFlight < 0) {
+			throw new IllegalArgumentException("The [maxInFlight] cannot be negative");
+		}
+		this.consumer = (BatchConsumer<T>) consumer;
+		this.batchSize = batchSize;
+		this.resolver = resolver.apply(this::add);
+		current = new Chunk<>(batchSize);
+		if(maxInFlight > 0) {
+			free = new ArrayBlockingQueue<>(maxInFlight + 1);
+			filled = new ArrayBlockingQueue<>(maxInFlight + 1);
+			for(int i = 0; i < maxInFlight; i++) {
+				free.add(new Chunk<>(batchSize));
+			}
+			worker = AsyncTask.submit(() -> {
+				work();
+				return null;
+			}, executor);
+		}
+	}
+	
+	@Override
+	public void title(Row row) {
+		resolver.title(row);
+	}
+	
+	@Override
+	public void matching(TitleMatching matching) {
+		resolver.matching(matching);
+	}
+	
+	@Override
+	public void numbers(NumberMode numbers) {
+		resolver.numbers(numbers);
+	}
+	
+	@Override
+	public void formulas(FormulaMode formulas) {
+		resolver.formulas(formulas);
+	}
+	
+	@Override
+	public void strings(StringPool strings) {
+		resolver.strings(strings);
+	}
+	
+	@Override
+	public boolean[] project(ColumnProjection projection) {
+		return resolver.project(projection);
+	}
+	
+	@Override
+	public void row(Row row, int index) {
+		rowIndexes.add(index);
+		resolver.row(row, index);
+	}
+	
+	/**
+	 * 数据已经交给了{@link BatchConsumer}，不会保留
+	 */
+	@Override
+	public <E> List<E> data() {
+		return Collections.emptyList();
+	}
+	
+	/**
+	 * 接收被包装的解析器解析后的数据，满一批时交付
+	 * @param obj
+	 */
+	private void add(T obj) {
+		Integer rowIndex = rowIndexes.poll();
+		if(current.rows.isEmpty()) {
+			current.firstRowIndex = rowIndex == null ? -1 : rowIndex;
+		}
+		current.rows.add(obj);
+		if(current.rows.size() >= batchSize) {
+			deliver();
+		}
+	}
+	
+	/**
+	 * 交付当前这批数据，并取得下一批使用的集合
+	 */
+	private void deliver() {
+		if(worker == null) {
+			accept(current);
+			current.rows.clear();
+			return;
+		}
+		try {
+			checkError();
+			filled.put(current);
+			current = free.take();
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExcelReaderException("Interrupted while waiting for the batch consumer", e);
+		}
+		checkError();
+	}
+	
+	private void accept(Chunk<T> chunk) {
+		try {
+			consumer.accept(chunk.rows, chunk.firstRowIndex);
+		}catch (ExcelReaderException e) {
+			throw e;
+		}catch (Exception e) {
+			throw new ExcelReaderException("Failed to consume the rows starting at row " + chunk.firstRowIndex, e);
+		}
+	}
+	
+	/**
+	 * 交付任务，按顺序处理每一批数据，出错后不再处理，只回收集合
+	 */
+	@SuppressWarnings("unchecked")
+	private void work() {
+		try {
+			Chunk<T> chunk;
+			while(!cancelled && (chunk = filled.take()) != END) {
+				if(error == null) {
+					try {
+						accept(chunk);
+					}catch (Throwable e) {
+						error = e;
+					}
+				}
+				chunk.rows.clear();
+				free.put(chunk);
+			}
+		}catch (InterruptedException e) {
+			error = e;
+		}
+	}
+	
+	private void checkError() {
+		Throwable e = error;
+		if(e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		}else if(e instanceof Error) {
+			throw (Error) e;
+		}else if(e != null) {
+			throw new ExcelReaderException(e);
+		}
+	}
+	
+	/**
+	 * 读取完毕，交付最后一批数据，并等待所有数据处理完毕
+	 */
+	@Override
+	public void finish() {
+		resolver.finish();
+		if(!current.rows.isEmpty()) {
+			if(worker == null) {
+				deliver();
+			}else {
+				checkError();
+				filled.add(current);
+			}
+		}
+		stop();
+		checkError();
+	}
+	
+	/**
+	 * 读取出错时调用，停止交付任务，未交付的数据将被丢弃
+	 */
+	public void abort() {
+		current.rows.clear();
+		if(error == null) {
+			error = new ExcelReaderException("The reading was aborted");
+		}
+		stop();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void stop() {
+		if(worker == null) {
+			return;
+		}
+		try {
+			filled.put((Chunk<T>) END);
+			worker.get();
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// 结束标记可能没有放入队列，中断也可能被BatchConsumer忽略，交付任务需要自己检查是否已取消
+			cancelled = true;
+			worker.cancel(true);
+			throw new ExcelReaderException("Interrupted while waiting for the batch consumer", e);
+		}catch (ExecutionException e) {
+			// work()不会抛出异常，错误已经记录在error中
+			throw new ExcelReaderException(e.getCause());
+		}finally {
+			worker = null;
+		}
+	}
+	
+	/**
+	 * 一批数据
+	 */
+	private static class Chunk<T> {
+		
+		private List<T> rows;
+		private int firstRowIndex;
+		
+		private Chunk(int batchSize) {
+			rows = new ArrayList<>(batchSize);
+		}
+		
+	}
+	
+}
@@ -0,0 +1,23 @@
+package org.hutrace.exceltool.read;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * <p>可关闭的迭代器
+ * <p>迭代完毕后会自动关闭，提前结束迭代时需要调用{@link #close()}释放读取使用的资源
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T>
+ * @see RowIterator
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+	
+	/**
+	 * 关闭迭代器，释放读取使用的资源，关闭失败时抛出{@link org.hutrace.exceltool.exception.ExcelReaderException}
+	 */
+	@Override
+	void close();
+	
+}
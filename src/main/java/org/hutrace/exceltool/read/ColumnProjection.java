@@ -0,0 +1,80 @@
+package org.hutrace.exceltool.read;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>读取时需要的列
+ * <p>可以使用标题或者列下标指定，读取到标题行后由{@link ReaderResolver#project(ColumnProjection)}转换成每一列是否需要读取
+ * <p>没有选中的列在流式读取时不会被解码（包括共享字符串的查找与公式的还原），解析器也不会转换它们的数据
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Reader#setColumns(String...)
+ * @see Reader#setColumnIndexes(int...)
+ */
+public class ColumnProjection {
+
+	/**
+	 * 需要的标题，为null时使用{@link #indexes}
+	 */
+	private Set<String> titles;
+
+	/**
+	 * 需要的列下标
+	 */
+	private int[] indexes;
+
+	private ColumnProjection() {}
+
+	/**
+	 * 使用标题指定需要的列，Excel中没有的标题会被忽略
+	 * @param titles Excel的标题
+	 * @return {@link ColumnProjection}
+	 */
+	public static ColumnProjection titles(String... titles) {
+		if(titles == null) {
+			throw new NullPointerException("The [titles] cannot be null");
+		}
+		ColumnProjection projection = new ColumnProjection();
+		projection.titles = new HashSet<>(Arrays.asList(titles));
+		return projection;
+	}
+
+	/**
+	 * 使用列下标（从0开始）指定需要的列，超出标题行的列会被忽略
+	 * @param indexes 列下标
+	 * @return {@link ColumnProjection}
+	 */
+	public static ColumnProjection indexes(int... indexes) {
+		if(indexes == null) {
+			throw new NullPointerException("The [indexes] cannot be null");
+		}
+		ColumnProjection projection = new ColumnProjection();
+		projection.indexes = indexes.clone();
+		return projection;
+	}
+
+	/**
+	 * 根据标题行确定每一列是否需要读取
+	 * @param titles 标题行中每一列的标题
+	 * @return 列下标上是否需要读取，长度与titles相同
+	 */
+	public boolean[] select(String[] titles) {
+		boolean[] selected = new boolean[titles.length];
+		if(this.titles != null) {
+			for(int i = 0; i < titles.length; i++) {
+				selected[i] = this.titles.contains(titles[i]);
+			}
+		}else {
+			for(int i = 0; i < indexes.length; i++) {
+				if(indexes[i] >= 0 && indexes[i] < titles.length) {
+					selected[indexes[i]] = true;
+				}
+			}
+		}
+		return selected;
+	}
+
+}
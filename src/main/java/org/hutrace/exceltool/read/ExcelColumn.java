@@ -0,0 +1,435 @@
+package org.hutrace.exceltool.read;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hutrace.exceltool.exception.TypeCastException;
+import org.hutrace.exceltool.pojo.ColumnType;
+
+/**
+ * <p>按列读取时的一列数据
+ * <p>按{@link #type()}把数据保存在基本类型的数组中，不会为每个数据创建对象：
+ * 整数与日期保存在long[]中，小数保存在double[]中，字符串保存为字典编码，布尔值保存为位图
+ * <p>空数据（空白的列）记录在位图中，使用{@link #isNull(int)}判断，此时基本类型的获取方法返回0或false
+ * <p>读取完毕后不可修改，可以在多个线程中使用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see ExcelTable
+ */
+public final class ExcelColumn {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * 标题
+	 */
+	private final String title;
+
+	/**
+	 * 列的数据类型
+	 */
+	private ColumnType type = ColumnType.EMPTY;
+
+	/**
+	 * 行数
+	 */
+	private int size;
+
+	/**
+	 * {@link ColumnType#LONG}的数据，{@link ColumnType#DATE}的毫秒时间戳
+	 */
+	private long[] longs;
+
+	/**
+	 * {@link ColumnType#DOUBLE}的数据
+	 */
+	private double[] doubles;
+
+	/**
+	 * {@link ColumnType#BOOLEAN}的数据，位图
+	 */
+	private long[] bits;
+
+	/**
+	 * {@link ColumnType#STRING}的字典编码
+	 */
+	private int[] codes;
+
+	/**
+	 * 字典，下标为字典编码
+	 */
+	private String[] dictionary;
+
+	/**
+	 * 字典中字符串的个数
+	 */
+	private int dictionarySize;
+
+	/**
+	 * 字符串到字典编码的索引，只在读取时使用
+	 */
+	private Map<String, Integer> encoder;
+
+	/**
+	 * {@link ColumnType#MIXED}的数据
+	 */
+	private Object[] objects;
+
+	/**
+	 * 空数据的位图，没有空数据时为null
+	 */
+	private long[] nulls;
+
+	ExcelColumn(String title) {
+		this.title = title;
+	}
+
+	/**
+	 * 获取标题
+	 * @return 标题
+	 */
+	public String title() {
+		return title;
+	}
+
+	/**
+	 * 获取列的数据类型
+	 * @return 数据类型
+	 */
+	public ColumnType type() {
+		return type;
+	}
+
+	/**
+	 * 获取行数，与{@link ExcelTable#rowCount()}一致
+	 * @return 行数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 判断数据是否为空
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 是否为空
+	 */
+	public boolean isNull(int row) {
+		checkIndex(row);
+		return type == ColumnType.EMPTY || nulls != null && (row >>> 6) < nulls.length && isSet(nulls, row);
+	}
+
+	/**
+	 * <p>获取数据的对象形式
+	 * <p>整数返回{@link Long}，小数返回{@link Double}，日期返回{@link Date}，布尔值返回{@link Boolean}
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回null
+	 */
+	public Object get(int row) {
+		if(isNull(row)) {
+			return null;
+		}
+		switch (type) {
+			case LONG:
+				return longs[row];
+			case DOUBLE:
+				return doubles[row];
+			case STRING:
+				return dictionary[codes[row]];
+			case DATE:
+				return new Date(longs[row]);
+			case BOOLEAN:
+				return isSet(bits, row);
+			case MIXED:
+				return objects[row];
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 获取{@link ColumnType#LONG}的数据，或{@link ColumnType#DATE}的毫秒时间戳
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回0
+	 */
+	public long getLong(int row) {
+		if(type != ColumnType.LONG && type != ColumnType.DATE) {
+			throw cannotCast("long");
+		}
+		return isNull(row) ? 0L : longs[row];
+	}
+
+	/**
+	 * 获取{@link ColumnType#DOUBLE}或{@link ColumnType#LONG}的数据
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回0
+	 */
+	public double getDouble(int row) {
+		if(type == ColumnType.LONG) {
+			return isNull(row) ? 0D : longs[row];
+		}
+		if(type != ColumnType.DOUBLE) {
+			throw cannotCast("double");
+		}
+		return isNull(row) ? 0D : doubles[row];
+	}
+
+	/**
+	 * 获取{@link ColumnType#BOOLEAN}的数据
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回false
+	 */
+	public boolean getBoolean(int row) {
+		if(type != ColumnType.BOOLEAN) {
+			throw cannotCast("boolean");
+		}
+		return !isNull(row) && isSet(bits, row);
+	}
+
+	/**
+	 * 获取{@link ColumnType#DATE}的数据
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回null
+	 */
+	public Date getDate(int row) {
+		if(type != ColumnType.DATE) {
+			throw cannotCast("Date");
+		}
+		return isNull(row) ? null : new Date(longs[row]);
+	}
+
+	/**
+	 * 获取{@link ColumnType#STRING}的数据
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 数据，为空时返回null
+	 */
+	public String getString(int row) {
+		if(type != ColumnType.STRING) {
+			throw cannotCast("String");
+		}
+		return isNull(row) ? null : dictionary[codes[row]];
+	}
+
+	/**
+	 * <p>获取{@link ColumnType#STRING}的字典编码
+	 * <p>相同的字符串编码相同，可以直接使用编码进行分组、计数
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @return 字典编码，即在{@link #dictionary()}中的下标；为空时返回-1
+	 */
+	public int getCode(int row) {
+		if(type != ColumnType.STRING) {
+			throw cannotCast("String");
+		}
+		return isNull(row) ? -1 : codes[row];
+	}
+
+	/**
+	 * 获取{@link ColumnType#STRING}的字典，按第一次出现的顺序排列
+	 * @return 不可修改的字典，其它类型返回空集合
+	 */
+	public List<String> dictionary() {
+		if(dictionary == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(Arrays.asList(dictionary));
+	}
+
+	/**
+	 * 在末尾添加一行数据
+	 * @param value {@link AbstractReaderResolver#cell(org.apache.poi.ss.usermodel.Cell, int, int)}返回的数据，null或空字符串表示空数据
+	 */
+	void add(Object value) {
+		if(value == null || "".equals(value)) {
+			addNull();
+			return;
+		}
+		promote(ColumnType.of(value));
+		int row = size;
+		switch (type) {
+			case LONG:
+				longs = ensure(longs, row);
+				longs[row] = ((Number) value).longValue();
+				break;
+			case DOUBLE:
+				doubles = ensure(doubles, row);
+				doubles[row] = ((Number) value).doubleValue();
+				break;
+			case STRING:
+				codes = ensure(codes, row);
+				codes[row] = encode((String) value);
+				break;
+			case DATE:
+				longs = ensure(longs, row);
+				longs[row] = ((Date) value).getTime();
+				break;
+			case BOOLEAN:
+				bits = ensureBits(bits, row);
+				if((Boolean) value) {
+					set(bits, row);
+				}
+				break;
+			default:
+				objects = ensure(objects, row);
+				objects[row] = value;
+				break;
+		}
+		size++;
+	}
+
+	/**
+	 * 在末尾添加一个空数据
+	 */
+	void addNull() {
+		nulls = ensureBits(nulls, size);
+		set(nulls, size);
+		size++;
+	}
+
+	/**
+	 * 读取完毕，去掉数组多余的容量并释放读取时使用的索引
+	 */
+	void finish() {
+		if(longs != null) {
+			longs = Arrays.copyOf(longs, size);
+		}
+		if(doubles != null) {
+			doubles = Arrays.copyOf(doubles, size);
+		}
+		if(codes != null) {
+			codes = Arrays.copyOf(codes, size);
+			dictionary = Arrays.copyOf(dictionary, dictionarySize);
+		}
+		if(objects != null) {
+			objects = Arrays.copyOf(objects, size);
+		}
+		int words = (size + 63) >>> 6;
+		if(bits != null) {
+			bits = Arrays.copyOf(bits, words);
+		}
+		if(nulls != null) {
+			nulls = Arrays.copyOf(nulls, words);
+		}
+		encoder = null;
+	}
+
+	/**
+	 * <p>根据新数据的类型调整列的类型
+	 * <p>整数列出现小数时转换为小数列，其它类型不一致时转换为{@link ColumnType#MIXED}
+	 * @param kind 新数据的类型
+	 */
+	private void promote(ColumnType kind) {
+		if(type == kind || type == ColumnType.MIXED) {
+			return;
+		}
+		if(type == ColumnType.EMPTY) {
+			type = kind;
+			return;
+		}
+		if(type == ColumnType.DOUBLE && kind == ColumnType.LONG) {
+			return;
+		}
+		if(type == ColumnType.LONG && kind == ColumnType.DOUBLE) {
+			doubles = new double[Math.max(size, INITIAL_CAPACITY)];
+			for(int i = 0, n = Math.min(size, longs.length); i < n; i++) {
+				doubles[i] = longs[i];
+			}
+			longs = null;
+			type = ColumnType.DOUBLE;
+			return;
+		}
+		Object[] boxed = new Object[Math.max(size, INITIAL_CAPACITY)];
+		for(int i = 0; i < size; i++) {
+			boxed[i] = get(i);
+		}
+		longs = null;
+		doubles = null;
+		bits = null;
+		codes = null;
+		dictionary = null;
+		encoder = null;
+		objects = boxed;
+		type = ColumnType.MIXED;
+	}
+
+	/**
+	 * 获取字符串的字典编码，第一次出现时加入字典
+	 */
+	private int encode(String value) {
+		if(encoder == null) {
+			encoder = new HashMap<>();
+			dictionary = new String[INITIAL_CAPACITY];
+		}
+		Integer code = encoder.get(value);
+		if(code == null) {
+			code = dictionarySize;
+			if(dictionarySize == dictionary.length) {
+				dictionary = Arrays.copyOf(dictionary, dictionarySize << 1);
+			}
+			dictionary[dictionarySize++] = value;
+			encoder.put(value, code);
+		}
+		return code;
+	}
+
+	private void checkIndex(int row) {
+		if(row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+		}
+	}
+
+	private TypeCastException cannotCast(String target) {
+		return new TypeCastException("can not cast column [" + title + "] of type " + type + " to " + target);
+	}
+
+	private static boolean isSet(long[] bitmap, int index) {
+		return (bitmap[index >>> 6] & (1L << index)) != 0;
+	}
+
+	private static void set(long[] bitmap, int index) {
+		bitmap[index >>> 6] |= 1L << index;
+	}
+
+	private static long[] ensureBits(long[] bitmap, int index) {
+		int words = (index >>> 6) + 1;
+		if(bitmap == null) {
+			return new long[Math.max(words, INITIAL_CAPACITY)];
+		}
+		if(words > bitmap.length) {
+			return Arrays.copyOf(bitmap, Math.max(words, bitmap.length << 1));
+		}
+		return bitmap;
+	}
+
+	private static long[] ensure(long[] array, int index) {
+		if(array == null) {
+			return new long[Math.max(index + 1, INITIAL_CAPACITY)];
+		}
+		return index < array.length ? array : Arrays.copyOf(array, Math.max(index + 1, array.length << 1));
+	}
+
+	private static double[] ensure(double[] array, int index) {
+		if(array == null) {
+			return new double[Math.max(index + 1, INITIAL_CAPACITY)];
+		}
+		return index < array.length ? array : Arrays.copyOf(array, Math.max(index + 1, array.length << 1));
+	}
+
+	private static int[] ensure(int[] array, int index) {
+		if(array == null) {
+			return new int[Math.max(index + 1, INITIAL_CAPACITY)];
+		}
+		return index < array.length ? array : Arrays.copyOf(array, Math.max(index + 1, array.length << 1));
+	}
+
+	private static Object[] ensure(Object[] array, int index) {
+		if(array == null) {
+			return new Object[Math.max(index + 1, INITIAL_CAPACITY)];
+		}
+		return index < array.length ? array : Arrays.copyOf(array, Math.max(index + 1, array.length << 1));
+	}
+
+}
@@ -0,0 +1,197 @@
+package org.hutrace.exceltool.read;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.read.streaming.WorkbookSource;
+import org.hutrace.exceltool.read.streaming.XlsWorkbookSource;
+import org.hutrace.exceltool.read.streaming.XlsxWorkbookSource;
+
+/**
+ * <p>读取的Excel数据来源
+ * <p>可以是输入流、文件路径或者内存中的数据（byte[]、{@link ByteBuffer}）
+ * <p>文件路径会直接以随机访问的方式打开，只读取需要的部分，不会先复制到内存或临时文件中；
+ * 输入流与内存中的数据在流式读取时会先写入临时文件
+ * <p>此类只描述数据来源，本身不持有任何资源，打开的资源由{@link WorkbookSource}负责释放
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Reader#read(ExcelInput, ReaderResolver)
+ */
+public abstract class ExcelInput {
+	
+	/**
+	 * Excel文件类型
+	 */
+	private ExcelType type;
+	
+	private ExcelInput(ExcelType type) {
+		this.type = type;
+	}
+	
+	/**
+	 * 使用输入流作为数据来源，读取完毕后不会关闭输入流
+	 * @param in 输入流
+	 * @param type Excel文件类型
+	 * @return {@link ExcelInput}
+	 */
+	public static ExcelInput of(InputStream in, ExcelType type) {
+		return new StreamInput(in, type);
+	}
+	
+	/**
+	 * 使用文件作为数据来源，读取完毕后释放文件
+	 * @param path 文件路径
+	 * @param type Excel文件类型
+	 * @return {@link ExcelInput}
+	 */
+	public static ExcelInput of(Path path, ExcelType type) {
+		return new PathInput(path, type);
+	}
+	
+	/**
+	 * 使用内存中的数据作为数据来源
+	 * @param bytes Excel数据
+	 * @param type Excel文件类型
+	 * @return {@link ExcelInput}
+	 */
+	public static ExcelInput of(byte[] bytes, ExcelType type) {
+		return new BufferInput(ByteBuffer.wrap(bytes), type);
+	}
+	
+	/**
+	 * 使用内存中的数据作为数据来源，不会改变buffer的位置
+	 * @param buffer Excel数据，从position到limit
+	 * @param type Excel文件类型
+	 * @return {@link ExcelInput}
+	 */
+	public static ExcelInput of(ByteBuffer buffer, ExcelType type) {
+		return new BufferInput(buffer, type);
+	}
+	
+	/**
+	 * 获取Excel文件类型
+	 * @return Excel文件类型
+	 */
+	public ExcelType getType() {
+		return type;
+	}
+	
+	/**
+	 * 打开流式读取使用的工作簿
+	 * @param spillThreshold xlsx的共享字符串表写入临时文件的阈值
+	 * @return {@link WorkbookSource}
+	 * @throws IOException
+	 */
+	public abstract WorkbookSource openWorkbookSource(long spillThreshold) throws IOException;
+	
+	/**
+	 * 打开输入流，用于构建{@link org.apache.poi.ss.usermodel.Workbook}，使用完毕后需要关闭
+	 * @return 输入流
+	 * @throws IOException
+	 */
+	public abstract InputStream openStream() throws IOException;
+	
+	/**
+	 * 输入流
+	 */
+	private static class StreamInput extends ExcelInput {
+		
+		private InputStream in;
+		
+		private StreamInput(InputStream in, ExcelType type) {
+			super(type);
+			this.in = in;
+		}
+		
+		@Override
+		public WorkbookSource openWorkbookSource(long spillThreshold) throws IOException {
+			if(getType() == ExcelType.XLS) {
+				return new XlsWorkbookSource(in);
+			}else {
+				return new XlsxWorkbookSource(in, spillThreshold);
+			}
+		}
+		
+		/**
+		 * 返回不会关闭原输入流的包装
+		 */
+		@Override
+		public InputStream openStream() {
+			return new FilterInputStream(in) {
+				@Override
+				public void close() {
+				}
+			};
+		}
+		
+	}
+	
+	/**
+	 * 文件路径
+	 */
+	private static class PathInput extends ExcelInput {
+		
+		private Path path;
+		
+		private PathInput(Path path, ExcelType type) {
+			super(type);
+			this.path = path;
+		}
+		
+		@Override
+		public WorkbookSource openWorkbookSource(long spillThreshold) throws IOException {
+			if(getType() == ExcelType.XLS) {
+				return new XlsWorkbookSource(path.toFile());
+			}else {
+				return new XlsxWorkbookSource(path.toFile(), spillThreshold);
+			}
+		}
+		
+		@Override
+		public InputStream openStream() throws IOException {
+			return Files.newInputStream(path);
+		}
+		
+	}
+	
+	/**
+	 * 内存中的数据
+	 */
+	private static class BufferInput extends ExcelInput {
+		
+		private ByteBuffer buffer;
+		
+		private BufferInput(ByteBuffer buffer, ExcelType type) {
+			super(type);
+			this.buffer = buffer;
+		}
+		
+		@Override
+		public WorkbookSource openWorkbookSource(long spillThreshold) throws IOException {
+			if(getType() == ExcelType.XLS) {
+				return new XlsWorkbookSource(buffer);
+			}else {
+				return new XlsxWorkbookSource(buffer, spillThreshold);
+			}
+		}
+		
+		@Override
+		public InputStream openStream() {
+			if(buffer.hasArray()) {
+				return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			}
+			byte[] bytes = new byte[buffer.remaining()];
+			buffer.duplicate().get(bytes);
+			return new ByteArrayInputStream(bytes);
+		}
+		
+	}
+	
+}
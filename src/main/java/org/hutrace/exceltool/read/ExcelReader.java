@@ -0,0 +1,1299 @@
+package org.hutrace.exceltool.read;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.converter.Converters;
+import org.hutrace.exceltool.mapper.BeanMetadata;
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.pojo.FormulaMode;
+import org.hutrace.exceltool.pojo.NumberMode;
+import org.hutrace.exceltool.pojo.TitleAlias;
+import org.hutrace.exceltool.pojo.TitleMatching;
+import org.hutrace.exceltool.read.streaming.RowSource;
+import org.hutrace.exceltool.read.streaming.WorkbookSource;
+import org.hutrace.exceltool.utils.AsyncTask;
+
+/**
+ * <p>不可修改的Excel读取配置，可以在多个线程中共用
+ * <p>使用{@link #builder()}创建，创建后配置不会再改变；每次读取都会创建一个新的{@link Reader}并应用这些配置，
+ * 解析器等读取过程中的状态只属于这一次读取，不同线程之间不会互相影响
+ * <p>JavaBean的映射、类型转换器已经按类缓存（见{@link BeanMetadata}、{@link Converters}），所有读取共用，不会重复解析
+ * <p>{@link Builder#stopWhen(Predicate)}设置的条件会在多个线程中同时调用，需要是线程安全的
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Reader
+ */
+public final class ExcelReader {
+	
+	/**
+	 * 创建{@link Reader}的方法
+	 */
+	private final Supplier<? extends Reader> factory;
+	
+	/**
+	 * 按设置的顺序保存的配置，键为配置的名称
+	 */
+	private final Map<String, Consumer<Reader>> settings;
+	
+	private ExcelReader(Builder builder) {
+		this.factory = builder.factory;
+		this.settings = Collections.unmodifiableMap(new LinkedHashMap<>(builder.settings));
+	}
+	
+	/**
+	 * 创建使用{@link Reader}读取的Builder
+	 * @return {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder(Reader::new);
+	}
+	
+	/**
+	 * <p>创建使用自定义的{@link Reader}读取的Builder
+	 * <p>扩展了{@link Reader}时使用，factory每次需要返回一个新的对象
+	 * @param factory 创建{@link Reader}的方法
+	 * @return {@link Builder}
+	 */
+	public static Builder builder(Supplier<? extends Reader> factory) {
+		if(factory == null) {
+			throw new NullPointerException("The [factory] cannot be null");
+		}
+		return new Builder(factory);
+	}
+	
+	/**
+	 * 创建包含当前所有配置的Builder，用于在当前配置的基础上创建新的配置
+	 * @return {@link Builder}
+	 */
+	public Builder toBuilder() {
+		Builder builder = new Builder(factory);
+		settings.forEach(builder::set);
+		return builder;
+	}
+	
+	/**
+	 * <p>创建一个新的{@link Reader}并应用所有的配置
+	 * <p>返回的对象只属于调用者，修改它不会影响当前的配置
+	 * @return {@link Reader}
+	 */
+	public Reader newReader() {
+		Reader reader = factory.get();
+		for(Consumer<Reader> setting : settings.values()) {
+			setting.accept(reader);
+		}
+		return reader;
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(String)
+	 */
+	public List<Map<String, Object>> toMap(String realPath) throws IOException {
+		return newReader().toMap(realPath);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType)
+	 */
+	public List<Map<String, Object>> toMap(InputStream in, ExcelType type) throws IOException {
+		return newReader().toMap(in, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link Reader#titleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class)
+	 */
+	public <T> List<T> toJavaBean(String realPath, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class)
+	 */
+	public <T> List<T> toJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(in, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path)
+	 */
+	public List<Map<String, Object>> toMap(Path path) throws IOException {
+		return newReader().toMap(path);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType)
+	 */
+	public List<Map<String, Object>> toMap(byte[] bytes, ExcelType type) throws IOException {
+		return newReader().toMap(bytes, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType)
+	 */
+	public List<Map<String, Object>> toMap(ByteBuffer buffer, ExcelType type) throws IOException {
+		return newReader().toMap(buffer, type);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param input Excel数据来源
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ExcelInput)
+	 */
+	public List<Map<String, Object>> toMap(ExcelInput input) throws IOException {
+		return newReader().toMap(input);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(Path, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(Path path, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(path, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(byte[], ExcelType, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(byte[] bytes, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(bytes, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ByteBuffer, ExcelType, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(ByteBuffer buffer, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(buffer, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param input Excel数据来源
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see Reader#toMap(ExcelInput, TitleAlias[])
+	 */
+	public List<Map<String, Object>> toMap(ExcelInput input, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMap(input, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(Path, Class)
+	 */
+	public <T> List<T> toJavaBean(Path path, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(path, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(byte[], ExcelType, Class)
+	 */
+	public <T> List<T> toJavaBean(byte[] bytes, ExcelType type, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(bytes, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(ByteBuffer, ExcelType, Class)
+	 */
+	public <T> List<T> toJavaBean(ByteBuffer buffer, ExcelType type, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(buffer, type, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param input Excel数据来源
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see Reader#toJavaBean(ExcelInput, Class)
+	 */
+	public <T> List<T> toJavaBean(ExcelInput input, Class<T> clazs) throws IOException {
+		return newReader().toJavaBean(input, clazs);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(String)
+	 */
+	public ExcelTable toTable(String realPath) throws IOException {
+		return newReader().toTable(realPath);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(InputStream, ExcelType)
+	 */
+	public ExcelTable toTable(InputStream in, ExcelType type) throws IOException {
+		return newReader().toTable(in, type);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(Path)
+	 */
+	public ExcelTable toTable(Path path) throws IOException {
+		return newReader().toTable(path);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(byte[], ExcelType)
+	 */
+	public ExcelTable toTable(byte[] bytes, ExcelType type) throws IOException {
+		return newReader().toTable(bytes, type);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(ByteBuffer, ExcelType)
+	 */
+	public ExcelTable toTable(ByteBuffer buffer, ExcelType type) throws IOException {
+		return newReader().toTable(buffer, type);
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param input Excel数据来源
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see Reader#toTable(ExcelInput)
+	 */
+	public ExcelTable toTable(ExcelInput input) throws IOException {
+		return newReader().toTable(input);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, Consumer)
+	 */
+	public void toMap(String realPath, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(realPath, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, Consumer)
+	 */
+	public void toMap(InputStream in, ExcelType type, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(in, type, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], Consumer)
+	 */
+	public void toMap(String realPath, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(realPath, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], Consumer)
+	 */
+	public void toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(in, type, titleAlias, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, Consumer)
+	 */
+	public <T> void toJavaBean(String realPath, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		newReader().toJavaBean(realPath, clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, Consumer)
+	 */
+	public <T> void toJavaBean(InputStream in, ExcelType type, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		newReader().toJavaBean(in, type, clazs, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, int, BatchConsumer)
+	 */
+	public void toMap(String realPath, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(realPath, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, int, BatchConsumer)
+	 */
+	public void toMap(InputStream in, ExcelType type, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(in, type, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(String, TitleAlias[], int, BatchConsumer)
+	 */
+	public void toMap(String realPath, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(realPath, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toMap(InputStream, ExcelType, TitleAlias[], int, BatchConsumer)
+	 */
+	public void toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		newReader().toMap(in, type, titleAlias, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(String, Class, int, BatchConsumer)
+	 */
+	public <T> void toJavaBean(String realPath, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		newReader().toJavaBean(realPath, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#toJavaBean(InputStream, ExcelType, Class, int, BatchConsumer)
+	 */
+	public <T> void toJavaBean(InputStream in, ExcelType type, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		newReader().toJavaBean(in, type, clazs, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取输入流中的数据
+	 * <p>使用{@link BatchResolver}包装数据解析器，每一批使用的集合会被复用
+	 * <p>可以使用{@link Reader#setMaxBatchesInFlight(int)}设置是否在单独的线程中交付
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#batch(InputStream, ExcelType, Function, int, BatchConsumer)
+	 */
+	public <T> void batch(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		newReader().batch(in, type, resolver, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据
+	 * <p>使用{@link BatchResolver}包装数据解析器，每一批使用的集合会被复用
+	 * <p>可以使用{@link Reader#setMaxBatchesInFlight(int)}设置是否在单独的线程中交付
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see Reader#batch(ExcelInput, Function, int, BatchConsumer)
+	 */
+	public <T> void batch(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		newReader().batch(input, resolver, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String)
+	 */
+	public Stream<Map<String, Object>> streamMap(String realPath) throws IOException {
+		return newReader().streamMap(realPath);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType)
+	 */
+	public Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type) throws IOException {
+		return newReader().streamMap(in, type);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(String, TitleAlias[])
+	 */
+	public Stream<Map<String, Object>> streamMap(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return newReader().streamMap(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamMap(InputStream, ExcelType, TitleAlias[])
+	 */
+	public Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return newReader().streamMap(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(String, Class)
+	 */
+	public <T> Stream<T> streamJavaBean(String realPath, Class<T> clazs) throws IOException {
+		return newReader().streamJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#streamJavaBean(InputStream, ExcelType, Class)
+	 */
+	public <T> Stream<T> streamJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return newReader().streamJavaBean(in, type, clazs);
+	}
+	
+	/**
+	 * <p>按需读取输入流中的数据
+	 * <p>将{@link Reader#iterator(InputStream, ExcelType, Function)}包装成顺序的{@link Stream}，关闭Stream时关闭迭代器
+	 * @param in 输入流，Stream关闭时一起关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#stream(InputStream, ExcelType, Function)
+	 */
+	public <T> Stream<T> stream(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return newReader().stream(in, type, resolver);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据
+	 * <p>将{@link Reader#iterator(ExcelInput, Function)}包装成顺序的{@link Stream}，关闭Stream时关闭迭代器
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return Stream
+	 * @throws IOException
+	 * @see Reader#stream(ExcelInput, Function)
+	 */
+	public <T> Stream<T> stream(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return newReader().stream(input, resolver);
+	}
+	
+	/**
+	 * <p>按需读取输入流中的数据
+	 * <p>只有在调用{@link CloseableIterator#hasNext()}时才会读取并解析下一行，提前结束时需要调用{@link CloseableIterator#close()}
+	 * <p>不使用流式读取时，会先构建{@link Workbook}，再按行解析
+	 * @param in 输入流，迭代器关闭时一起关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return {@link CloseableIterator}
+	 * @throws IOException
+	 * @see Reader#iterator(InputStream, ExcelType, Function)
+	 */
+	public <T> CloseableIterator<T> iterator(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return newReader().iterator(in, type, resolver);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据
+	 * <p>只有在调用{@link CloseableIterator#hasNext()}时才会读取并解析下一行，提前结束时需要调用{@link CloseableIterator#close()}
+	 * <p>不使用流式读取时，会先构建{@link Workbook}，再按行解析
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return {@link CloseableIterator}
+	 * @throws IOException
+	 * @see Reader#iterator(ExcelInput, Function)
+	 */
+	public <T> CloseableIterator<T> iterator(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return newReader().iterator(input, resolver);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishMap(String)
+	 */
+	public RowPublisher<Map<String, Object>> publishMap(String realPath) {
+		return newReader().publishMap(realPath);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishMap(InputStream, ExcelType)
+	 */
+	public RowPublisher<Map<String, Object>> publishMap(InputStream in, ExcelType type) {
+		return newReader().publishMap(in, type);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishJavaBean(String, Class)
+	 */
+	public <T> RowPublisher<T> publishJavaBean(String realPath, Class<T> clazs) {
+		return newReader().publishJavaBean(realPath, clazs);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see Reader#publishJavaBean(InputStream, ExcelType, Class)
+	 */
+	public <T> RowPublisher<T> publishJavaBean(InputStream in, ExcelType type, Class<T> clazs) {
+		return newReader().publishJavaBean(in, type, clazs);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取输入流中的数据
+	 * <p>把{@link Reader#iterator(InputStream, ExcelType, Function)}包装成{@link RowPublisher}，请求了数据时才在executor中读取下一行
+	 * @param in 输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param executor 读取与发布数据的线程池
+	 * @return {@link RowPublisher}
+	 * @see Reader#publisher(InputStream, ExcelType, Function, Executor)
+	 */
+	public <T> RowPublisher<T> publisher(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver, Executor executor) {
+		return newReader().publisher(in, type, resolver, executor);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据
+	 * <p>把{@link Reader#iterator(ExcelInput, Function)}包装成{@link RowPublisher}，请求了数据时才在executor中读取下一行
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param executor 读取与发布数据的线程池
+	 * @return {@link RowPublisher}
+	 * @see Reader#publisher(ExcelInput, Function, Executor)
+	 */
+	public <T> RowPublisher<T> publisher(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver, Executor executor) {
+		return newReader().publisher(input, resolver, executor);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(String)
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(String realPath) throws IOException {
+		return newReader().toMapAllSheets(realPath);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(InputStream, ExcelType)
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(InputStream in, ExcelType type) throws IOException {
+		return newReader().toMapAllSheets(in, type);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(String, TitleAlias[])
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMapAllSheets(realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toMapAllSheets(InputStream, ExcelType, TitleAlias[])
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return newReader().toMapAllSheets(in, type, titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toJavaBeanAllSheets(String, Class)
+	 */
+	public <T> Map<String, List<T>> toJavaBeanAllSheets(String realPath, Class<T> clazs) throws IOException {
+		return newReader().toJavaBeanAllSheets(realPath, clazs);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#toJavaBeanAllSheets(InputStream, ExcelType, Class)
+	 */
+	public <T> Map<String, List<T>> toJavaBeanAllSheets(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return newReader().toJavaBeanAllSheets(in, type, clazs);
+	}
+	
+	/**
+	 * <p>读取输入流中所有sheet的数据
+	 * <p>流式读取时Excel文件只打开一次，共享字符串表与样式由所有sheet共用，
+	 * 每个sheet使用一个新的数据解析器，最多同时读取{@link Reader#setParallelism(int)}个sheet
+	 * <p>否则构建{@link Workbook}后在调用线程中逐个读取
+	 * <p>没有数据的sheet对应的数据为空集合
+	 * <p>同时读取多个sheet时使用{@link AsyncTask#commonExecutor()}
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#readAllSheets(InputStream, ExcelType, Supplier)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(InputStream in, ExcelType type, Supplier<? extends ReaderResolver> resolver) throws IOException {
+		return newReader().readAllSheets(in, type, resolver);
+	}
+	
+	/**
+	 * <p>读取输入流中所有sheet的数据
+	 * <p>同时读取多个sheet时使用executor，最多同时占用{@link Reader#setParallelism(int)}个线程
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @param executor 同时读取多个sheet时使用的线程池
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#readAllSheets(InputStream, ExcelType, Supplier, Executor)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(InputStream in, ExcelType type, Supplier<? extends ReaderResolver> resolver, Executor executor) throws IOException {
+		return newReader().readAllSheets(in, type, resolver, executor);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * @param input Excel数据来源
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#readAllSheets(ExcelInput, Supplier)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(ExcelInput input, Supplier<? extends ReaderResolver> resolver) throws IOException {
+		return newReader().readAllSheets(input, resolver);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * @param input Excel数据来源
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @param executor 同时读取多个sheet时使用的线程池
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see Reader#readAllSheets(ExcelInput, Supplier, Executor)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(ExcelInput input, Supplier<? extends ReaderResolver> resolver, Executor executor) throws IOException {
+		return newReader().readAllSheets(input, resolver, executor);
+	}
+	
+	/**
+	 * <p>读取输入流中的数据
+	 * <p>流式读取时使用输入流构造{@link RowSource}，逐行读取
+	 * <p>否则使用输入流构造{@link Workbook}，并取得需要获取数据的{@link Sheet}
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 * @see Reader#read(InputStream, ExcelType, ReaderResolver)
+	 */
+	public void read(InputStream in, ExcelType type, ReaderResolver resolver) throws IOException {
+		newReader().read(in, type, resolver);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>流式读取时使用{@link WorkbookSource}打开需要读取的sheet，逐行读取，读取完毕后释放打开的文件
+	 * <p>否则构造{@link Workbook}，并取得需要获取数据的{@link Sheet}
+	 * @param input Excel数据来源
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 * @see Reader#read(ExcelInput, ReaderResolver)
+	 */
+	public void read(ExcelInput input, ReaderResolver resolver) throws IOException {
+		newReader().read(input, resolver);
+	}
+	
+	/**
+	 * <p>{@link ExcelReader}的构造器
+	 * <p>设置的值会立即检查，与{@link Reader}的set方法抛出相同的异常；同一个配置设置多次时使用最后一次的值
+	 * <p>Builder不能在多个线程中同时使用
+	 */
+	public static final class Builder {
+		
+		/**
+		 * 创建{@link Reader}的方法
+		 */
+		private final Supplier<? extends Reader> factory;
+		
+		/**
+		 * 用于检查设置的值
+		 */
+		private final Reader validator;
+		
+		/**
+		 * 按设置的顺序保存的配置
+		 */
+		private final Map<String, Consumer<Reader>> settings = new LinkedHashMap<>();
+		
+		private Builder(Supplier<? extends Reader> factory) {
+			this.factory = factory;
+			this.validator = new Reader();
+		}
+		
+		private Builder set(String name, Consumer<Reader> setting) {
+			setting.accept(validator);
+			settings.remove(name);
+			settings.put(name, setting);
+			return this;
+		}
+		
+		/**
+		 * 设置读取Excel的sheet的名称
+		 * @param sheetName 读取Excel的sheet的名称
+		 * @return 当前的Builder
+		 * @see Reader#setSheetName(String)
+		 */
+		public Builder sheetName(String sheetName) {
+			return set("sheetName", target -> target.setSheetName(sheetName));
+		}
+		
+		/**
+		 * <p>设置是否使用流式读取，默认为true
+		 * <p>流式读取不会构建{@link Workbook}，传给{@link ReaderResolver}的{@link Row}是只读且复用的，并且没有样式对象
+		 * <p>如果自定义的{@link ReaderResolver}需要完整的{@link Row}对象，可以设置为false
+		 * @param streaming 是否使用流式读取
+		 * @return 当前的Builder
+		 * @see Reader#setStreaming(boolean)
+		 */
+		public Builder streaming(boolean streaming) {
+			return set("streaming", target -> target.setStreaming(streaming));
+		}
+		
+		/**
+		 * <p>设置xlsx的共享字符串表写入临时文件的阈值（字节数），默认为0
+		 * <p>共享字符串表以UTF-8字节的形式保存，超过此大小后写入临时文件并使用内存映射读取，为0时全部保存在内存中
+		 * @param spillThreshold 写入临时文件的阈值
+		 * @return 当前的Builder
+		 * @see Reader#setSpillThreshold(long)
+		 */
+		public Builder spillThreshold(long spillThreshold) {
+			return set("spillThreshold", target -> target.setSpillThreshold(spillThreshold));
+		}
+		
+		/**
+		 * <p>设置读取JavaBean时类型转换使用的线程数，默认为0
+		 * <p>为0时在读取线程中转换；大于0时读取线程只读取列的数据，转换交给线程池，结果仍然按行的顺序返回
+		 * @param convertThreads 类型转换使用的线程数
+		 * @return 当前的Builder
+		 * @see Reader#setConvertThreads(int)
+		 */
+		public Builder convertThreads(int convertThreads) {
+			return set("convertThreads", target -> target.setConvertThreads(convertThreads));
+		}
+		
+		/**
+		 * <p>设置读取JavaBean时类型转换使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+		 * <p>只在{@link #convertThreads(int)}大于0时使用，所有读取共用这个线程池
+		 * @param convertExecutor 类型转换使用的线程池
+		 * @return 当前的Builder
+		 * @see Reader#setConvertExecutor(Executor)
+		 */
+		public Builder convertExecutor(Executor convertExecutor) {
+			return set("convertExecutor", target -> target.setConvertExecutor(convertExecutor));
+		}
+		
+		/**
+		 * <p>设置读取所有sheet时同时读取的sheet数，默认为CPU核数
+		 * <p>为1时在调用线程中逐个读取
+		 * @param parallelism 同时读取的sheet数
+		 * @return 当前的Builder
+		 * @see Reader#setParallelism(int)
+		 */
+		public Builder parallelism(int parallelism) {
+			return set("parallelism", target -> target.setParallelism(parallelism));
+		}
+		
+		/**
+		 * <p>设置分批读取时已交出但还没有处理完的最大批数，默认为0
+		 * <p>为0时在读取线程中同步交付每一批数据（例如需要使用读取线程的事务时）
+		 * <p>大于0时在{@link #batchExecutor(Executor)}中按顺序交付，读取与处理可以同时进行，超过此数量时读取线程等待
+		 * @param maxBatchesInFlight 已交出但还没有处理完的最大批数
+		 * @return 当前的Builder
+		 * @see Reader#setMaxBatchesInFlight(int)
+		 */
+		public Builder maxBatchesInFlight(int maxBatchesInFlight) {
+			return set("maxBatchesInFlight", target -> target.setMaxBatchesInFlight(maxBatchesInFlight));
+		}
+		
+		/**
+		 * <p>设置分批读取时交付数据使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+		 * <p>只在{@link #maxBatchesInFlight(int)}大于0时使用
+		 * @param batchExecutor 交付数据使用的线程池
+		 * @return 当前的Builder
+		 * @see Reader#setBatchExecutor(Executor)
+		 */
+		public Builder batchExecutor(Executor batchExecutor) {
+			return set("batchExecutor", target -> target.setBatchExecutor(batchExecutor));
+		}
+		
+		/**
+		 * <p>使用标题设置需要读取的列，默认读取所有列
+		 * <p>没有指定的列在流式读取时不会被解码，Map中也不会有它的键；读取JavaBean时本来就只读取有对应字段的列
+		 * @param titles Excel的标题，为null时读取所有列
+		 * @return 当前的Builder
+		 * @see Reader#setColumns(String...)
+		 */
+		public Builder columns(String... titles) {
+			String[] copy = titles == null ? null : titles.clone();
+			return set("columns", target -> target.setColumns(copy));
+		}
+		
+		/**
+		 * <p>使用列下标（从0开始）设置需要读取的列，默认读取所有列
+		 * @param indexes 列下标，为null时读取所有列
+		 * @return 当前的Builder
+		 * @see Reader#setColumnIndexes(int...)
+		 */
+		public Builder columnIndexes(int... indexes) {
+			int[] copy = indexes == null ? null : indexes.clone();
+			return set("columns", target -> target.setColumnIndexes(copy));
+		}
+		
+		/**
+		 * <p>设置Excel标题与{@link TitleAlias}的标题、JavaBean的字段标题的匹配方式，默认为{@link TitleMatching#EXACT}
+		 * <p>{@link TitleMatching#NORMALIZED}时去掉首尾空白并忽略大小写，适用于人工编辑、标题格式不统一的Excel
+		 * <p>{@link Reader#setColumns(String...)}指定的标题仍然需要完全相同
+		 * @param titleMatching 标题的匹配方式
+		 * @return 当前的Builder
+		 * @see Reader#setTitleMatching(TitleMatching)
+		 */
+		public Builder titleMatching(TitleMatching titleMatching) {
+			return set("titleMatching", target -> target.setTitleMatching(titleMatching));
+		}
+		
+		/**
+		 * <p>设置Map中数字类型（非日期格式）的列的返回方式，默认为{@link NumberMode#TEXT}
+		 * <p>{@link NumberMode#TYPED}时直接返回{@link Long}或{@link Double}，不会把数字转换成文本，也不会修改Workbook中列的类型，数字多的Excel读取更快、产生的垃圾更少
+		 * <p>读取JavaBean时，数字类型的字段总是直接读取数字，不受此设置影响
+		 * @param numberMode 数字类型的列的返回方式
+		 * @return 当前的Builder
+		 * @see Reader#setNumberMode(NumberMode)
+		 */
+		public Builder numberMode(NumberMode numberMode) {
+			return set("numberMode", target -> target.setNumberMode(numberMode));
+		}
+		
+		/**
+		 * <p>设置公式类型的列的返回方式，默认为{@link FormulaMode#FORMULA}，返回公式的文本
+		 * <p>{@link FormulaMode#CACHED}时返回文件中保存的公式结果，不会计算公式，流式读取时也不会还原公式的文本
+		 * <p>{@link FormulaMode#EVALUATE}时使用公式计算器计算结果，需要构建完整的{@link Workbook}，不会使用流式读取
+		 * @param formulaMode 公式类型的列的返回方式
+		 * @return 当前的Builder
+		 * @see Reader#setFormulaMode(FormulaMode)
+		 */
+		public Builder formulaMode(FormulaMode formulaMode) {
+			return set("formulaMode", target -> target.setFormulaMode(formulaMode));
+		}
+		
+		/**
+		 * <p>设置字符串去重表最多保存的字符串个数，默认为0，不去重
+		 * <p>每次读取使用一个新的{@link StringPool}，相同的字符串只保留一个对象，适用于分类、状态等取值很少但重复很多的列
+		 * <p>去重表满了之后新出现的字符串不再去重
+		 * @param stringPoolSize 最多保存的字符串个数，0表示不去重
+		 * @return 当前的Builder
+		 * @see Reader#setStringPoolSize(int)
+		 */
+		public Builder stringPoolSize(int stringPoolSize) {
+			return set("stringPoolSize", target -> target.setStringPoolSize(stringPoolSize));
+		}
+		
+		/**
+		 * <p>设置第一个读取的数据行下标（标题的行下标为0），默认为1
+		 * <p>流式读取时前面的行不会被解码，可以和{@link Reader#setMaxRows(int)}一起用于分页读取
+		 * @param startRow 第一个读取的数据行下标
+		 * @return 当前的Builder
+		 * @see Reader#setStartRow(int)
+		 */
+		public Builder startRow(int startRow) {
+			return set("startRow", target -> target.setStartRow(startRow));
+		}
+		
+		/**
+		 * <p>设置最多读取的数据行数，默认为0（不限制）
+		 * <p>读取到足够的行后立即停止，流式读取时不会再解析后面的数据并立即释放输入，例如上传文件时只预览前面的数据
+		 * @param maxRows 最多读取的数据行数，小于等于0时不限制
+		 * @return 当前的Builder
+		 * @see Reader#setMaxRows(int)
+		 */
+		public Builder maxRows(int maxRows) {
+			return set("maxRows", target -> target.setMaxRows(maxRows));
+		}
+		
+		/**
+		 * <p>设置结束读取的条件，默认为null（读取到sheet的最后一行）
+		 * <p>条件返回true的行以及之后的行都不会读取，例如读取到第一个空行时结束
+		 * <p>流式读取时行中只有需要读取的列（见{@link Reader#setColumns(String...)}）
+		 * @param stopWhen 结束读取的条件
+		 * @return 当前的Builder
+		 * @see Reader#setStopWhen(Predicate)
+		 */
+		public Builder stopWhen(Predicate<? super Row> stopWhen) {
+			return set("stopWhen", target -> target.setStopWhen(stopWhen));
+		}
+		
+		/**
+		 * 创建不可修改的{@link ExcelReader}，之后对Builder的修改不会影响它
+		 * @return {@link ExcelReader}
+		 */
+		public ExcelReader build() {
+			return new ExcelReader(this);
+		}
+		
+	}
+	
+}
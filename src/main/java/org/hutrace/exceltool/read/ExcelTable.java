@@ -0,0 +1,108 @@
+package org.hutrace.exceltool.read;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hutrace.exceltool.pojo.TitleMatching;
+
+/**
+ * <p>按列保存的Excel数据
+ * <p>与{@link MapResolver}不同，不会为每一行创建Map，每一列的数据保存在一个{@link ExcelColumn}中，
+ * 数字、日期保存在基本类型的数组中，字符串使用字典编码，占用的内存接近原始数据，按列统计时也更快
+ * <p>列的类型由列中的数据确定，见{@link ExcelColumn#type()}
+ * <p>读取完毕后不可修改，可以在多个线程中使用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see TableResolver
+ */
+public final class ExcelTable {
+
+	/**
+	 * 所有的列，与标题的顺序一致
+	 */
+	private final ExcelColumn[] columns;
+
+	/**
+	 * 标题到列的索引
+	 */
+	private final Map<String, ExcelColumn> index;
+
+	/**
+	 * 标题的匹配方式
+	 */
+	private final TitleMatching matching;
+
+	/**
+	 * 行数
+	 */
+	private final int rowCount;
+
+	ExcelTable(ExcelColumn[] columns, int rowCount, TitleMatching matching) {
+		String[] titles = new String[columns.length];
+		for(int i = 0; i < columns.length; i++) {
+			titles[i] = columns[i].title();
+		}
+		this.columns = columns;
+		this.index = matching.index(titles, columns);
+		this.matching = matching;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * 获取行数（不包括标题）
+	 * @return 行数
+	 */
+	public int rowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * 获取列数
+	 * @return 列数
+	 */
+	public int columnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * 获取所有的列
+	 * @return 不可修改的列集合，与标题的顺序一致
+	 */
+	public List<ExcelColumn> columns() {
+		return Collections.unmodifiableList(Arrays.asList(columns));
+	}
+
+	/**
+	 * 获取列
+	 * @param index 列下标（读取时指定了列时，为选中的列中的下标）
+	 * @return 列
+	 */
+	public ExcelColumn column(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * <p>根据标题获取列
+	 * <p>按读取时设置的{@link TitleMatching}匹配标题，多个标题相同时返回第一个
+	 * @param title 标题
+	 * @return 列，没有找到时返回null
+	 */
+	public ExcelColumn column(String title) {
+		return index.get(matching.key(title));
+	}
+
+	/**
+	 * 获取数据的对象形式
+	 * @param row 行下标，从0开始（不包括标题）
+	 * @param column 列下标
+	 * @return 数据，为空时返回null
+	 * @see ExcelColumn#get(int)
+	 */
+	public Object get(int row, int column) {
+		return columns[column].get(row);
+	}
+
+}
@@ -1,14 +1,18 @@
 package org.hutrace.exceltool.read;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.converter.Converter;
 import org.hutrace.exceltool.exception.ExcelReaderException;
-import org.hutrace.exceltool.utils.TypeUtils;
+import org.hutrace.exceltool.mapper.BeanMetadata;
+import org.hutrace.exceltool.mapper.BeanMetadata.Property;
+import org.hutrace.exceltool.pojo.NumberMode;
 
 /**
  * <p>Excel读取数据解析器
@@ -18,7 +22,8 @@ import org.hutrace.exceltool.utils.TypeUtils;
  *  注意事项：
  *  	获取Excel的第一行作为标题
  *  	可在JavaBean中字段上添加{@link ExcelField}注解，使用title值匹配Excel的标题
- *  	JavaBean只会解析一次，后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+ *  	JavaBean只会解析一次（结果由{@link BeanMetadata}缓存，所有解析器共用），后面每次都按照标题行的长度、顺序执行（也就是说要保证内容行的列数不能超过标题行的列数，超出的列是读不到的。）
+ *  	有{@link org.hutrace.exceltool.processor.ExcelFieldProcessor}生成的映射时使用它，否则使用反射
  *  </pre>
  * @author HuTrace
  * @since 1.8
@@ -28,68 +33,88 @@ import org.hutrace.exceltool.utils.TypeUtils;
 public class JavaBeanResolver<T> extends AbstractReaderResolver<Object> {
 	
 	/**
-	 * List中的JavaBean对象
+	 * JavaBean泛型类
 	 */
-	private T t;
+	private Class<T> clazs;
 	
 	/**
-	 * JavaBean泛型类
+	 * 根据标题按顺序储存的JavaBean中的setter访问器，没有对应字段的列为null
 	 */
-	private Class<T> clazs;
+	private List<BiConsumer<Object, Object>> setters;
+	
+	/**
+	 * JavaBean的构造访问器
+	 */
+	private Supplier<T> constructor;
+	
+	/**
+	 * 根据标题按顺序储存的类型转换器，为null时不需要转换
+	 */
+	private Converter<?>[] converters;
 	
 	/**
-	 * 根据标题按顺序储存的JavaBean中的setter方法数组
+	 * 根据标题按顺序储存的每一列的数字返回方式，数字类型的字段直接读取数字
 	 */
-	private Method[] method;
+	private NumberMode[] modes;
 	
 	/**
-	 * 根据标题按顺序储存的JavaBean的字段类型
+	 * Excel的标题
 	 */
-	private Class<?>[] types;
+	private String[] titles;
 	
 	public JavaBeanResolver(Class<T> clazs) {
 		this.clazs = clazs;
 	}
 	
+	/**
+	 * 每解析完一行就交给consumer，不保留数据
+	 * @param clazs JavaBean泛型类
+	 * @param consumer 数据的接收者
+	 */
+	@SuppressWarnings("unchecked")
+	public JavaBeanResolver(Class<T> clazs, Consumer<? super T> consumer) {
+		super((Consumer<Object>) consumer);
+		this.clazs = clazs;
+	}
+	
 	@Override
 	public void title(Row row) {
-		Field[] fields = clazs.getDeclaredFields();
+		BeanMetadata metadata = BeanMetadata.of(clazs);
 		int num = row.getLastCellNum();
-		method = new Method[num];
-		types = new Class<?>[num];
-		Field field;
-		ExcelField annot;
-		String name;
+		constructor = metadata.constructor();
+		setters = new ArrayList<>(num);
+		converters = new Converter<?>[num];
+		modes = new NumberMode[num];
+		titles = new String[num];
+		Property property;
 		for(int i = 0; i < num; i++) {
-			for(int j = 0; j < fields.length; j++) {
-				field = fields[j];
-				annot = field.getAnnotation(ExcelField.class);
-				if(annot != null) {
-					name = annot.title();
-				}else {
-					name = field.getName();
-				}
-				if(name.equals(cell(row.getCell(i), 0, i))) {
-					method[i] = method(field.getName());
-					types[i] = field.getType();
-					break;
-				}
+			titles[i] = cell(row.getCell(i), 0, i).toString();
+			property = metadata.titled(titles[i], matching);
+			if(property != null) {
+				setters.add(property.setter());
+				converters[i] = property.converter();
+			}else {
+				setters.add(null);
 			}
+			modes[i] = property != null && property.isNumeric() ? NumberMode.TYPED : numbers;
 		}
 	}
 	
 	/**
-	 * <p>构造字段的setter方法
-	 * @param name 字段名称
-	 * @return 方法({@link Method})
+	 * <p>只读取有对应字段的列
+	 * <p>指定了需要的列时，没有指定的列即使有对应的字段也不会读取
 	 */
-	private Method method(String name) {
-		try {
-			return new PropertyDescriptor(name, clazs).getWriteMethod();
-		}catch (IntrospectionException e) {
-			e.printStackTrace();
-			throw new ExcelReaderException(e);
+	@Override
+	public boolean[] project(ColumnProjection projection) {
+		boolean[] selected = projection == null ? null : projection.select(titles);
+		boolean[] columns = new boolean[setters.size()];
+		for(int i = 0; i < columns.length; i++) {
+			if(selected != null && !selected[i]) {
+				setters.set(i, null);
+			}
+			columns[i] = setters.get(i) != null;
 		}
+		return columns;
 	}
 	
 	/**
@@ -98,7 +123,7 @@ public class JavaBeanResolver<T> extends AbstractReaderResolver<Object> {
 	 */
 	private T instance() {
 		try {
-			return clazs.newInstance();
+			return constructor.get();
 		}catch (Exception e) {
 			throw new ExcelReaderException("Failed to create a JavaBean object", e);
 		}
@@ -106,17 +131,47 @@ public class JavaBeanResolver<T> extends AbstractReaderResolver<Object> {
 
 	@Override
 	public void row(Row row, int index) {
-		t = instance();
-		for(int i = 0; i < method.length; i++) {
-			if(method[i] != null) {
+		add(convert(values(row, index), index));
+	}
+	
+	/**
+	 * <p>按标题的顺序读取一行中需要的列的数据
+	 * <p>没有对应字段的列不会读取，数字类型的字段直接读取数字，不经过文本
+	 * @param row 行对象
+	 * @param index 行下标
+	 * @return 列的数据
+	 */
+	protected Object[] values(Row row, int index) {
+		Object[] values = new Object[setters.size()];
+		for(int i = 0; i < values.length; i++) {
+			if(setters.get(i) != null) {
+				values[i] = cell(row.getCell(i), index, i, modes[i]);
+			}
+		}
+		return values;
+	}
+	
+	/**
+	 * <p>将一行的数据转换成JavaBean对象
+	 * <p>只使用title时解析好的setter访问器与类型转换，可以在多个线程中同时调用
+	 * @param values {@link #values(Row, int)}读取的列的数据
+	 * @param index 行下标
+	 * @return JavaBean对象
+	 */
+	protected T convert(Object[] values, int index) {
+		T t = instance();
+		BiConsumer<Object, Object> setter;
+		for(int i = 0; i < values.length; i++) {
+			setter = setters.get(i);
+			if(setter != null) {
 				try {
-					method[i].invoke(t, TypeUtils.cast(cell(row.getCell(i), index, i), types[i]));
+					setter.accept(t, converters[i] == null ? values[i] : converters[i].convert(values[i]));
 				}catch (Exception e) {
 					throw new ExcelReaderException("Error reading data, row " + index + ", column " + i, e);
 				}
 			}
 		}
-		add(t);
+		return t;
 	}
 
 }
@@ -1,8 +1,7 @@
 package org.hutrace.exceltool.read;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.hutrace.exceltool.pojo.TitleAlias;
@@ -13,6 +12,7 @@ import org.hutrace.exceltool.pojo.TitleAlias;
  * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
  * <p>Excel的标题作为Map的键，可通过设置{@link #titleAlias}来实现在Map中的key值。
  * <p>Map的长度(size)也将会使用标题的个数来确定
+ * <p>每一行使用{@link RowMap}，所有行共用读取标题时创建的键表
  * @author HuTrace
  * @since 1.8
  * @version 1.0
@@ -28,39 +28,69 @@ public class MapAliasResolver extends AbstractReaderResolver<Map<String, Object>
 		this.titleAlias = titleAlias;
 	}
 	
+	/**
+	 * 每解析完一行就交给consumer，不保留数据
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 */
+	public MapAliasResolver(TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) {
+		super(consumer);
+		this.titleAlias = titleAlias;
+	}
+	
 	/**
 	 * Map的key数组
 	 */
 	private String[] mapKeys;
 	
 	/**
-	 * List中的Map全局缓存
+	 * 所有行共用的键表
+	 */
+	private RowMap.Keys keys;
+	
+	/**
+	 * Excel的标题
 	 */
-	private Map<String, Object> map;
+	private String[] titles;
 	
 	@Override
 	public void title(Row row) {
 		int cellNum = row.getLastCellNum();
 		mapKeys = new String[cellNum];
+		titles = new String[cellNum];
+		Map<String, String> aliases = TitleAlias.aliases(titleAlias, matching);
 		String key;
 		for(int i = 0; i < cellNum; i++) {
 			key = cell(row.getCell(i), 0, i).toString();
-			for(int j = 0; j < titleAlias.length; j++) {
-				if(Objects.equals(key, titleAlias[j].getTitle())) {
-					key = titleAlias[j].getAlias();
-				}
-			}
-			mapKeys[i] = key;
+			titles[i] = key;
+			mapKeys[i] = aliases.getOrDefault(matching.key(key), key);
+		}
+		keys = new RowMap.Keys(mapKeys, null);
+	}
+	
+	/**
+	 * 使用Excel的标题（而不是别名）匹配指定的列，只有指定的列会放入Map
+	 */
+	@Override
+	public boolean[] project(ColumnProjection projection) {
+		if(projection == null) {
+			return null;
 		}
+		boolean[] columns = projection.select(titles);
+		keys = new RowMap.Keys(mapKeys, columns);
+		return columns;
 	}
 
 	@Override
 	public void row(Row row, int index) {
-		map = new HashMap<>(mapKeys.length);
+		Object[] values = new Object[keys.size()];
+		int slot;
 		for(int i = 0; i < mapKeys.length; i++) {
-			map.put(mapKeys[i], cell(row.getCell(i), index, i));
+			if((slot = keys.column(i)) >= 0) {
+				values[slot] = cell(row.getCell(i), index, i);
+			}
 		}
-		add(map);
+		add(new RowMap(keys, values));
 	}
 
 
@@ -1,7 +1,7 @@
 package org.hutrace.exceltool.read;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.poi.ss.usermodel.Row;
 
@@ -11,11 +11,24 @@ import org.apache.poi.ss.usermodel.Row;
  * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
  * <p>Excel的标题作为Map的键
  * <p>Map的长度(size)也将会使用标题的个数来确定
+ * <p>每一行使用{@link RowMap}，所有行共用读取标题时创建的键表
  * @author HuTrace
  * @since 1.8
  * @version 1.0
  */
 public class MapResolver extends AbstractReaderResolver<Map<String, Object>> {
+	
+	public MapResolver() {
+		super();
+	}
+	
+	/**
+	 * 每解析完一行就交给consumer，不保留数据
+	 * @param consumer 数据的接收者
+	 */
+	public MapResolver(Consumer<? super Map<String, Object>> consumer) {
+		super(consumer);
+	}
 
 	/**
 	 * Map的key数组
@@ -23,9 +36,9 @@ public class MapResolver extends AbstractReaderResolver<Map<String, Object>> {
 	private String[] mapKeys;
 	
 	/**
-	 * List中的Map全局缓存
+	 * 所有行共用的键表
 	 */
-	private Map<String, Object> map;
+	private RowMap.Keys keys;
 	
 	@Override
 	public void title(Row row) {
@@ -34,15 +47,32 @@ public class MapResolver extends AbstractReaderResolver<Map<String, Object>> {
 		for(int i = 0; i < cellNum; i++) {
 			mapKeys[i] = cell(row.getCell(i), 0, i).toString();
 		}
+		keys = new RowMap.Keys(mapKeys, null);
+	}
+	
+	/**
+	 * 只有指定的列会放入Map
+	 */
+	@Override
+	public boolean[] project(ColumnProjection projection) {
+		if(projection == null) {
+			return null;
+		}
+		boolean[] columns = projection.select(mapKeys);
+		keys = new RowMap.Keys(mapKeys, columns);
+		return columns;
 	}
 
 	@Override
 	public void row(Row row, int index) {
-		map = new HashMap<>(mapKeys.length);
+		Object[] values = new Object[keys.size()];
+		int slot;
 		for(int i = 0; i < mapKeys.length; i++) {
-			map.put(mapKeys[i], cell(row.getCell(i), index, i));
+			if((slot = keys.column(i)) >= 0) {
+				values[slot] = cell(row.getCell(i), index, i);
+			}
 		}
-		add(map);
+		add(new RowMap(keys, values));
 	}
 
 
@@ -0,0 +1,209 @@
+package org.hutrace.exceltool.read;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.utils.AsyncTask;
+
+/**
+ * <p>流水线方式的JavaBean解析器
+ * <p>读取线程只负责读取每一行需要的列的数据，类型转换与setter调用交给线程池同时进行
+ * <p>不会创建自己的线程池：转换在传入的{@link Executor}中执行，默认为所有读取共用的{@link AsyncTask#commonExecutor()}，
+ * 每个解析器最多同时占用threads个线程
+ * <p>转换结果按原来的行顺序放入集合（或交给{@link Consumer}），最多有threads * 4行正在转换，超过时读取线程等待最早的一行转换完成
+ * <p>sheet读取完毕时在{@link #finish()}中等待剩下的行转换完成
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T>
+ * @see JavaBeanResolver
+ */
+// 继承的AbstractReaderResolver.data()以非泛型的返回值实现ReaderResolver的泛型方法，只能忽略这个警告
+@SuppressWarnings("unchecked")
+public class PipelinedJavaBeanResolver<T> extends JavaBeanResolver<T> {
+	
+	/**
+	 * 转换使用的线程，最多同时使用threads个
+	 */
+	private Limited executor;
+	
+	/**
+	 * 按行顺序排列的正在转换的行
+	 */
+	private ArrayDeque<Future<T>> pending;
+	
+	/**
+	 * 最多同时转换的行数
+	 */
+	private int window;
+	
+	/**
+	 * @param clazs JavaBean泛型类
+	 * @param threads 最多同时转换的线程数
+	 */
+	public PipelinedJavaBeanResolver(Class<T> clazs, int threads) {
+		this(clazs, threads, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * @param clazs JavaBean泛型类
+	 * @param threads 最多同时转换的线程数
+	 * @param executor 转换使用的线程池
+	 */
+	public PipelinedJavaBeanResolver(Class<T> clazs, int threads, Executor executor) {
+		super(clazs);
+		init(threads, executor);
+	}
+	
+	/**
+	 * 每解析完一行就按行的顺序交给consumer，不保留数据
+	 * @param clazs JavaBean泛型类
+	 * @param threads 最多同时转换的线程数
+	 * @param consumer 数据的接收者
+	 */
+	public PipelinedJavaBeanResolver(Class<T> clazs, int threads, Consumer<? super T> consumer) {
+		this(clazs, threads, AsyncTask.commonExecutor(), consumer);
+	}
+	
+	/**
+	 * 每解析完一行就按行的顺序交给consumer，不保留数据
+	 * @param clazs JavaBean泛型类
+	 * @param threads 最多同时转换的线程数
+	 * @param executor 转换使用的线程池
+	 * @param consumer 数据的接收者
+	 */
+	public PipelinedJavaBeanResolver(Class<T> clazs, int threads, Executor executor, Consumer<? super T> consumer) {
+		super(clazs, consumer);
+		init(threads, executor);
+	}
+	
+	private void init(int threads, Executor executor) {
+		if(threads < 1) {
+			throw new IllegalArgumentException("The [threads] must be greater than 0");
+		}
+		if(executor == null) {
+			throw new NullPointerException("The [executor] cannot be null");
+		}
+		window = threads * 4;
+		pending = new ArrayDeque<>(window);
+		this.executor = new Limited(executor, threads);
+	}
+	
+	@Override
+	public void row(Row row, int index) {
+		Object[] values = values(row, index);
+		FutureTask<T> task = new FutureTask<>(() -> convert(values, index));
+		pending.add(task);
+		executor.execute(task);
+		if(pending.size() >= window) {
+			add(take());
+		}
+	}
+	
+	@Override
+	public void finish() {
+		while(!pending.isEmpty()) {
+			add(take());
+		}
+	}
+	
+	/**
+	 * 等待最早的一行转换完成
+	 */
+	private T take() {
+		try {
+			return pending.poll().get();
+		}catch (InterruptedException e) {
+			cancel();
+			Thread.currentThread().interrupt();
+			throw new ExcelReaderException("Interrupted while converting the rows", e);
+		}catch (ExecutionException e) {
+			cancel();
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}else if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ExcelReaderException(cause);
+		}
+	}
+	
+	/**
+	 * 转换出错时取消剩下的行
+	 */
+	private void cancel() {
+		for(Future<T> future : pending) {
+			future.cancel(false);
+		}
+		pending.clear();
+	}
+	
+	/**
+	 * <p>在共用的线程池中最多同时使用limit个线程执行任务
+	 * <p>任务先放入队列，最多有limit个线程在线程池中依次取出并执行，队列为空时线程归还给线程池
+	 */
+	private static class Limited implements Executor {
+		
+		private final Executor executor;
+		
+		private final int limit;
+		
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		
+		/**
+		 * 正在执行任务的线程数
+		 */
+		private final AtomicInteger active = new AtomicInteger();
+		
+		private Limited(Executor executor, int limit) {
+			this.executor = executor;
+			this.limit = limit;
+		}
+		
+		@Override
+		public void execute(Runnable task) {
+			tasks.add(task);
+			schedule();
+		}
+		
+		private void schedule() {
+			int current;
+			while((current = active.get()) < limit && !tasks.isEmpty()) {
+				if(active.compareAndSet(current, current + 1)) {
+					try {
+						executor.execute(this::drain);
+					}catch (RuntimeException e) {
+						active.decrementAndGet();
+						throw e;
+					}
+					return;
+				}
+			}
+		}
+		
+		private void drain() {
+			try {
+				Runnable task;
+				while((task = tasks.poll()) != null) {
+					task.run();
+				}
+			}finally {
+				active.decrementAndGet();
+			}
+			// 归还线程时可能有新的任务加入
+			schedule();
+		}
+		
+	}
+	
+}
@@ -1,17 +1,46 @@
 package org.hutrace.exceltool.read;
 
-import java.io.FileInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.exception.ExcelReaderException;
 import org.hutrace.exceltool.exception.NotFoundSheetException;
 import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.pojo.FormulaMode;
+import org.hutrace.exceltool.pojo.NumberMode;
 import org.hutrace.exceltool.pojo.TitleAlias;
+import org.hutrace.exceltool.pojo.TitleMatching;
+import org.hutrace.exceltool.read.streaming.ProjectedRow;
+import org.hutrace.exceltool.read.streaming.RowSource;
+import org.hutrace.exceltool.read.streaming.SheetRowSource;
+import org.hutrace.exceltool.read.streaming.StreamingRow;
+import org.hutrace.exceltool.read.streaming.WorkbookRowSource;
+import org.hutrace.exceltool.read.streaming.WorkbookSource;
+import org.hutrace.exceltool.utils.AsyncTask;
 import org.hutrace.exceltool.utils.ExcelCommon;
 
 /**
@@ -20,6 +49,7 @@ import org.hutrace.exceltool.utils.ExcelCommon;
  * <p>默认读取Excel的第一个sheet
  * <p>你可已使用{@link #setSheetName(String)}来指定读取sheet的名称
  * <p>此类只做到行数据读取，使用{@link ReaderResolver}来对行数据进行解析
+ * <p>默认使用流式读取（{@link RowSource}），内存中只保留当前行，你可以使用{@link #setStreaming(boolean)}关闭
  * @author HuTrace
  * @since 1.8
  * @version 1.0
@@ -29,6 +59,7 @@ import org.hutrace.exceltool.utils.ExcelCommon;
  * @see MapResolver
  * @see MapAliasResolver
  * @see JavaBeanResolver
+ * @see TableResolver
  */
 public class Reader extends ExcelCommon {
 	
@@ -45,6 +76,269 @@ public class Reader extends ExcelCommon {
 		this.sheetName = sheetName;
 	}
 	
+	/**
+	 * 是否使用流式读取，默认为true
+	 */
+	private boolean streaming = true;
+	
+	/**
+	 * <p>设置是否使用流式读取，默认为true
+	 * <p>流式读取不会构建{@link Workbook}，传给{@link ReaderResolver}的{@link Row}是只读且复用的，并且没有样式对象
+	 * <p>如果自定义的{@link ReaderResolver}需要完整的{@link Row}对象，可以设置为false
+	 * @param streaming 是否使用流式读取
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+	
+	/**
+	 * xlsx的共享字符串表写入临时文件的阈值，默认为0
+	 */
+	private long spillThreshold;
+	
+	/**
+	 * <p>设置xlsx的共享字符串表写入临时文件的阈值（字节数），默认为0
+	 * <p>共享字符串表以UTF-8字节的形式保存，超过此大小后写入临时文件并使用内存映射读取，为0时全部保存在内存中
+	 * @param spillThreshold 写入临时文件的阈值
+	 * @see org.hutrace.exceltool.read.streaming.SharedStrings
+	 */
+	public void setSpillThreshold(long spillThreshold) {
+		this.spillThreshold = spillThreshold;
+	}
+	
+	/**
+	 * 读取JavaBean时类型转换使用的线程数，默认为0
+	 */
+	private int convertThreads;
+	
+	/**
+	 * <p>设置读取JavaBean时类型转换使用的线程数，默认为0
+	 * <p>为0时在读取线程中转换；大于0时读取线程只读取列的数据，转换交给线程池，结果仍然按行的顺序返回
+	 * <p>每次读取最多同时使用convertThreads个线程，线程来自{@link #setConvertExecutor(Executor)}
+	 * @param convertThreads 类型转换使用的线程数
+	 * @see PipelinedJavaBeanResolver
+	 */
+	public void setConvertThreads(int convertThreads) {
+		if(convertThreads < 0) {
+			throw new IllegalArgumentException("The [convertThreads] cannot be negative");
+		}
+		this.convertThreads = convertThreads;
+	}
+	
+	/**
+	 * 读取JavaBean时类型转换使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+	 */
+	private Executor convertExecutor = AsyncTask.commonExecutor();
+	
+	/**
+	 * <p>设置读取JavaBean时类型转换使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+	 * <p>只在{@link #setConvertThreads(int)}大于0时使用，所有读取共用这个线程池，不会为每次读取创建线程池
+	 * @param convertExecutor 类型转换使用的线程池
+	 */
+	public void setConvertExecutor(Executor convertExecutor) {
+		if(convertExecutor == null) {
+			throw new NullPointerException("The [convertExecutor] cannot be null");
+		}
+		this.convertExecutor = convertExecutor;
+	}
+	
+	/**
+	 * 读取所有sheet时同时读取的sheet数，默认为CPU核数
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	
+	/**
+	 * <p>设置读取所有sheet时同时读取的sheet数，默认为CPU核数
+	 * <p>为1时在调用线程中逐个读取
+	 * @param parallelism 同时读取的sheet数
+	 * @see #readAllSheets(InputStream, ExcelType, Supplier)
+	 */
+	public void setParallelism(int parallelism) {
+		if(parallelism < 1) {
+			throw new IllegalArgumentException("The [parallelism] must be greater than 0");
+		}
+		this.parallelism = parallelism;
+	}
+	
+	/**
+	 * 分批读取时已交出但还没有处理完的最大批数，默认为0
+	 */
+	private int maxBatchesInFlight;
+	
+	/**
+	 * <p>设置分批读取时已交出但还没有处理完的最大批数，默认为0
+	 * <p>为0时在读取线程中同步交付每一批数据（例如需要使用读取线程的事务时）
+	 * <p>大于0时在{@link #setBatchExecutor(Executor)}中按顺序交付，读取与处理可以同时进行，超过此数量时读取线程等待
+	 * @param maxBatchesInFlight 已交出但还没有处理完的最大批数
+	 * @see BatchResolver
+	 */
+	public void setMaxBatchesInFlight(int maxBatchesInFlight) {
+		if(maxBatchesInFlight < 0) {
+			throw new IllegalArgumentException("The [maxBatchesInFlight] cannot be negative");
+		}
+		this.maxBatchesInFlight = maxBatchesInFlight;
+	}
+	
+	/**
+	 * 分批读取时交付数据使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+	 */
+	private Executor batchExecutor = AsyncTask.commonExecutor();
+	
+	/**
+	 * <p>设置分批读取时交付数据使用的线程池，默认为{@link AsyncTask#commonExecutor()}
+	 * <p>只在{@link #setMaxBatchesInFlight(int)}大于0时使用，每次分批读取在其中占用一个线程直到读取结束
+	 * @param batchExecutor 交付数据使用的线程池
+	 */
+	public void setBatchExecutor(Executor batchExecutor) {
+		if(batchExecutor == null) {
+			throw new NullPointerException("The [batchExecutor] cannot be null");
+		}
+		this.batchExecutor = batchExecutor;
+	}
+	
+	/**
+	 * 需要读取的列，默认为null
+	 */
+	private ColumnProjection columns;
+	
+	/**
+	 * <p>使用标题设置需要读取的列，默认读取所有列
+	 * <p>没有指定的列在流式读取时不会被解码，Map中也不会有它的键；读取JavaBean时本来就只读取有对应字段的列
+	 * @param titles Excel的标题，为null时读取所有列
+	 * @see ColumnProjection#titles(String...)
+	 */
+	public void setColumns(String... titles) {
+		this.columns = titles == null ? null : ColumnProjection.titles(titles);
+	}
+	
+	/**
+	 * <p>使用列下标（从0开始）设置需要读取的列，默认读取所有列
+	 * @param indexes 列下标，为null时读取所有列
+	 * @see #setColumns(String...)
+	 * @see ColumnProjection#indexes(int...)
+	 */
+	public void setColumnIndexes(int... indexes) {
+		this.columns = indexes == null ? null : ColumnProjection.indexes(indexes);
+	}
+	
+	/**
+	 * 标题的匹配方式，默认为{@link TitleMatching#EXACT}
+	 */
+	private TitleMatching titleMatching = TitleMatching.EXACT;
+	
+	/**
+	 * <p>设置Excel标题与{@link TitleAlias}的标题、JavaBean的字段标题的匹配方式，默认为{@link TitleMatching#EXACT}
+	 * <p>{@link TitleMatching#NORMALIZED}时去掉首尾空白并忽略大小写，适用于人工编辑、标题格式不统一的Excel
+	 * <p>{@link #setColumns(String...)}指定的标题仍然需要完全相同
+	 * @param titleMatching 标题的匹配方式
+	 */
+	public void setTitleMatching(TitleMatching titleMatching) {
+		if(titleMatching == null) {
+			throw new NullPointerException("The [titleMatching] cannot be null");
+		}
+		this.titleMatching = titleMatching;
+	}
+	
+	/**
+	 * 数字类型的列的返回方式，默认为{@link NumberMode#TEXT}
+	 */
+	private NumberMode numberMode = NumberMode.TEXT;
+	
+	/**
+	 * <p>设置Map中数字类型（非日期格式）的列的返回方式，默认为{@link NumberMode#TEXT}
+	 * <p>{@link NumberMode#TYPED}时直接返回{@link Long}或{@link Double}，不会把数字转换成文本，也不会修改Workbook中列的类型，数字多的Excel读取更快、产生的垃圾更少
+	 * <p>读取JavaBean时，数字类型的字段总是直接读取数字，不受此设置影响
+	 * @param numberMode 数字类型的列的返回方式
+	 */
+	public void setNumberMode(NumberMode numberMode) {
+		if(numberMode == null) {
+			throw new NullPointerException("The [numberMode] cannot be null");
+		}
+		this.numberMode = numberMode;
+	}
+	
+	/**
+	 * 公式类型的列的返回方式，默认为{@link FormulaMode#FORMULA}
+	 */
+	private FormulaMode formulaMode = FormulaMode.FORMULA;
+	
+	/**
+	 * <p>设置公式类型的列的返回方式，默认为{@link FormulaMode#FORMULA}，返回公式的文本
+	 * <p>{@link FormulaMode#CACHED}时返回文件中保存的公式结果，不会计算公式，流式读取时也不会还原公式的文本
+	 * <p>{@link FormulaMode#EVALUATE}时使用公式计算器计算结果，需要构建完整的{@link Workbook}，不会使用流式读取
+	 * @param formulaMode 公式类型的列的返回方式
+	 */
+	public void setFormulaMode(FormulaMode formulaMode) {
+		if(formulaMode == null) {
+			throw new NullPointerException("The [formulaMode] cannot be null");
+		}
+		this.formulaMode = formulaMode;
+	}
+	
+	/**
+	 * 字符串去重表的大小，小于等于0时不去重
+	 */
+	private int stringPoolSize;
+	
+	/**
+	 * <p>设置字符串去重表最多保存的字符串个数，默认为0，不去重
+	 * <p>每次读取使用一个新的{@link StringPool}，相同的字符串只保留一个对象，适用于分类、状态等取值很少但重复很多的列
+	 * <p>去重表满了之后新出现的字符串不再去重
+	 * @param stringPoolSize 最多保存的字符串个数，0表示不去重
+	 */
+	public void setStringPoolSize(int stringPoolSize) {
+		if(stringPoolSize < 0) {
+			throw new IllegalArgumentException("The [stringPoolSize] cannot be less than 0");
+		}
+		this.stringPoolSize = stringPoolSize;
+	}
+	
+	/**
+	 * 第一个读取的数据行下标，默认为1
+	 */
+	private int startRow = 1;
+	
+	/**
+	 * <p>设置第一个读取的数据行下标（标题的行下标为0），默认为1
+	 * <p>流式读取时前面的行不会被解码，可以和{@link #setMaxRows(int)}一起用于分页读取
+	 * @param startRow 第一个读取的数据行下标
+	 */
+	public void setStartRow(int startRow) {
+		if(startRow < 1) {
+			throw new IllegalArgumentException("The [startRow] must be greater than 0");
+		}
+		this.startRow = startRow;
+	}
+	
+	/**
+	 * 最多读取的数据行数，默认为0
+	 */
+	private int maxRows;
+	
+	/**
+	 * <p>设置最多读取的数据行数，默认为0（不限制）
+	 * <p>读取到足够的行后立即停止，流式读取时不会再解析后面的数据并立即释放输入，例如上传文件时只预览前面的数据
+	 * @param maxRows 最多读取的数据行数，小于等于0时不限制
+	 */
+	public void setMaxRows(int maxRows) {
+		this.maxRows = maxRows;
+	}
+	
+	/**
+	 * 结束读取的条件，默认为null
+	 */
+	private Predicate<? super Row> stopWhen;
+	
+	/**
+	 * <p>设置结束读取的条件，默认为null（读取到sheet的最后一行）
+	 * <p>条件返回true的行以及之后的行都不会读取，例如读取到第一个空行时结束
+	 * <p>流式读取时行中只有需要读取的列（见{@link #setColumns(String...)}）
+	 * @param stopWhen 结束读取的条件
+	 */
+	public void setStopWhen(Predicate<? super Row> stopWhen) {
+		this.stopWhen = stopWhen;
+	}
+	
 	/**
 	 * <p>读取Excel数据
 	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
@@ -56,7 +350,7 @@ public class Reader extends ExcelCommon {
 	 * @see MapResolver
 	 */
 	public List<Map<String, Object>> toMap(String realPath) throws IOException {
-		return toMap(new FileInputStream(realPath), getType(realPath));
+		return toMap(Paths.get(realPath));
 	}
 
 	/**
@@ -71,9 +365,7 @@ public class Reader extends ExcelCommon {
 	 * @see MapResolver
 	 */
 	public List<Map<String, Object>> toMap(InputStream in, ExcelType type) throws IOException {
-		ReaderResolver resolver = new MapResolver();
-		read(in, type, resolver);
-		return resolver.data();
+		return toMap(ExcelInput.of(in, type));
 	}
 	
 	/**
@@ -87,7 +379,7 @@ public class Reader extends ExcelCommon {
 	 * @see MapAliasResolver
 	 */
 	public List<Map<String, Object>> toMap(String realPath, TitleAlias[] titleAlias) throws IOException {
-		return toMap(new FileInputStream(realPath), getType(realPath), titleAlias);
+		return toMap(Paths.get(realPath), titleAlias);
 	}
 
 	/**
@@ -103,9 +395,7 @@ public class Reader extends ExcelCommon {
 	 * @see MapAliasResolver
 	 */
 	public List<Map<String, Object>> toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
-		ReaderResolver resolver = new MapAliasResolver(titleAlias);
-		read(in, type, resolver);
-		return resolver.data();
+		return toMap(ExcelInput.of(in, type), titleAlias);
 	}
 	
 	/**
@@ -120,7 +410,7 @@ public class Reader extends ExcelCommon {
 	 * @see JavaBeanResolver
 	 */
 	public <T> List<T> toJavaBean(String realPath, Class<T> clazs) throws IOException {
-		return toJavaBean(new FileInputStream(realPath), getType(realPath), clazs);
+		return toJavaBean(Paths.get(realPath), clazs);
 	}
 	
 	/**
@@ -136,38 +426,1271 @@ public class Reader extends ExcelCommon {
 	 * @see JavaBeanResolver
 	 */
 	public <T> List<T> toJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
-		ReaderResolver resolver = new JavaBeanResolver<T>(clazs);
-		read(in, type, resolver);
+		return toJavaBean(ExcelInput.of(in, type), clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public List<Map<String, Object>> toMap(Path path) throws IOException {
+		return toMap(ExcelInput.of(path, getType(path.toString())));
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public List<Map<String, Object>> toMap(byte[] bytes, ExcelType type) throws IOException {
+		return toMap(ExcelInput.of(bytes, type));
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public List<Map<String, Object>> toMap(ByteBuffer buffer, ExcelType type) throws IOException {
+		return toMap(ExcelInput.of(buffer, type));
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param input Excel数据来源
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public List<Map<String, Object>> toMap(ExcelInput input) throws IOException {
+		ReaderResolver resolver = new MapResolver();
+		read(input, resolver);
 		return resolver.data();
 	}
 	
 	/**
-	 * <p>读取输入流中的数据
-	 * <p>使用输入流构造{@link Workbook}
-	 * <p>并取得需要获取数据的{@link Sheet}
-	 * @param in 输入流
-	 * @param type 文件类型
-	 * @param resolver 数据解析器
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
 	 * @throws IOException
+	 * @see MapAliasResolver
 	 */
-	public void read(InputStream in, ExcelType type, ReaderResolver resolver) throws IOException {
-		Workbook workbook = createWorkbook(in, type);
-		Sheet sheet = sheet(workbook);
-		reading(sheet, resolver);
+	public List<Map<String, Object>> toMap(Path path, TitleAlias[] titleAlias) throws IOException {
+		return toMap(ExcelInput.of(path, getType(path.toString())), titleAlias);
 	}
 	
 	/**
-	 * <p>读取sheet的数据
-	 * @param sheet 需要读取的{@link Sheet}对象
-	 * @param resolver 数据解析器
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
 	 * @throws IOException
+	 * @see MapAliasResolver
 	 */
-	public void reading(Sheet sheet, ReaderResolver resolver) throws IOException {
-		resolver.title(sheet.getRow(0));
-		int rowNum = sheet.getLastRowNum();
-		for(int i = 1; i <= rowNum; i++) {
-			resolver.row(sheet.getRow(i), i);
+	public List<Map<String, Object>> toMap(byte[] bytes, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return toMap(ExcelInput.of(bytes, type), titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public List<Map<String, Object>> toMap(ByteBuffer buffer, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return toMap(ExcelInput.of(buffer, type), titleAlias);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>Map的长度(size)也将会使用标题的个数来确定
+	 * @param input Excel数据来源
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return MapList
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public List<Map<String, Object>> toMap(ExcelInput input, TitleAlias[] titleAlias) throws IOException {
+		ReaderResolver resolver = new MapAliasResolver(titleAlias);
+		read(input, resolver);
+		return resolver.data();
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> List<T> toJavaBean(Path path, Class<T> clazs) throws IOException {
+		return toJavaBean(ExcelInput.of(path, getType(path.toString())), clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> List<T> toJavaBean(byte[] bytes, ExcelType type, Class<T> clazs) throws IOException {
+		return toJavaBean(ExcelInput.of(bytes, type), clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> List<T> toJavaBean(ByteBuffer buffer, ExcelType type, Class<T> clazs) throws IOException {
+		return toJavaBean(ExcelInput.of(buffer, type), clazs);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param input Excel数据来源
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return JavaBeanList
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> List<T> toJavaBean(ExcelInput input, Class<T> clazs) throws IOException {
+		ReaderResolver resolver = javaBeanResolver(clazs, null);
+		read(input, resolver);
+		return resolver.data();
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(String realPath) throws IOException {
+		return toTable(Paths.get(realPath));
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(InputStream in, ExcelType type) throws IOException {
+		return toTable(ExcelInput.of(in, type));
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param path Excel文件路径，直接以随机访问的方式读取，读取完毕后释放文件。根据后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(Path path) throws IOException {
+		return toTable(ExcelInput.of(path, getType(path.toString())));
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param bytes Excel数据
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(byte[] bytes, ExcelType type) throws IOException {
+		return toTable(ExcelInput.of(bytes, type));
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param buffer Excel数据，从position到limit，不会改变buffer的位置
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(ByteBuffer buffer, ExcelType type) throws IOException {
+		return toTable(ExcelInput.of(buffer, type));
+	}
+	
+	/**
+	 * <p>按列读取Excel数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+	 * <p>数字、日期保存在基本类型的数组中，字符串使用字典编码，不会为每一行创建Map
+	 * @param input Excel数据来源
+	 * @return {@link ExcelTable}
+	 * @throws IOException
+	 * @see TableResolver
+	 */
+	public ExcelTable toTable(ExcelInput input) throws IOException {
+		TableResolver resolver = new TableResolver();
+		read(input, resolver);
+		return resolver.table();
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public void toMap(String realPath, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		read(input(realPath), new MapResolver(consumer));
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public void toMap(InputStream in, ExcelType type, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		read(in, type, new MapResolver(consumer));
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public void toMap(String realPath, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		read(input(realPath), new MapAliasResolver(titleAlias, consumer));
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public void toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, Consumer<? super Map<String, Object>> consumer) throws IOException {
+		read(in, type, new MapAliasResolver(titleAlias, consumer));
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> void toJavaBean(String realPath, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		read(input(realPath), javaBeanResolver(clazs, consumer));
+	}
+	
+	/**
+	 * <p>读取Excel数据，每解析完一行就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> void toJavaBean(InputStream in, ExcelType type, Class<T> clazs, Consumer<? super T> consumer) throws IOException {
+		read(in, type, javaBeanResolver(clazs, consumer));
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public void toMap(String realPath, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		batch(input(realPath), resolver -> new MapResolver(resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public void toMap(InputStream in, ExcelType type, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		batch(in, type, resolver -> new MapResolver(resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public void toMap(String realPath, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		batch(input(realPath), resolver -> new MapAliasResolver(titleAlias, resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public void toMap(InputStream in, ExcelType type, TitleAlias[] titleAlias, int batchSize, BatchConsumer<? super Map<String, Object>> consumer) throws IOException {
+		batch(in, type, resolver -> new MapAliasResolver(titleAlias, resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> void toJavaBean(String realPath, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		batch(input(realPath), resolver -> javaBeanResolver(clazs, resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据，每解析完batchSize条数据就交给consumer，不保留数据
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> void toJavaBean(InputStream in, ExcelType type, Class<T> clazs, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		batch(in, type, resolver -> javaBeanResolver(clazs, resolver), batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取输入流中的数据
+	 * <p>使用{@link BatchResolver}包装数据解析器，每一批使用的集合会被复用
+	 * <p>可以使用{@link #setMaxBatchesInFlight(int)}设置是否在单独的线程中交付
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 */
+	public <T> void batch(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		batch(ExcelInput.of(in, type), resolver, batchSize, consumer);
+	}
+	
+	/**
+	 * <p>分批读取Excel数据
+	 * <p>使用{@link BatchResolver}包装数据解析器，每一批使用的集合会被复用
+	 * <p>可以使用{@link #setMaxBatchesInFlight(int)}设置是否在单独的线程中交付
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param batchSize 每一批数据的条数
+	 * @param consumer 数据的接收者
+	 * @throws IOException
+	 */
+	public <T> void batch(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver, int batchSize, BatchConsumer<? super T> consumer) throws IOException {
+		BatchResolver<T> batch = new BatchResolver<>(resolver, batchSize, maxBatchesInFlight, batchExecutor, consumer);
+		try {
+			read(input, batch);
+		}catch (Throwable e) {
+			// 停止交付时的错误不能覆盖读取的错误
+			try {
+				batch.abort();
+			}catch (RuntimeException abortError) {
+				e.addSuppressed(abortError);
+			}
+			throw e;
+		}
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public Stream<Map<String, Object>> streamMap(String realPath) throws IOException {
+		return stream(input(realPath), consumer -> new MapResolver(consumer));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return Stream
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type) throws IOException {
+		return stream(in, type, consumer -> new MapResolver(consumer));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public Stream<Map<String, Object>> streamMap(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return stream(input(realPath), consumer -> new MapAliasResolver(titleAlias, consumer));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return Stream
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public Stream<Map<String, Object>> streamMap(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return stream(in, type, consumer -> new MapAliasResolver(titleAlias, consumer));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> Stream<T> streamJavaBean(String realPath, Class<T> clazs) throws IOException {
+		return stream(input(realPath), consumer -> javaBeanResolver(clazs, consumer));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据，只有在取用数据时才会读取并解析下一行
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>返回的Stream使用完毕后需要关闭（例如使用try-with-resources），提前结束时才会释放读取使用的资源
+	 * @param in Excel文件输入流，Stream关闭时一起关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return Stream
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> Stream<T> streamJavaBean(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return stream(in, type, consumer -> javaBeanResolver(clazs, consumer));
+	}
+	
+	/**
+	 * <p>按需读取输入流中的数据
+	 * <p>将{@link #iterator(InputStream, ExcelType, Function)}包装成顺序的{@link Stream}，关闭Stream时关闭迭代器
+	 * @param in 输入流，Stream关闭时一起关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return Stream
+	 * @throws IOException
+	 */
+	public <T> Stream<T> stream(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return stream(iterator(in, type, resolver));
+	}
+	
+	/**
+	 * <p>按需读取Excel数据
+	 * <p>将{@link #iterator(ExcelInput, Function)}包装成顺序的{@link Stream}，关闭Stream时关闭迭代器
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return Stream
+	 * @throws IOException
+	 */
+	public <T> Stream<T> stream(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return stream(iterator(input, resolver));
+	}
+	
+	private <T> Stream<T> stream(CloseableIterator<T> iterator) {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+	}
+	
+	/**
+	 * <p>按需读取输入流中的数据
+	 * <p>只有在调用{@link CloseableIterator#hasNext()}时才会读取并解析下一行，提前结束时需要调用{@link CloseableIterator#close()}
+	 * <p>不使用流式读取时，会先构建{@link Workbook}，再按行解析
+	 * @param in 输入流，迭代器关闭时一起关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return {@link CloseableIterator}
+	 * @throws IOException
+	 * @see RowIterator
+	 */
+	public <T> CloseableIterator<T> iterator(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return iterator(ExcelInput.of(in, type), in, resolver);
+	}
+	
+	/**
+	 * <p>按需读取Excel数据
+	 * <p>只有在调用{@link CloseableIterator#hasNext()}时才会读取并解析下一行，提前结束时需要调用{@link CloseableIterator#close()}
+	 * <p>不使用流式读取时，会先构建{@link Workbook}，再按行解析
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @return {@link CloseableIterator}
+	 * @throws IOException
+	 * @see RowIterator
+	 */
+	public <T> CloseableIterator<T> iterator(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		return iterator(input, null, resolver);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see #publisher(ExcelInput, Function, Executor)
+	 */
+	public RowPublisher<Map<String, Object>> publishMap(String realPath) {
+		return publisher(input(realPath), consumer -> new MapResolver(consumer), AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return {@link RowPublisher}
+	 * @see #publisher(InputStream, ExcelType, Function, Executor)
+	 */
+	public RowPublisher<Map<String, Object>> publishMap(InputStream in, ExcelType type) {
+		return publisher(in, type, consumer -> new MapResolver(consumer), AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see #publisher(ExcelInput, Function, Executor)
+	 */
+	public <T> RowPublisher<T> publishJavaBean(String realPath, Class<T> clazs) {
+		return publisher(input(realPath), consumer -> javaBeanResolver(clazs, consumer), AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据，订阅者请求了多少条数据才解析多少行，没有请求时暂停解析
+	 * <p>Excel的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * <p>在{@link AsyncTask#commonExecutor()}中读取与发布数据，订阅者第一次请求数据时才打开Excel
+	 * @param in Excel文件输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return {@link RowPublisher}
+	 * @see #publisher(InputStream, ExcelType, Function, Executor)
+	 */
+	public <T> RowPublisher<T> publishJavaBean(InputStream in, ExcelType type, Class<T> clazs) {
+		return publisher(in, type, consumer -> javaBeanResolver(clazs, consumer), AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取输入流中的数据
+	 * <p>把{@link #iterator(InputStream, ExcelType, Function)}包装成{@link RowPublisher}，请求了数据时才在executor中读取下一行
+	 * @param in 输入流，读取完毕、出错或取消订阅时关闭
+	 * @param type 文件类型
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param executor 读取与发布数据的线程池
+	 * @return {@link RowPublisher}
+	 */
+	public <T> RowPublisher<T> publisher(InputStream in, ExcelType type, Function<Consumer<T>, ReaderResolver> resolver, Executor executor) {
+		return new RowPublisher<T>(() -> iterator(ExcelInput.of(in, type), in, resolver), in, executor);
+	}
+	
+	/**
+	 * <p>按订阅者的请求读取Excel数据
+	 * <p>把{@link #iterator(ExcelInput, Function)}包装成{@link RowPublisher}，请求了数据时才在executor中读取下一行
+	 * @param input Excel数据来源
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param executor 读取与发布数据的线程池
+	 * @return {@link RowPublisher}
+	 */
+	public <T> RowPublisher<T> publisher(ExcelInput input, Function<Consumer<T>, ReaderResolver> resolver, Executor executor) {
+		return new RowPublisher<T>(() -> iterator(input, null, resolver), null, executor);
+	}
+	
+	private <T> CloseableIterator<T> iterator(ExcelInput input, Closeable in, Function<Consumer<T>, ReaderResolver> resolver) throws IOException {
+		RowSource source;
+		try {
+			source = createRowSource(input);
+			if(source == null) {
+				source = new SheetRowSource(sheet(createWorkbook(input)));
+			}
+		}catch (RuntimeException e) {
+			if(in != null) {
+				in.close();
+			}
+			throw e;
+		}catch (IOException e) {
+			if(in != null) {
+				in.close();
+			}
+			throw e;
+		}
+		source.formulaText(formulaMode == FormulaMode.FORMULA);
+		Function<Consumer<T>, ReaderResolver> matched = consumer -> {
+			ReaderResolver created = resolver.apply(consumer);
+			configure(created);
+			return created;
+		};
+		return new RowIterator<T>(source, in, matched, columns, range());
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(String realPath) throws IOException {
+		return readAllSheets(input(realPath), () -> new MapResolver());
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see MapResolver
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(InputStream in, ExcelType type) throws IOException {
+		return readAllSheets(in, type, () -> new MapResolver());
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(String realPath, TitleAlias[] titleAlias) throws IOException {
+		return readAllSheets(input(realPath), () -> new MapAliasResolver(titleAlias));
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为Map的键，可通过设置{@link TitleAlias}来实现在Map中的key值。
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param titleAlias Excel标题与Java字段(属性名)对应类数组
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see MapAliasResolver
+	 */
+	public Map<String, List<Map<String, Object>>> toMapAllSheets(InputStream in, ExcelType type, TitleAlias[] titleAlias) throws IOException {
+		return readAllSheets(in, type, () -> new MapAliasResolver(titleAlias));
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param realPath 根据realPath的后缀判断Excel的类型，如果没有后缀或后缀错误，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> Map<String, List<T>> toJavaBeanAllSheets(String realPath, Class<T> clazs) throws IOException {
+		return readAllSheets(input(realPath), () -> javaBeanResolver(clazs, null));
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * <p>每个sheet的第一行数据为标题（注意：标题必须是字符串）
+	 * <p>Excel的标题作为JavaBean的字段依据，可以在JavaBean字段上添加{@link ExcelField}注解来设置与标题对应的值
+	 * @param in Excel文件输入流
+	 * @param type Excel文件的类型，如果为空，将会抛出空指针异常。
+	 * @param clazs 需要存放数据的JavaBean对象
+	 * @return key为sheet名称，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see JavaBeanResolver
+	 */
+	public <T> Map<String, List<T>> toJavaBeanAllSheets(InputStream in, ExcelType type, Class<T> clazs) throws IOException {
+		return readAllSheets(in, type, () -> javaBeanResolver(clazs, null));
+	}
+	
+	/**
+	 * <p>读取输入流中所有sheet的数据
+	 * <p>流式读取时Excel文件只打开一次，共享字符串表与样式由所有sheet共用，
+	 * 每个sheet使用一个新的数据解析器，最多同时读取{@link #setParallelism(int)}个sheet
+	 * <p>否则构建{@link Workbook}后在调用线程中逐个读取
+	 * <p>没有数据的sheet对应的数据为空集合
+	 * <p>同时读取多个sheet时使用{@link AsyncTask#commonExecutor()}
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 */
+	public <T> Map<String, List<T>> readAllSheets(InputStream in, ExcelType type, Supplier<? extends ReaderResolver> resolver) throws IOException {
+		return readAllSheets(ExcelInput.of(in, type), resolver, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>读取输入流中所有sheet的数据
+	 * <p>同时读取多个sheet时使用executor，最多同时占用{@link #setParallelism(int)}个线程
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @param executor 同时读取多个sheet时使用的线程池
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see #readAllSheets(InputStream, ExcelType, Supplier)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(InputStream in, ExcelType type, Supplier<? extends ReaderResolver> resolver, Executor executor) throws IOException {
+		return readAllSheets(ExcelInput.of(in, type), resolver, executor);
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * @param input Excel数据来源
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see #readAllSheets(InputStream, ExcelType, Supplier)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(ExcelInput input, Supplier<? extends ReaderResolver> resolver) throws IOException {
+		return readAllSheets(input, resolver, AsyncTask.commonExecutor());
+	}
+	
+	/**
+	 * <p>读取Excel中所有sheet的数据
+	 * @param input Excel数据来源
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @param executor 同时读取多个sheet时使用的线程池
+	 * @return key为sheet名称，value为数据解析器的{@link ReaderResolver#data()}，按工作簿中的顺序排列
+	 * @throws IOException
+	 * @see #readAllSheets(InputStream, ExcelType, Supplier, Executor)
+	 */
+	public <T> Map<String, List<T>> readAllSheets(ExcelInput input, Supplier<? extends ReaderResolver> resolver, Executor executor) throws IOException {
+		if(executor == null) {
+			throw new NullPointerException("The [executor] cannot be null");
+		}
+		Map<String, List<T>> data = new LinkedHashMap<>();
+		WorkbookSource workbook = createWorkbookSource(input);
+		if(workbook == null) {
+			Workbook book = createWorkbook(input);
+			for(int i = 0; i < book.getNumberOfSheets(); i++) {
+				Sheet sheet = book.getSheetAt(i);
+				ReaderResolver sheetResolver = resolver.get();
+				reading(new SheetRowSource(sheet), sheetResolver);
+				data.put(sheet.getSheetName(), sheetResolver.<T>data());
+			}
+			return data;
+		}
+		try {
+			List<String> names = workbook.getSheetNames();
+			List<RowSource> sources = new ArrayList<>(names.size());
+			try {
+				for(String name : names) {
+					sources.add(workbook.openSheet(name));
+				}
+				List<List<T>> results = readingAll(sources, resolver, executor);
+				for(int i = 0; i < names.size(); i++) {
+					data.put(names.get(i), results.get(i));
+				}
+			}finally {
+				for(RowSource source : sources) {
+					source.close();
+				}
+			}
+		}finally {
+			workbook.close();
+		}
+		return data;
+	}
+	
+	/**
+	 * <p>读取多个sheet的数据，每个sheet使用一个新的数据解析器
+	 * <p>在executor中启动最多{@link #parallelism}个任务，每个任务依次读取还没有读取的sheet，
+	 * 不会为每次读取创建线程池；一个sheet读取出错时取消其它任务，并等待正在读取的任务结束后才返回（之后会关闭sources）
+	 * @param sources 每个sheet的行数据来源
+	 * @param resolver 为每个sheet创建数据解析器
+	 * @param executor 同时读取多个sheet时使用的线程池
+	 * @return 每个sheet的数据，与sources的顺序相同
+	 * @throws IOException
+	 */
+	private <T> List<List<T>> readingAll(List<RowSource> sources, Supplier<? extends ReaderResolver> resolver, Executor executor) throws IOException {
+		int size = sources.size();
+		List<List<T>> results = new ArrayList<>(size);
+		int threads = Math.min(parallelism, size);
+		if(threads <= 1) {
+			for(RowSource source : sources) {
+				ReaderResolver sheetResolver = resolver.get();
+				reading(source, sheetResolver);
+				results.add(sheetResolver.<T>data());
+			}
+			return results;
+		}
+		AtomicReferenceArray<List<T>> data = new AtomicReferenceArray<>(size);
+		AtomicInteger next = new AtomicInteger();
+		Workers running = new Workers();
+		List<AsyncTask<Void>> workers = new ArrayList<>(threads);
+		try {
+			for(int i = 0; i < threads; i++) {
+				workers.add(AsyncTask.submit(() -> {
+					if(!running.enter()) {
+						return null;
+					}
+					try {
+						int index;
+						while((index = next.getAndIncrement()) < size) {
+							ReaderResolver sheetResolver = resolver.get();
+							reading(sources.get(index), sheetResolver);
+							data.set(index, sheetResolver.<T>data());
+						}
+					}finally {
+						running.exit();
+					}
+					return null;
+				}, executor));
+			}
+			for(AsyncTask<Void> worker : workers) {
+				worker.get();
+			}
+			for(int i = 0; i < size; i++) {
+				results.add(data.get(i));
+			}
+			return results;
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ExcelReaderException("Interrupted while reading the sheets", e);
+		}catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof IOException) {
+				throw (IOException) cause;
+			}else if(cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}else if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new ExcelReaderException(cause);
+		}finally {
+			running.stop();
+			for(AsyncTask<Void> worker : workers) {
+				worker.cancel(true);
+			}
+			running.await();
+		}
+	}
+	
+	/**
+	 * 记录正在读取sheet的任务，停止后不再开始新的任务
+	 */
+	private static class Workers {
+		
+		private int active;
+		
+		private boolean stopped;
+		
+		synchronized boolean enter() {
+			if(stopped) {
+				return false;
+			}
+			active++;
+			return true;
+		}
+		
+		synchronized void exit() {
+			active--;
+			notifyAll();
+		}
+		
+		synchronized void stop() {
+			stopped = true;
+		}
+		
+		/**
+		 * 等待正在读取的任务结束，被中断时继续等待，结束后恢复中断状态
+		 */
+		synchronized void await() {
+			boolean interrupted = false;
+			while(active > 0) {
+				try {
+					wait();
+				}catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if(interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+	}
+	
+	/**
+	 * <p>使用in创建{@link WorkbookSource}对象，用于读取多个sheet
+	 * <p>当type为null时会抛出{@link NullPointerException}异常
+	 * @param in 输入流
+	 * @param type Excel文件类型
+	 * @return {@link WorkbookSource}，不使用流式读取时返回null
+	 * @throws IOException
+	 */
+	protected WorkbookSource createWorkbookSource(InputStream in, ExcelType type) throws IOException {
+		return createWorkbookSource(ExcelInput.of(in, type));
+	}
+	
+	/**
+	 * <p>使用input创建{@link WorkbookSource}对象
+	 * <p>当type为null时会抛出{@link NullPointerException}异常
+	 * @param input Excel数据来源
+	 * @return {@link WorkbookSource}，不使用流式读取、需要计算公式时返回null
+	 * @throws IOException
+	 */
+	protected WorkbookSource createWorkbookSource(ExcelInput input) throws IOException {
+		if(input.getType() == null) {
+			throw new NullPointerException("The [type] cannot be null");
+		}
+		if(!streaming || formulaMode == FormulaMode.EVALUATE) {
+			return null;
+		}
+		return input.openWorkbookSource(spillThreshold);
+	}
+	
+	/**
+	 * <p>使用input创建{@link Workbook}对象，不使用流式读取时调用
+	 * <p>当type为null时会抛出{@link NullPointerException}异常
+	 * @param input Excel数据来源
+	 * @return {@link Workbook}
+	 * @throws IOException
+	 */
+	protected Workbook createWorkbook(ExcelInput input) throws IOException {
+		try(InputStream in = input.openStream()) {
+			return createWorkbook(in, input.getType());
+		}
+	}
+	
+	/**
+	 * 使用文件路径创建数据来源
+	 */
+	private ExcelInput input(String realPath) {
+		return ExcelInput.of(Paths.get(realPath), getType(realPath));
+	}
+	
+	/**
+	 * <p>创建JavaBean解析器
+	 * <p>设置了{@link #setConvertThreads(int)}时创建{@link PipelinedJavaBeanResolver}
+	 * @param clazs JavaBean泛型类
+	 * @param consumer 数据的接收者，为null时数据放入集合
+	 * @return JavaBean解析器
+	 */
+	protected <T> JavaBeanResolver<T> javaBeanResolver(Class<T> clazs, Consumer<? super T> consumer) {
+		if(convertThreads > 0) {
+			return consumer == null ? new PipelinedJavaBeanResolver<T>(clazs, convertThreads, convertExecutor)
+					: new PipelinedJavaBeanResolver<T>(clazs, convertThreads, convertExecutor, consumer);
+		}
+		return consumer == null ? new JavaBeanResolver<T>(clazs) : new JavaBeanResolver<T>(clazs, consumer);
+	}
+	
+	/**
+	 * <p>读取输入流中的数据
+	 * <p>流式读取时使用输入流构造{@link RowSource}，逐行读取
+	 * <p>否则使用输入流构造{@link Workbook}，并取得需要获取数据的{@link Sheet}
+	 * @param in 输入流
+	 * @param type 文件类型
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 */
+	public void read(InputStream in, ExcelType type, ReaderResolver resolver) throws IOException {
+		read(ExcelInput.of(in, type), resolver);
+	}
+	
+	/**
+	 * <p>读取Excel数据
+	 * <p>流式读取时使用{@link WorkbookSource}打开需要读取的sheet，逐行读取，读取完毕后释放打开的文件
+	 * <p>否则构造{@link Workbook}，并取得需要获取数据的{@link Sheet}
+	 * @param input Excel数据来源
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 */
+	public void read(ExcelInput input, ReaderResolver resolver) throws IOException {
+		RowSource source = createRowSource(input);
+		if(source != null) {
+			try {
+				reading(source, resolver);
+			}finally {
+				source.close();
+			}
+			return;
+		}
+		Workbook workbook = createWorkbook(input);
+		Sheet sheet = sheet(workbook);
+		reading(sheet, resolver);
+	}
+	
+	/**
+	 * <p>使用in创建{@link RowSource}对象
+	 * <p>当type为null时会抛出{@link NullPointerException}异常
+	 * @param in 输入流
+	 * @param type Excel文件类型
+	 * @return {@link RowSource}，不使用流式读取时返回null
+	 * @throws IOException
+	 */
+	protected RowSource createRowSource(InputStream in, ExcelType type) throws IOException {
+		return createRowSource(ExcelInput.of(in, type));
+	}
+	
+	/**
+	 * <p>使用input创建读取{@link #sheetName}的{@link RowSource}对象，关闭时一起关闭工作簿
+	 * <p>当type为null时会抛出{@link NullPointerException}异常
+	 * @param input Excel数据来源
+	 * @return {@link RowSource}，不使用流式读取时返回null
+	 * @throws IOException
+	 */
+	protected RowSource createRowSource(ExcelInput input) throws IOException {
+		WorkbookSource workbook = createWorkbookSource(input);
+		if(workbook == null) {
+			return null;
+		}
+		return new WorkbookRowSource(workbook, sheetName);
+	}
+	
+	/**
+	 * <p>逐行读取{@link RowSource}的数据
+	 * <p>第一行作为标题，sheet没有数据时只会调用{@link ReaderResolver#finish()}
+	 * <p>读取标题后由解析器确定需要读取的列，没有选中的列不会被解码
+	 * <p>只读取{@link RowRange}范围内的行，范围结束后不再读取后面的行
+	 * <p>线程被中断时（例如取消了异步读取）不再读取后面的行，抛出{@link ExcelReaderException}
+	 * @param source 行数据来源
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 */
+	public void reading(RowSource source, ReaderResolver resolver) throws IOException {
+		Row row = source.next();
+		if(row != null) {
+			RowRange range = range();
+			configure(resolver);
+			resolver.title(row);
+			source.project(resolver.project(columns));
+			source.formulaText(formulaMode == FormulaMode.FORMULA);
+			source.skipTo(range.getStartRow());
+			int count = 0;
+			while(!range.isFull(count) && (row = source.next()) != null) {
+				if(row.getRowNum() < range.getStartRow()) {
+					continue;
+				}
+				if(range.isStop(row)) {
+					break;
+				}
+				interrupted();
+				resolver.row(row, row.getRowNum());
+				count++;
+			}
+		}
+		resolver.finish();
+	}
+	
+	/**
+	 * 把标题的匹配方式、数字与公式的返回方式、字符串去重表交给解析器
+	 * @param resolver 数据解析器
+	 */
+	private void configure(ReaderResolver resolver) {
+		resolver.matching(titleMatching);
+		resolver.numbers(numberMode);
+		resolver.formulas(formulaMode);
+		resolver.strings(stringPoolSize > 0 ? new StringPool(stringPoolSize) : null);
+	}
+	
+	/**
+	 * <p>读取sheet的数据
+	 * <p>只读取{@link RowRange}范围内的行，中间缺失的行以空行的形式交给解析器，不会修改sheet
+	 * <p>读取标题后由解析器确定需要读取的列，没有选中的列在{@link ReaderResolver#row(Row, int)}中获取到的是null
+	 * <p>线程被中断时（例如取消了异步读取）不再读取后面的行，抛出{@link ExcelReaderException}
+	 * @param sheet 需要读取的{@link Sheet}对象
+	 * @param resolver 数据解析器
+	 * @throws IOException
+	 */
+	public void reading(Sheet sheet, ReaderResolver resolver) throws IOException {
+		configure(resolver);
+		resolver.title(sheet.getRow(0));
+		boolean[] selected = resolver.project(columns);
+		ProjectedRow projected = selected == null ? null : new ProjectedRow(selected);
+		StreamingRow empty = new StreamingRow(null, false);
+		RowRange range = range();
+		int rowNum = sheet.getLastRowNum();
+		Row row;
+		for(int i = range.getStartRow(), count = 0; i <= rowNum && !range.isFull(count); i++, count++) {
+			row = sheet.getRow(i);
+			if(row == null) {
+				empty.reset(i);
+				row = empty;
+			}else if(projected != null) {
+				row = projected.wrap(row);
+			}
+			if(range.isStop(row)) {
+				break;
+			}
+			interrupted();
+			resolver.row(row, i);
+		}
+		resolver.finish();
+	}
+	
+	/**
+	 * <p>线程被中断时结束读取（例如取消了异步读取）
+	 * <p>不会清除中断状态
+	 */
+	private void interrupted() {
+		if(Thread.currentThread().isInterrupted()) {
+			throw new ExcelReaderException("Interrupted while reading the rows");
+		}
+	}
+	
+	/**
+	 * 获取当前设置的读取范围
+	 */
+	private RowRange range() {
+		if(startRow == 1 && maxRows <= 0 && stopWhen == null) {
+			return RowRange.ALL;
 		}
+		return new RowRange(startRow, maxRows, stopWhen);
 	}
 	
 	/**
@@ -3,6 +3,9 @@ package org.hutrace.exceltool.read;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.Row;
+import org.hutrace.exceltool.pojo.FormulaMode;
+import org.hutrace.exceltool.pojo.NumberMode;
+import org.hutrace.exceltool.pojo.TitleMatching;
 
 /**
  * <p>读取Excel数据的数据解析器标准接口
@@ -26,6 +29,56 @@ public interface ReaderResolver {
 	 */
 	void row(Row row, int index);
 	
+	/**
+	 * <p>读取标题之前调用，设置调用者指定的标题匹配方式
+	 * <p>默认忽略，按标题匹配字段或别名的解析器需要在{@link #title(Row)}中使用它
+	 * @param matching 标题的匹配方式
+	 */
+	default void matching(TitleMatching matching) {
+	}
+	
+	/**
+	 * <p>读取标题之前调用，设置调用者指定的数字类型的列的返回方式
+	 * <p>默认忽略
+	 * @param numbers 数字类型的列的返回方式
+	 */
+	default void numbers(NumberMode numbers) {
+	}
+	
+	/**
+	 * <p>读取标题之前调用，设置调用者指定的公式类型的列的返回方式
+	 * <p>默认忽略
+	 * @param formulas 公式类型的列的返回方式
+	 */
+	default void formulas(FormulaMode formulas) {
+	}
+	
+	/**
+	 * <p>读取标题之前调用，设置本次读取使用的字符串去重表
+	 * <p>默认忽略，为null时表示不去重
+	 * @param strings 字符串去重表
+	 */
+	default void strings(StringPool strings) {
+	}
+	
+	/**
+	 * <p>读取标题之后调用，确定需要读取的列
+	 * <p>没有选中的列在流式读取时不会被解码，{@link #row(Row, int)}中获取到的是null
+	 * <p>默认读取所有列，忽略调用者指定的列
+	 * @param projection 调用者指定的列，为null时表示没有指定
+	 * @return 列下标上是否需要读取，超出数组长度的列不读取；为null时读取所有列
+	 */
+	default boolean[] project(ColumnProjection projection) {
+		return null;
+	}
+	
+	/**
+	 * <p>sheet读取完毕时触发的方法
+	 * <p>没有缓存数据的解析器不需要实现此方法
+	 */
+	default void finish() {
+	}
+	
 	/**
 	 * 获取读取的数据集合
 	 * @return
@@ -0,0 +1,183 @@
+package org.hutrace.exceltool.read;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.read.streaming.RowSource;
+
+/**
+ * <p>按需读取行数据的迭代器
+ * <p>调用{@link #hasNext()}时才从{@link RowSource}读取下一行，并交给{@link ReaderResolver}解析
+ * <p>第一行作为标题，解析器通过{@link Consumer}交出的数据暂存在队列中，等待调用者取走
+ * <p>只读取{@link RowRange}范围内的行，范围结束时和迭代完毕一样关闭
+ * <p>迭代完毕或调用{@link #close()}时关闭{@link RowSource}与输入流
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T>
+ * @see Reader#iterator(java.io.InputStream, org.hutrace.exceltool.pojo.ExcelType, Function)
+ */
+public class RowIterator<T> implements CloseableIterator<T> {
+	
+	/**
+	 * 行数据来源
+	 */
+	private RowSource source;
+	
+	/**
+	 * 读取的输入流，关闭时一起关闭
+	 */
+	private Closeable in;
+	
+	/**
+	 * 数据解析器
+	 */
+	private ReaderResolver resolver;
+	
+	/**
+	 * 调用者指定的需要读取的列
+	 */
+	private ColumnProjection projection;
+	
+	/**
+	 * 读取的行范围
+	 */
+	private RowRange range;
+	
+	/**
+	 * 已经读取的数据行数
+	 */
+	private int count;
+	
+	/**
+	 * 解析完成，等待取走的数据
+	 */
+	private ArrayDeque<T> buffer = new ArrayDeque<>();
+	
+	/**
+	 * 是否已经读取了标题
+	 */
+	private boolean titled;
+	
+	/**
+	 * 是否已经读取完毕
+	 */
+	private boolean finished;
+	
+	/**
+	 * 是否已经关闭
+	 */
+	private boolean closed;
+	
+	/**
+	 * @param source 行数据来源
+	 * @param in 读取的输入流，关闭时一起关闭，可以为null
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 */
+	public RowIterator(RowSource source, Closeable in, Function<Consumer<T>, ReaderResolver> resolver) {
+		this(source, in, resolver, null);
+	}
+	
+	/**
+	 * @param source 行数据来源
+	 * @param in 读取的输入流，关闭时一起关闭，可以为null
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param projection 需要读取的列，为null时由解析器决定
+	 */
+	public RowIterator(RowSource source, Closeable in, Function<Consumer<T>, ReaderResolver> resolver, ColumnProjection projection) {
+		this(source, in, resolver, projection, RowRange.ALL);
+	}
+	
+	/**
+	 * @param source 行数据来源
+	 * @param in 读取的输入流，关闭时一起关闭，可以为null
+	 * @param resolver 使用{@link Consumer}创建数据解析器，解析器需要把解析后的数据交给它
+	 * @param projection 需要读取的列，为null时由解析器决定
+	 * @param range 读取的行范围，范围结束后不再读取后面的行
+	 */
+	public RowIterator(RowSource source, Closeable in, Function<Consumer<T>, ReaderResolver> resolver, ColumnProjection projection, RowRange range) {
+		this.source = source;
+		this.in = in;
+		this.resolver = resolver.apply(buffer::add);
+		this.projection = projection;
+		this.range = range;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while(buffer.isEmpty()) {
+			if(finished) {
+				close();
+				return false;
+			}
+			Row row = titled && range.isFull(count) ? null : read();
+			if(row != null && titled) {
+				if(row.getRowNum() < range.getStartRow()) {
+					continue;
+				}
+				if(range.isStop(row)) {
+					row = null;
+				}
+			}
+			if(row == null) {
+				finished = true;
+				resolver.finish();
+				continue;
+			}
+			if(titled) {
+				resolver.row(row, row.getRowNum());
+				count++;
+			}else {
+				resolver.title(row);
+				source.project(resolver.project(projection));
+				source.skipTo(range.getStartRow());
+				titled = true;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if(!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return buffer.poll();
+	}
+	
+	private Row read() {
+		try {
+			return source.next();
+		}catch (IOException e) {
+			close();
+			throw new ExcelReaderException("Failed to read the next row", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		finished = true;
+		try {
+			try {
+				source.close();
+			}finally {
+				if(in != null) {
+					in.close();
+				}
+			}
+		}catch (IOException e) {
+			throw new ExcelReaderException("Failed to close the excel", e);
+		}
+	}
+
+}
@@ -0,0 +1,377 @@
+package org.hutrace.exceltool.read;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>读取成Map时每一行使用的Map
+ * <p>同一个sheet的所有行共用一个不可修改的键表（{@link Keys}，读取标题时创建），每一行只保存一个Object[]，
+ * 不会像{@link HashMap}那样为每一行创建哈希表与Entry对象，列数多时内存占用小很多，遍历也更快
+ * <p>实现完整的{@link Map}语义，可以修改、删除已有的键；加入标题以外的键时使用一个额外的{@link LinkedHashMap}保存
+ * <p>按标题的顺序遍历，标题以外的键在最后
+ * <p>序列化时写入为{@link LinkedHashMap}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see MapResolver
+ * @see MapAliasResolver
+ */
+public final class RowMap extends AbstractMap<String, Object> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 已删除的值
+	 */
+	private static final Object ABSENT = new Object();
+
+	/**
+	 * 共用的键表
+	 */
+	private final Keys keys;
+
+	/**
+	 * 与{@link Keys#names}顺序一致的值，已删除的为{@link #ABSENT}
+	 */
+	private final Object[] values;
+
+	/**
+	 * 没有删除的值的个数
+	 */
+	private int present;
+
+	/**
+	 * 标题以外的键值，没有时为null
+	 */
+	private Map<String, Object> extra;
+
+	/**
+	 * 遍历所有键值的视图
+	 */
+	private transient Set<Map.Entry<String, Object>> entrySet;
+
+	/**
+	 * @param keys 共用的键表
+	 * @param values 与键表顺序一致的值，直接使用不会复制
+	 */
+	RowMap(Keys keys, Object[] values) {
+		this.keys = keys;
+		this.values = values;
+		this.present = values.length;
+	}
+
+	@Override
+	public int size() {
+		return extra == null ? present : present + extra.size();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int slot = keys.slot(key);
+		if(slot >= 0) {
+			return values[slot] != ABSENT;
+		}
+		return extra != null && extra.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		int slot = keys.slot(key);
+		if(slot >= 0) {
+			Object value = values[slot];
+			return value == ABSENT ? null : value;
+		}
+		return extra == null ? null : extra.get(key);
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		int slot = keys.slot(key);
+		if(slot >= 0) {
+			Object old = values[slot];
+			values[slot] = value;
+			if(old == ABSENT) {
+				present++;
+				return null;
+			}
+			return old;
+		}
+		if(extra == null) {
+			extra = new LinkedHashMap<>();
+		}
+		return extra.put(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		int slot = keys.slot(key);
+		if(slot >= 0) {
+			return removeSlot(slot);
+		}
+		return extra == null ? null : extra.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(values, ABSENT);
+		present = 0;
+		extra = null;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action) {
+		Objects.requireNonNull(action);
+		for(int i = 0; i < values.length; i++) {
+			if(values[i] != ABSENT) {
+				action.accept(keys.names[i], values[i]);
+			}
+		}
+		if(extra != null) {
+			extra.forEach(action);
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		Set<Map.Entry<String, Object>> set = entrySet;
+		if(set == null) {
+			entrySet = set = new EntrySet();
+		}
+		return set;
+	}
+
+	private Object removeSlot(int slot) {
+		Object old = values[slot];
+		if(old == ABSENT) {
+			return null;
+		}
+		values[slot] = ABSENT;
+		present--;
+		return old;
+	}
+
+	private Object writeReplace() {
+		return new LinkedHashMap<>(this);
+	}
+
+	/**
+	 * <p>一个sheet共用的键表，读取标题时创建，之后不可修改
+	 * <p>多个标题相同时使用同一个位置，与{@link HashMap#put(Object, Object)}一样，后面的列会覆盖前面的列
+	 */
+	static final class Keys {
+
+		/**
+		 * 不重复的键，按第一次出现的顺序排列
+		 */
+		private final String[] names;
+
+		/**
+		 * 键到位置的索引
+		 */
+		private final Map<String, Integer> index;
+
+		/**
+		 * 每一列的值在{@link RowMap#values}中的位置，没有选中的列为-1
+		 */
+		private final int[] slots;
+
+		/**
+		 * @param keys 每一列的键
+		 * @param columns 需要读取的列，为null时读取所有列
+		 */
+		Keys(String[] keys, boolean[] columns) {
+			Map<String, Integer> index = new HashMap<>(keys.length * 4 / 3 + 1);
+			String[] names = new String[keys.length];
+			int[] slots = new int[keys.length];
+			int size = 0;
+			for(int i = 0; i < keys.length; i++) {
+				if(columns != null && !columns[i]) {
+					slots[i] = -1;
+					continue;
+				}
+				Integer slot = index.get(keys[i]);
+				if(slot == null) {
+					slot = size;
+					names[size++] = keys[i];
+					index.put(keys[i], slot);
+				}
+				slots[i] = slot;
+			}
+			this.names = Arrays.copyOf(names, size);
+			this.index = index;
+			this.slots = slots;
+		}
+
+		/**
+		 * 键的个数
+		 * @return 键的个数
+		 */
+		int size() {
+			return names.length;
+		}
+
+		/**
+		 * 列的值在{@link RowMap}中的位置
+		 * @param column 列下标
+		 * @return 位置，没有选中的列返回-1
+		 */
+		int column(int column) {
+			return slots[column];
+		}
+
+		/**
+		 * 键在{@link RowMap}中的位置
+		 * @param key 键
+		 * @return 位置，不是标题时返回-1
+		 */
+		private int slot(Object key) {
+			Integer slot = index.get(key);
+			return slot == null ? -1 : slot;
+		}
+
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+		@Override
+		public int size() {
+			return RowMap.this.size();
+		}
+
+		@Override
+		public void clear() {
+			RowMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator() {
+			return new EntryIterator();
+		}
+
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+		/**
+		 * 下一个位置
+		 */
+		private int next = advance(0);
+
+		/**
+		 * 上一次返回的位置，-1表示没有，-2表示在{@link #extras}中
+		 */
+		private int last = -1;
+
+		/**
+		 * 遍历标题以外的键值
+		 */
+		private Iterator<Map.Entry<String, Object>> extras;
+
+		private int advance(int from) {
+			while(from < values.length && values[from] == ABSENT) {
+				from++;
+			}
+			return from;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if(next < values.length) {
+				return true;
+			}
+			if(extras == null && extra != null) {
+				extras = extra.entrySet().iterator();
+			}
+			return extras != null && extras.hasNext();
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if(next < values.length) {
+				last = next;
+				next = advance(next + 1);
+				return new Entry(last);
+			}
+			if(!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = -2;
+			return extras.next();
+		}
+
+		@Override
+		public void remove() {
+			if(last == -1) {
+				throw new IllegalStateException();
+			}
+			if(last == -2) {
+				extras.remove();
+			}else {
+				removeSlot(last);
+			}
+			last = -1;
+		}
+
+	}
+
+	private final class Entry implements Map.Entry<String, Object> {
+
+		private final int slot;
+
+		private Entry(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public String getKey() {
+			return keys.names[slot];
+		}
+
+		@Override
+		public Object getValue() {
+			Object value = values[slot];
+			return value == ABSENT ? null : value;
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			Object old = getValue();
+			if(values[slot] == ABSENT) {
+				present++;
+			}
+			values[slot] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+
+	}
+
+}
@@ -0,0 +1,253 @@
+package org.hutrace.exceltool.read;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * <p>按订阅者的请求推送读取数据的发布者，实现了Reactive Streams的{@link Publisher}，可以直接交给Reactor、RxJava等响应式框架，
+ * JDK 9以上可以使用FlowAdapters转换成java.util.concurrent.Flow.Publisher
+ * <p>订阅者请求数据后才在executor中打开Excel，之后每请求一条数据才通过{@link CloseableIterator}读取并解析一行，
+ * 请求的数据发布完后暂停解析，不会提前读取后面的行，内存中只保留当前行的数据
+ * <p>读取完毕、出错或取消订阅时关闭读取使用的资源（包括输入流）
+ * <p>只能订阅一次，再次订阅时以{@link IllegalStateException}结束
+ * <p>Reactive Streams不允许发布null，解析器返回null时以{@link NullPointerException}结束
+ * <p>同一时间只有一个线程在读取与发布数据，在{@link Subscriber#onNext(Object)}中请求数据不会递归调用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T> 发布的数据
+ * @see Reader#publisher(ExcelInput, java.util.function.Function, Executor)
+ */
+public class RowPublisher<T> implements Publisher<T> {
+
+	/**
+	 * 打开迭代器
+	 */
+	private final Callable<? extends CloseableIterator<T>> opener;
+
+	/**
+	 * 读取的输入流，没有打开迭代器就结束时关闭它，可以为null
+	 */
+	private final Closeable in;
+
+	/**
+	 * 读取与发布数据的线程池
+	 */
+	private final Executor executor;
+
+	/**
+	 * 是否已经被订阅
+	 */
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	/**
+	 * @param opener 打开迭代器，在executor中第一次请求数据时调用
+	 * @param in 读取的输入流，打开迭代器后由迭代器关闭，没有打开迭代器就结束时由发布者关闭，可以为null
+	 * @param executor 读取与发布数据的线程池
+	 */
+	public RowPublisher(Callable<? extends CloseableIterator<T>> opener, Closeable in, Executor executor) {
+		if(opener == null) {
+			throw new NullPointerException("The [opener] cannot be null");
+		}
+		if(executor == null) {
+			throw new NullPointerException("The [executor] cannot be null");
+		}
+		this.opener = opener;
+		this.in = in;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super T> subscriber) {
+		if(subscriber == null) {
+			throw new NullPointerException("The [subscriber] cannot be null");
+		}
+		if(!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Subscription() {
+				@Override
+				public void request(long n) {
+				}
+				@Override
+				public void cancel() {
+				}
+			});
+			subscriber.onError(new IllegalStateException("The publisher can only be subscribed once"));
+			return;
+		}
+		subscriber.onSubscribe(new RowSubscription(subscriber));
+	}
+
+	/**
+	 * <p>一次订阅
+	 * <p>request与cancel只增加计数并安排一次发布，迭代器只在发布的线程中使用
+	 */
+	private class RowSubscription implements Subscription, Runnable {
+
+		private final Subscriber<? super T> subscriber;
+
+		/**
+		 * 已请求但还没有发布的个数，{@link Long#MAX_VALUE}表示不限制
+		 */
+		private final AtomicLong requested = new AtomicLong();
+
+		/**
+		 * 需要处理的请求次数，不为0时已经有线程在发布
+		 */
+		private final AtomicInteger pending = new AtomicInteger();
+
+		/**
+		 * 读取数据的迭代器，第一次发布时打开
+		 */
+		private CloseableIterator<T> iterator;
+
+		/**
+		 * 非法请求的错误
+		 */
+		private volatile Throwable invalid;
+
+		private volatile boolean cancelled;
+
+		/**
+		 * 是否已经结束（完成、出错或取消）
+		 */
+		private boolean done;
+
+		private RowSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if(n <= 0) {
+				invalid = new IllegalArgumentException("The [n] must be greater than 0, but was " + n);
+			}else {
+				long current, next;
+				do {
+					current = requested.get();
+					next = current + n < 0 ? Long.MAX_VALUE : current + n;
+				}while(!requested.compareAndSet(current, next));
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			schedule();
+		}
+
+		private void schedule() {
+			if(pending.getAndIncrement() == 0) {
+				try {
+					executor.execute(this);
+				}catch (RuntimeException e) {
+					pending.set(0);
+					cancelled = true;
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		/**
+		 * 发布请求的数据，直到请求的个数用完或结束
+		 */
+		@Override
+		public void run() {
+			int missed = 1;
+			while(true) {
+				if(done) {
+					return;
+				}
+				if(cancelled) {
+					close();
+					return;
+				}
+				if(invalid != null) {
+					close();
+					subscriber.onError(invalid);
+					return;
+				}
+				long limit = requested.get();
+				long emitted = 0;
+				while(emitted != limit) {
+					if(cancelled) {
+						close();
+						return;
+					}
+					boolean hasNext;
+					T item;
+					try {
+						if(iterator == null) {
+							iterator = opener.call();
+						}
+						hasNext = iterator.hasNext();
+						item = hasNext ? iterator.next() : null;
+					}catch (Throwable e) {
+						close();
+						subscriber.onError(e);
+						return;
+					}
+					if(!hasNext) {
+						close();
+						subscriber.onComplete();
+						return;
+					}
+					if(item == null) {
+						// Reactive Streams不允许发布null（规则2.13）
+						close();
+						subscriber.onError(new NullPointerException("The published item cannot be null"));
+						return;
+					}
+					try {
+						subscriber.onNext(item);
+					}catch (Throwable e) {
+						// 订阅者出错视为取消订阅
+						cancelled = true;
+						close();
+						throw e;
+					}
+					emitted++;
+				}
+				if(emitted != 0 && limit != Long.MAX_VALUE) {
+					requested.addAndGet(-emitted);
+				}
+				missed = pending.addAndGet(-missed);
+				if(missed == 0) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * 结束订阅并关闭迭代器，关闭时的错误不会再通知订阅者
+		 */
+		private void close() {
+			done = true;
+			if(iterator != null) {
+				try {
+					iterator.close();
+				}catch (RuntimeException e) {
+					// 已经结束，忽略关闭时的错误
+				}
+				iterator = null;
+			}else if(in != null) {
+				try {
+					in.close();
+				}catch (IOException e) {
+					// 已经结束，忽略关闭时的错误
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,77 @@
+package org.hutrace.exceltool.read;
+
+import java.util.function.Predicate;
+
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * <p>读取的行范围
+ * <p>从{@link #startRow}开始读取，读取{@link #maxRows}行或者{@link #stopWhen}返回true时结束
+ * <p>流式读取时，范围之前的行不会被解码，范围结束后立即停止读取并释放输入
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Reader#setStartRow(int)
+ * @see Reader#setMaxRows(int)
+ * @see Reader#setStopWhen(Predicate)
+ */
+public class RowRange {
+
+	/**
+	 * 读取所有数据行的范围
+	 */
+	public static final RowRange ALL = new RowRange(1, 0, null);
+
+	/**
+	 * 第一个读取的行下标
+	 */
+	private int startRow;
+
+	/**
+	 * 最多读取的行数，小于等于0时不限制
+	 */
+	private int maxRows;
+
+	/**
+	 * 结束读取的条件，为null时读取到sheet的最后一行
+	 */
+	private Predicate<? super Row> stopWhen;
+
+	/**
+	 * @param startRow 第一个读取的行下标，标题的行下标为0，小于1时从1开始
+	 * @param maxRows 最多读取的行数，小于等于0时不限制
+	 * @param stopWhen 结束读取的条件，返回true的行以及之后的行都不会读取，为null时不限制
+	 */
+	public RowRange(int startRow, int maxRows, Predicate<? super Row> stopWhen) {
+		this.startRow = Math.max(startRow, 1);
+		this.maxRows = maxRows;
+		this.stopWhen = stopWhen;
+	}
+
+	/**
+	 * 获取第一个读取的行下标
+	 * @return 第一个读取的行下标
+	 */
+	public int getStartRow() {
+		return startRow;
+	}
+
+	/**
+	 * 已经读取的行数是否达到了{@link #maxRows}
+	 * @param count 已经读取的行数
+	 * @return 是否达到了最大行数
+	 */
+	public boolean isFull(int count) {
+		return maxRows > 0 && count >= maxRows;
+	}
+
+	/**
+	 * 是否在这一行结束读取，这一行不会被读取
+	 * @param row 行对象
+	 * @return 是否结束读取
+	 */
+	public boolean isStop(Row row) {
+		return stopWhen != null && stopWhen.test(row);
+	}
+
+}
@@ -0,0 +1,83 @@
+package org.hutrace.exceltool.read;
+
+/**
+ * <p>读取时的字符串去重表
+ * <p>相同的字符串只保留第一次读取到的对象，后面读取到的相同字符串返回这个对象，
+ * 分类、状态、地区等重复很多的列读取成Map后占用的内存会大幅减少
+ * <p>使用开放地址法的哈希表，最多保存指定个数的字符串，满了之后不再加入新的字符串（已有的字符串仍然去重），
+ * 重复多的字符串一般很早就会出现，取值很多的列不会让表无限增长
+ * <p>超过{@link #MAX_LENGTH}长度的字符串很少重复，不会加入
+ * <p>每次读取使用一个新的对象，不能在多个线程中同时使用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Reader#setStringPoolSize(int)
+ */
+public class StringPool {
+
+	/**
+	 * 加入去重表的字符串的最大长度
+	 */
+	public static final int MAX_LENGTH = 128;
+
+	/**
+	 * 哈希表，长度为2的幂，至少是{@link #capacity}的2倍
+	 */
+	private final String[] table;
+
+	/**
+	 * 最多保存的字符串个数
+	 */
+	private final int capacity;
+
+	/**
+	 * 已保存的字符串个数
+	 */
+	private int size;
+
+	/**
+	 * @param capacity 最多保存的字符串个数
+	 */
+	public StringPool(int capacity) {
+		if(capacity <= 0 || capacity > 1 << 28) {
+			throw new IllegalArgumentException("The [capacity] must be between 1 and " + (1 << 28));
+		}
+		this.capacity = capacity;
+		this.table = new String[Integer.highestOneBit(capacity) << 2];
+	}
+
+	/**
+	 * 获取与value相同的字符串对象
+	 * @param value 读取到的字符串
+	 * @return 去重表中相同的字符串，没有时返回value（表没有满时加入去重表）
+	 */
+	public String intern(String value) {
+		if(value == null || value.length() > MAX_LENGTH) {
+			return value;
+		}
+		int mask = table.length - 1;
+		int hash = value.hashCode();
+		int i = (hash ^ (hash >>> 16)) & mask;
+		String existing;
+		while((existing = table[i]) != null) {
+			if(existing.equals(value)) {
+				return existing;
+			}
+			i = (i + 1) & mask;
+		}
+		if(size < capacity) {
+			table[i] = value;
+			size++;
+		}
+		return value;
+	}
+
+	/**
+	 * 已保存的字符串个数
+	 * @return 字符串个数
+	 */
+	public int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,113 @@
+package org.hutrace.exceltool.read;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.hutrace.exceltool.pojo.NumberMode;
+
+/**
+ * <p>读取Excel数据解析器
+ * <p>将数据按列解析成{@link ExcelTable}，不会为每一行创建对象
+ * <p>Excel的第一行数据为标题（注意：标题必须是字符串），标题确定列的个数与名称，列的类型由数据确定
+ * <p>数字类型的列总是按{@link NumberMode#TYPED}读取
+ * <p>sheet读取完毕后{@link #data()}中只有一个{@link ExcelTable}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see ExcelTable
+ */
+// 继承的AbstractReaderResolver.data()以非泛型的返回值实现ReaderResolver的泛型方法，只能忽略这个警告
+@SuppressWarnings("unchecked")
+public class TableResolver extends AbstractReaderResolver<ExcelTable> {
+
+	public TableResolver() {
+		super();
+	}
+
+	/**
+	 * 所有的列，与标题的顺序一致
+	 */
+	private ExcelColumn[] columns;
+
+	/**
+	 * 需要读取的列在标题中的下标
+	 */
+	private int[] indexes;
+
+	/**
+	 * 已读取的行数
+	 */
+	private int rowCount;
+
+	/**
+	 * 读取完毕的数据
+	 */
+	private ExcelTable table;
+
+	@Override
+	public void title(Row row) {
+		int cellNum = row.getLastCellNum();
+		columns = new ExcelColumn[cellNum];
+		indexes = new int[cellNum];
+		for(int i = 0; i < cellNum; i++) {
+			columns[i] = new ExcelColumn(cell(row.getCell(i), 0, i).toString());
+			indexes[i] = i;
+		}
+	}
+
+	/**
+	 * 只有指定的列会放入{@link ExcelTable}
+	 */
+	@Override
+	public boolean[] project(ColumnProjection projection) {
+		if(projection == null) {
+			return null;
+		}
+		String[] titles = new String[columns.length];
+		for(int i = 0; i < titles.length; i++) {
+			titles[i] = columns[i].title();
+		}
+		boolean[] selected = projection.select(titles);
+		List<ExcelColumn> projected = new ArrayList<>();
+		int size = 0;
+		for(int i = 0; i < selected.length; i++) {
+			if(selected[i]) {
+				projected.add(columns[i]);
+				indexes[size++] = i;
+			}
+		}
+		columns = projected.toArray(new ExcelColumn[size]);
+		return selected;
+	}
+
+	@Override
+	public void row(Row row, int index) {
+		for(int i = 0; i < columns.length; i++) {
+			int cellIndex = indexes[i];
+			columns[i].add(cell(row.getCell(cellIndex), index, cellIndex, NumberMode.TYPED));
+		}
+		rowCount++;
+	}
+
+	@Override
+	public void finish() {
+		if(columns == null) {
+			columns = new ExcelColumn[0];
+		}
+		for(ExcelColumn column : columns) {
+			column.finish();
+		}
+		table = new ExcelTable(columns, rowCount, matching);
+		add(table);
+	}
+
+	/**
+	 * 获取读取的数据
+	 * @return sheet读取完毕前返回null
+	 */
+	public ExcelTable table() {
+		return table;
+	}
+
+}
@@ -0,0 +1,162 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * <p>行数据来源的抽象类
+ * <p>实现{@link RowSource}接口，负责行号的连续（补齐中间缺失的空行）与行对象的复用
+ * <p>子类只需要实现{@link #nextRowIndex()}与{@link #readRow(StreamingRow)}，按顺序读取有数据的行
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see RowSource
+ */
+public abstract class AbstractRowSource implements RowSource {
+
+	/**
+	 * 有数据的行复用的行对象
+	 */
+	private StreamingRow row;
+
+	/**
+	 * 缺失的行复用的空行对象
+	 */
+	private StreamingRow empty;
+
+	/**
+	 * 下一次应该返回的行下标
+	 */
+	private int expected;
+
+	/**
+	 * 已经定位到的下一个有数据的行下标，-1表示还未定位
+	 */
+	private int pending = -1;
+
+	/**
+	 * 是否已经读取完毕
+	 */
+	private boolean ended;
+
+	/**
+	 * 需要读取的列，为null时读取所有列
+	 */
+	private boolean[] columns;
+
+	/**
+	 * 行下标小于它的行直接跳过，不解码
+	 */
+	private int skipBelow;
+
+	/**
+	 * 是否需要公式的文本
+	 */
+	protected boolean formulaText = true;
+
+	/**
+	 * 初始化复用的行对象，子类读取完工作簿信息后调用
+	 * @param formats 数字格式表
+	 * @param date1904 是否使用1904日期系统
+	 */
+	protected void init(NumberFormats formats, boolean date1904) {
+		row = new StreamingRow(formats, date1904);
+		empty = new StreamingRow(formats, date1904);
+	}
+
+	@Override
+	public Row next() throws IOException {
+		if(ended) {
+			return null;
+		}
+		while(true) {
+			if(pending < 0) {
+				pending = nextRowIndex();
+				if(pending < 0) {
+					ended = true;
+					return null;
+				}
+			}
+			if(pending >= skipBelow) {
+				break;
+			}
+			skipRow(pending);
+			pending = -1;
+		}
+		if(expected < skipBelow) {
+			expected = skipBelow;
+		}
+		if(pending > expected) {
+			empty.reset(expected++);
+			return empty;
+		}
+		row.reset(pending);
+		readRow(row);
+		expected = pending + 1;
+		pending = -1;
+		return row;
+	}
+
+	@Override
+	public void skipTo(int rowIndex) {
+		skipBelow = rowIndex;
+	}
+
+	@Override
+	public void project(boolean[] columns) {
+		this.columns = columns;
+	}
+
+	@Override
+	public void formulaText(boolean formulaText) {
+		this.formulaText = formulaText;
+	}
+
+	/**
+	 * 列是否需要读取，子类读取列时调用，不需要的列直接跳过
+	 * @param column 列下标
+	 * @return 是否需要读取
+	 */
+	protected boolean isSelected(int column) {
+		return columns == null || (column < columns.length && columns[column]);
+	}
+
+	/**
+	 * 定位到下一个有数据的行
+	 * @return 行下标，没有更多的行时返回-1
+	 * @throws IOException
+	 */
+	protected abstract int nextRowIndex() throws IOException;
+
+	/**
+	 * 读取{@link #nextRowIndex()}定位到的行中的所有列
+	 * @param row 需要填充数据的行对象，已经重置为对应的行下标
+	 * @throws IOException
+	 */
+	protected abstract void readRow(StreamingRow row) throws IOException;
+
+	/**
+	 * <p>跳过{@link #nextRowIndex()}定位到的行
+	 * <p>默认读取后丢弃，子类可以只处理后面的行需要用到的数据（例如共享公式）
+	 * @param rowIndex 行下标
+	 * @throws IOException
+	 */
+	protected void skipRow(int rowIndex) throws IOException {
+		row.reset(rowIndex);
+		readRow(row);
+	}
+
+	/**
+	 * 释放读取使用的资源
+	 * @throws IOException
+	 */
+	protected abstract void release() throws IOException;
+
+	@Override
+	public void close() throws IOException {
+		ended = true;
+		release();
+	}
+
+}
@@ -0,0 +1,93 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * <p>工作簿数据来源的抽象类
+ * <p>负责把输入流缓存到临时文件，并在{@link #close()}时删除
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see WorkbookSource
+ */
+public abstract class AbstractWorkbookSource implements WorkbookSource {
+
+	/**
+	 * 输入流缓存到磁盘的临时文件
+	 */
+	private File spool;
+
+	/**
+	 * <p>将输入流缓存到临时文件
+	 * <p>Excel文件需要随机访问（例如xlsx的共享字符串在sheet之后），缓存到磁盘后再按需读取，避免整个文件解压到内存
+	 * <p>临时文件会在{@link #close()}时删除
+	 * @param in 输入流
+	 * @param suffix 临时文件后缀
+	 * @return 临时文件
+	 * @throws IOException
+	 */
+	protected File spool(InputStream in, String suffix) throws IOException {
+		spool = File.createTempFile("exceltool", suffix);
+		try {
+			Files.copy(in, spool.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}catch (IOException e) {
+			deleteSpool();
+			throw e;
+		}
+		return spool;
+	}
+
+	/**
+	 * <p>将内存中的Excel数据缓存到临时文件
+	 * <p>直接使用文件通道写入，不会改变buffer的位置
+	 * @param buffer Excel数据，从position到limit
+	 * @param suffix 临时文件后缀
+	 * @return 临时文件
+	 * @throws IOException
+	 */
+	protected File spool(ByteBuffer buffer, String suffix) throws IOException {
+		spool = File.createTempFile("exceltool", suffix);
+		try(FileChannel channel = new RandomAccessFile(spool, "rw").getChannel()) {
+			ByteBuffer data = buffer.duplicate();
+			while(data.hasRemaining()) {
+				channel.write(data);
+			}
+		}catch (IOException e) {
+			deleteSpool();
+			throw e;
+		}
+		return spool;
+	}
+
+	/**
+	 * 释放读取使用的资源
+	 * @throws IOException
+	 */
+	protected abstract void release() throws IOException;
+
+	@Override
+	public void close() throws IOException {
+		try {
+			release();
+		}finally {
+			deleteSpool();
+		}
+	}
+
+	private void deleteSpool() {
+		if(spool != null) {
+			if(!spool.delete()) {
+				spool.deleteOnExit();
+			}
+			spool = null;
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.DateUtil;
+
+/**
+ * <p>流式读取时使用的数字格式表
+ * <p>记录样式下标对应的数字格式，用于判断一个数字类型的列是否为日期格式
+ * <p>每个样式只会判断一次，结果按样式下标缓存
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class NumberFormats {
+
+	private static final byte UNKNOWN = 0;
+	private static final byte DATE = 1;
+	private static final byte NOT_DATE = 2;
+
+	/**
+	 * 自定义的数字格式，key为格式下标
+	 */
+	private Map<Integer, String> formats = new HashMap<>();
+
+	/**
+	 * 样式下标对应的数字格式下标
+	 */
+	private int[] styles = new int[16];
+
+	/**
+	 * 样式的个数
+	 */
+	private int size;
+
+	/**
+	 * 样式是否为日期格式的缓存
+	 */
+	private byte[] dates;
+
+	/**
+	 * 添加一个自定义的数字格式
+	 * @param index 格式下标
+	 * @param format 格式字符串
+	 */
+	public void addFormat(int index, String format) {
+		formats.put(index, format);
+	}
+
+	/**
+	 * 按顺序添加一个样式
+	 * @param formatIndex 样式使用的数字格式下标
+	 */
+	public void addStyle(int formatIndex) {
+		if(size == styles.length) {
+			int[] grown = new int[size << 1];
+			System.arraycopy(styles, 0, grown, 0, size);
+			styles = grown;
+		}
+		styles[size++] = formatIndex;
+		dates = null;
+	}
+
+	/**
+	 * 判断样式是否为日期格式
+	 * @param styleIndex 样式下标
+	 * @return 是否为日期格式
+	 */
+	public boolean isDateFormat(int styleIndex) {
+		if(styleIndex < 0 || styleIndex >= size) {
+			return false;
+		}
+		if(dates == null) {
+			dates = new byte[size];
+		}
+		byte state = dates[styleIndex];
+		if(state == UNKNOWN) {
+			int formatIndex = styles[styleIndex];
+			String format = formats.get(formatIndex);
+			if(format == null) {
+				format = BuiltinFormats.getBuiltinFormat(formatIndex);
+			}
+			state = format != null && DateUtil.isADateFormat(formatIndex, format) ? DATE : NOT_DATE;
+			dates[styleIndex] = state;
+		}
+		return state == DATE;
+	}
+
+}
@@ -0,0 +1,247 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * <p>只包含选中列的只读行对象
+ * <p>不使用流式读取时，把{@link Sheet}中的行按{@link RowSource#project(boolean[])}的规则交给解析器，
+ * 没有选中的列通过{@link #getCell(int)}获取时返回null，与流式读取的行一致
+ * <p>每读取一行都通过{@link #wrap(Row)}复用同一个对象，不会复制列的数据
+ * <p>修改数据的方法都会抛出{@link UnsupportedOperationException}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see StreamingRow
+ */
+public class ProjectedRow implements Row {
+
+	/**
+	 * 列下标上是否需要读取，超出数组长度的列不读取
+	 */
+	private final boolean[] columns;
+
+	/**
+	 * 当前的行
+	 */
+	private Row row;
+
+	/**
+	 * 第一个选中且有数据的列下标
+	 */
+	private int firstCellNum;
+
+	/**
+	 * 最后一个选中且有数据的列下标+1
+	 */
+	private int lastCellNum;
+
+	/**
+	 * 选中且有数据的列个数
+	 */
+	private int physicalCells;
+
+	/**
+	 * @param columns 列下标上是否需要读取，超出数组长度的列不读取
+	 */
+	public ProjectedRow(boolean[] columns) {
+		if(columns == null) {
+			throw new NullPointerException("The [columns] cannot be null");
+		}
+		this.columns = columns;
+	}
+
+	/**
+	 * 使用新的一行，之后读取的都是这一行的数据
+	 * @param row 需要读取的行
+	 * @return 当前对象
+	 */
+	public ProjectedRow wrap(Row row) {
+		this.row = row;
+		firstCellNum = -1;
+		lastCellNum = -1;
+		physicalCells = 0;
+		for(Cell cell : row) {
+			int column = cell.getColumnIndex();
+			if(isSelected(column)) {
+				if(firstCellNum < 0 || column < firstCellNum) {
+					firstCellNum = column;
+				}
+				if(column >= lastCellNum) {
+					lastCellNum = column + 1;
+				}
+				physicalCells++;
+			}
+		}
+		return this;
+	}
+
+	private boolean isSelected(int column) {
+		return column >= 0 && column < columns.length && columns[column];
+	}
+
+	@Override
+	public int getRowNum() {
+		return row.getRowNum();
+	}
+
+	@Override
+	public Cell getCell(int cellnum) {
+		return isSelected(cellnum) ? row.getCell(cellnum) : null;
+	}
+
+	/**
+	 * 没有选中的列总是返回null
+	 */
+	@Override
+	public Cell getCell(int cellnum, MissingCellPolicy policy) {
+		if(!isSelected(cellnum)) {
+			return null;
+		}
+		if(policy == CREATE_NULL_AS_BLANK) {
+			// 不修改sheet，缺失的列按null返回
+			return row.getCell(cellnum);
+		}
+		return row.getCell(cellnum, policy);
+	}
+
+	@Override
+	public short getFirstCellNum() {
+		return (short) firstCellNum;
+	}
+
+	@Override
+	public short getLastCellNum() {
+		return (short) lastCellNum;
+	}
+
+	@Override
+	public int getPhysicalNumberOfCells() {
+		return physicalCells;
+	}
+
+	@Override
+	public Iterator<Cell> cellIterator() {
+		Iterator<Cell> cells = row.cellIterator();
+		return new Iterator<Cell>() {
+
+			private Cell next = advance();
+
+			private Cell advance() {
+				while(cells.hasNext()) {
+					Cell cell = cells.next();
+					if(isSelected(cell.getColumnIndex())) {
+						return cell;
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Cell next() {
+				if(next == null) {
+					throw new NoSuchElementException();
+				}
+				Cell cell = next;
+				next = advance();
+				return cell;
+			}
+
+			@Override
+			public void remove() {
+				throw unsupported();
+			}
+
+		};
+	}
+
+	@Override
+	public Iterator<Cell> iterator() {
+		return cellIterator();
+	}
+
+	@Override
+	public Sheet getSheet() {
+		return row.getSheet();
+	}
+
+	@Override
+	public boolean getZeroHeight() {
+		return row.getZeroHeight();
+	}
+
+	@Override
+	public short getHeight() {
+		return row.getHeight();
+	}
+
+	@Override
+	public float getHeightInPoints() {
+		return row.getHeightInPoints();
+	}
+
+	@Override
+	public boolean isFormatted() {
+		return row.isFormatted();
+	}
+
+	@Override
+	public CellStyle getRowStyle() {
+		return row.getRowStyle();
+	}
+
+	@Override
+	public Cell createCell(int column) {
+		throw unsupported();
+	}
+
+	@Override
+	public Cell createCell(int column, int type) {
+		throw unsupported();
+	}
+
+	@Override
+	public void removeCell(Cell cell) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setRowNum(int rowNum) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHeight(short height) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setZeroHeight(boolean zHeight) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHeightInPoints(float height) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setRowStyle(CellStyle style) {
+		throw unsupported();
+	}
+
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("Projected rows are read-only");
+	}
+
+}
@@ -0,0 +1,52 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * <p>流式读取的行数据来源
+ * <p>按行号顺序逐行返回sheet中的数据，不会在内存中构建整个{@link org.apache.poi.ss.usermodel.Workbook}
+ * <p>中间缺失的行会以空行（{@link Row#getLastCellNum()}为-1）的形式返回，保证行号连续
+ * <p>返回的{@link Row}对象会被复用，调用下一次{@link #next()}后上一行的数据将会失效
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see XlsxRowSource
+ * @see XlsRowSource
+ */
+public interface RowSource extends Closeable {
+
+	/**
+	 * 读取下一行数据
+	 * @return 行对象，sheet读取完毕后返回null
+	 * @throws IOException
+	 */
+	Row next() throws IOException;
+	
+	/**
+	 * <p>设置需要读取的列，之后读取的行中没有选中的列不会被解码，获取到的是null
+	 * <p>默认读取所有列
+	 * @param columns 列下标上是否需要读取，超出数组长度的列不读取；为null时读取所有列
+	 */
+	default void project(boolean[] columns) {
+	}
+	
+	/**
+	 * <p>跳过行下标小于rowIndex的行，之后的{@link #next()}从rowIndex开始返回
+	 * <p>跳过的行不会被解码；默认不跳过，由调用者自己忽略这些行
+	 * @param rowIndex 下一个需要返回的行下标
+	 */
+	default void skipTo(int rowIndex) {
+	}
+	
+	/**
+	 * <p>设置是否需要公式的文本，不需要时公式列只保留缓存的结果，{@link org.apache.poi.ss.usermodel.Cell#getCellFormula()}返回空字符串
+	 * <p>还原公式文本（特别是共享公式）的开销很大，只读取公式结果时可以关闭；默认需要
+	 * @param formulaText 是否需要公式的文本
+	 */
+	default void formulaText(boolean formulaText) {
+	}
+
+}
@@ -0,0 +1,193 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.ss.util.CellReference;
+
+/**
+ * <p>xlsx的共享公式表
+ * <p>共享公式只在第一个单元格中保存公式文本，其它单元格需要按照与第一个单元格的相对位置平移公式中的相对引用
+ * <p>这里只平移A1形式的单元格引用（包括区域两端的引用），整行、整列的引用保持不变
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class SharedFormulas {
+
+	private static final int MAX_ROW = 1048576;
+	private static final int MAX_COLUMN = 16384;
+
+	/**
+	 * 共享公式的第一个单元格，key为共享公式的下标
+	 */
+	private Map<Integer, Master> masters = new HashMap<>();
+
+	/**
+	 * 记录共享公式的第一个单元格
+	 * @param index 共享公式的下标
+	 * @param formula 公式文本
+	 * @param row 行下标
+	 * @param column 列下标
+	 */
+	public void put(int index, String formula, int row, int column) {
+		masters.put(index, new Master(formula, row, column));
+	}
+
+	/**
+	 * 获取共享公式在某个单元格中的公式文本
+	 * @param index 共享公式的下标
+	 * @param row 行下标
+	 * @param column 列下标
+	 * @return 公式文本，找不到共享公式时返回null
+	 */
+	public String get(int index, int row, int column) {
+		Master master = masters.get(index);
+		if(master == null) {
+			return null;
+		}
+		return shift(master.formula, row - master.row, column - master.column);
+	}
+
+	/**
+	 * 平移公式中的相对引用
+	 * @param formula 公式文本
+	 * @param rows 平移的行数
+	 * @param columns 平移的列数
+	 * @return 平移后的公式文本
+	 */
+	public static String shift(String formula, int rows, int columns) {
+		if(rows == 0 && columns == 0) {
+			return formula;
+		}
+		int length = formula.length();
+		StringBuilder shifted = new StringBuilder(length + 8);
+		int i = 0;
+		while(i < length) {
+			char c = formula.charAt(i);
+			if(c == '"' || c == '\'') {
+				i = copyQuoted(formula, i, c, shifted);
+			}else if(c == '[') {
+				int end = formula.indexOf(']', i);
+				end = end < 0 ? length : end + 1;
+				shifted.append(formula, i, end);
+				i = end;
+			}else if(isNameChar(c)) {
+				int end = i + 1;
+				while(end < length && isNameChar(formula.charAt(end))) {
+					end++;
+				}
+				String token = formula.substring(i, end);
+				char next = end < length ? formula.charAt(end) : 0;
+				if(next == '(' || next == '!') {
+					shifted.append(token);
+				}else {
+					shifted.append(shiftReference(token, rows, columns));
+				}
+				i = end;
+			}else {
+				shifted.append(c);
+				i++;
+			}
+		}
+		return shifted.toString();
+	}
+
+	private static int copyQuoted(String formula, int start, char quote, StringBuilder out) {
+		int length = formula.length();
+		int i = start + 1;
+		while(i < length) {
+			if(formula.charAt(i) == quote) {
+				if(i + 1 < length && formula.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+				i++;
+				break;
+			}
+			i++;
+		}
+		out.append(formula, start, i);
+		return i;
+	}
+
+	private static boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '$' || c == '_' || c == '.' || c == '\\';
+	}
+
+	/**
+	 * 平移单元格引用，不是单元格引用时原样返回
+	 */
+	private static String shiftReference(String token, int rows, int columns) {
+		int length = token.length();
+		int i = 0;
+		boolean absoluteColumn = i < length && token.charAt(i) == '$';
+		if(absoluteColumn) {
+			i++;
+		}
+		int columnStart = i;
+		while(i < length && isAsciiLetter(token.charAt(i))) {
+			i++;
+		}
+		int columnEnd = i;
+		if(columnEnd == columnStart || columnEnd - columnStart > 3) {
+			return token;
+		}
+		boolean absoluteRow = i < length && token.charAt(i) == '$';
+		if(absoluteRow) {
+			i++;
+		}
+		int rowStart = i;
+		while(i < length && token.charAt(i) >= '0' && token.charAt(i) <= '9') {
+			i++;
+		}
+		if(i != length || rowStart == length || length - rowStart > 7) {
+			return token;
+		}
+		int column = CellReference.convertColStringToIndex(token.substring(columnStart, columnEnd)) + 1;
+		int row = Integer.parseInt(token.substring(rowStart));
+		if(column > MAX_COLUMN || row < 1 || row > MAX_ROW) {
+			return token;
+		}
+		if(!absoluteColumn) {
+			column += columns;
+		}
+		if(!absoluteRow) {
+			row += rows;
+		}
+		if(column < 1 || column > MAX_COLUMN || row < 1 || row > MAX_ROW) {
+			return "#REF!";
+		}
+		StringBuilder reference = new StringBuilder(length + 2);
+		if(absoluteColumn) {
+			reference.append('$');
+		}
+		reference.append(CellReference.convertNumToColString(column - 1));
+		if(absoluteRow) {
+			reference.append('$');
+		}
+		return reference.append(row).toString();
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+	}
+
+	/**
+	 * 共享公式的第一个单元格
+	 */
+	private static class Master {
+
+		private String formula;
+		private int row;
+		private int column;
+
+		private Master(String formula, int row, int column) {
+			this.formula = formula;
+			this.row = row;
+			this.column = column;
+		}
+
+	}
+
+}
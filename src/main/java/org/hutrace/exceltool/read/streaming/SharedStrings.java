@@ -0,0 +1,447 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.hutrace.exceltool.exception.ExcelReaderException;
+
+/**
+ * <p>xlsx的共享字符串表
+ * <p>使用StAX读取sharedStrings.xml，只保留每个字符串的文本（富文本会合并为纯文本，拼音等注音会被忽略）
+ * <p>字符串以UTF-8字节的形式连续储存在1M大小的字节页中，每个字符串只占用一个int的下标，
+ * 只有在单元格真正读取到时才解码成{@link String}，最近解码的字符串会缓存起来
+ * <p>设置了spillThreshold时，字节页的总大小超过它之后，写满的页会写入临时文件，读取完毕后按页使用内存映射读取，
+ * 临时文件可以超过2G
+ * <p>读取完毕后可以在多个线程中同时调用{@link #get(int)}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class SharedStrings implements Closeable {
+
+	/**
+	 * 页内偏移量的位数
+	 */
+	private static final int PAGE_BITS = 20;
+
+	/**
+	 * 每一页的大小
+	 */
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+	/**
+	 * 最多的页数，保证下标可以用int表示
+	 */
+	private static final int MAX_PAGES = 1 << (31 - PAGE_BITS);
+
+	/**
+	 * 解码缓存的大小
+	 */
+	private static final int CACHE_SIZE = 1024;
+
+	/**
+	 * 储存字符串的字节页，已经写入临时文件的页为null
+	 */
+	private byte[][] pages = new byte[4][];
+
+	/**
+	 * 每一页在临时文件中的位置
+	 */
+	private long[] pageOffsets = new long[4];
+
+	/**
+	 * 页的个数
+	 */
+	private int pageCount;
+
+	/**
+	 * 当前页的写入位置
+	 */
+	private int position;
+
+	/**
+	 * 每个字符串的位置，高位为页号，低{@link #PAGE_BITS}位为页内偏移量
+	 */
+	private int[] index = new int[1024];
+
+	/**
+	 * 字符串的个数
+	 */
+	private int size;
+
+	/**
+	 * 超过此大小后把写满的页写入临时文件，小于等于0时不写入
+	 */
+	private long spillThreshold;
+
+	/**
+	 * 内存中字节页的总大小
+	 */
+	private long memoryBytes;
+
+	/**
+	 * 临时文件
+	 */
+	private File spillFile;
+
+	/**
+	 * 临时文件的写入通道
+	 */
+	private FileChannel spillChannel;
+
+	/**
+	 * 临时文件的大小
+	 */
+	private long spillSize;
+
+	/**
+	 * 每一页在临时文件中的内存映射，没有写入临时文件的页为null
+	 */
+	private MappedByteBuffer[] mapped;
+
+	/**
+	 * 最近解码的字符串，按下标直接映射
+	 */
+	private Entry[] cache = new Entry[CACHE_SIZE];
+
+	/**
+	 * 读取共享字符串表，全部保存在内存中
+	 * @param in sharedStrings.xml的输入流，为null时表示没有共享字符串
+	 * @throws IOException
+	 */
+	public SharedStrings(InputStream in) throws IOException {
+		this(in, 0);
+	}
+
+	/**
+	 * 读取共享字符串表
+	 * @param in sharedStrings.xml的输入流，为null时表示没有共享字符串
+	 * @param spillThreshold 字节页的总大小超过此值后写入临时文件，小于等于0时不写入
+	 * @throws IOException
+	 */
+	public SharedStrings(InputStream in, long spillThreshold) throws IOException {
+		this.spillThreshold = spillThreshold;
+		if(in == null) {
+			return;
+		}
+		try {
+			read(XmlStreams.open(in));
+			map();
+		}catch (XMLStreamException e) {
+			close();
+			throw new ExcelReaderException("Failed to read the shared strings", e);
+		}catch (IOException e) {
+			close();
+			throw e;
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}finally {
+			in.close();
+		}
+	}
+
+	private void read(XMLStreamReader reader) throws XMLStreamException {
+		StringBuilder text = new StringBuilder();
+		while(reader.hasNext()) {
+			if(reader.next() != XMLStreamReader.START_ELEMENT) {
+				continue;
+			}
+			String name = reader.getLocalName();
+			if("si".equals(name)) {
+				text.setLength(0);
+				item(reader, text);
+				add(decode(text));
+			}else if("sst".equals(name)) {
+				String count = reader.getAttributeValue(null, "uniqueCount");
+				if(count != null) {
+					ensureCapacity(Integer.parseInt(count));
+				}
+			}
+		}
+		reader.close();
+	}
+
+	private void ensureCapacity(int capacity) {
+		if(capacity > index.length) {
+			int[] grown = new int[capacity];
+			System.arraycopy(index, 0, grown, 0, size);
+			index = grown;
+		}
+	}
+
+	/**
+	 * 添加一个字符串，长度以变长整数的形式写在字节之前
+	 */
+	private void add(String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		int required = bytes.length + 5;
+		if(pageCount == 0 || position + required > pages[pageCount - 1].length) {
+			newPage(Math.max(PAGE_SIZE, required));
+		}
+		byte[] page = pages[pageCount - 1];
+		if(size == index.length) {
+			ensureCapacity(size << 1);
+		}
+		index[size++] = ((pageCount - 1) << PAGE_BITS) | position;
+		int length = bytes.length;
+		while((length & ~0x7F) != 0) {
+			page[position++] = (byte) ((length & 0x7F) | 0x80);
+			length >>>= 7;
+		}
+		page[position++] = (byte) length;
+		System.arraycopy(bytes, 0, page, position, bytes.length);
+		position += bytes.length;
+		if(page.length > PAGE_SIZE) {
+			// 超过一页大小的字符串单独占用一页，页内偏移量不能超过PAGE_BITS位
+			position = page.length;
+		}
+	}
+
+	/**
+	 * 添加新的一页，超过spillThreshold时把上一页写入临时文件
+	 */
+	private void newPage(int pageSize) {
+		if(pageCount == MAX_PAGES) {
+			throw new ExcelReaderException("The shared strings table is too large");
+		}
+		if(pageCount > 0 && spillThreshold > 0 && memoryBytes > spillThreshold) {
+			spill(pageCount - 1);
+		}
+		if(pageCount == pages.length) {
+			byte[][] grownPages = new byte[pageCount << 1][];
+			System.arraycopy(pages, 0, grownPages, 0, pageCount);
+			pages = grownPages;
+			long[] grownOffsets = new long[pageCount << 1];
+			System.arraycopy(pageOffsets, 0, grownOffsets, 0, pageCount);
+			pageOffsets = grownOffsets;
+		}
+		pages[pageCount++] = new byte[pageSize];
+		memoryBytes += pageSize;
+		position = 0;
+	}
+
+	/**
+	 * 把写满的页写入临时文件
+	 */
+	private void spill(int pageNumber) {
+		byte[] page = pages[pageNumber];
+		try {
+			if(spillChannel == null) {
+				spillFile = File.createTempFile("exceltool", ".sst");
+				spillChannel = new RandomAccessFile(spillFile, "rw").getChannel();
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(page, 0, position);
+			pageOffsets[pageNumber] = spillSize;
+			while(buffer.hasRemaining()) {
+				spillSize += spillChannel.write(buffer, spillSize);
+			}
+		}catch (IOException e) {
+			throw new ExcelReaderException("Failed to write the shared strings to the temp file", e);
+		}
+		pages[pageNumber] = null;
+		memoryBytes -= page.length;
+	}
+
+	/**
+	 * <p>读取完毕后映射临时文件
+	 * <p>每一页单独映射，一页不会超过{@link Integer#MAX_VALUE}字节，临时文件的总大小不受限制
+	 */
+	private void map() throws IOException {
+		if(spillChannel != null) {
+			mapped = new MappedByteBuffer[pageCount];
+			// 页按顺序写入临时文件，一页的结束位置是下一个写入的页的开始位置
+			int previous = -1;
+			for(int i = 0; i < pageCount; i++) {
+				if(pages[i] == null) {
+					if(previous >= 0) {
+						mapped[previous] = map(previous, pageOffsets[i]);
+					}
+					previous = i;
+				}
+			}
+			if(previous >= 0) {
+				mapped[previous] = map(previous, spillSize);
+			}
+			spillChannel.close();
+			spillChannel = null;
+		}
+	}
+
+	private MappedByteBuffer map(int pageNumber, long end) throws IOException {
+		long start = pageOffsets[pageNumber];
+		return spillChannel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+	}
+
+	/**
+	 * 读取一个si元素中的文本
+	 */
+	private void item(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+		int depth = 1;
+		while(depth > 0) {
+			int event = reader.next();
+			if(event == XMLStreamReader.START_ELEMENT) {
+				String name = reader.getLocalName();
+				if("t".equals(name)) {
+					text.append(XmlStreams.text(reader));
+				}else if("rPh".equals(name) || "phoneticPr".equals(name)) {
+					XmlStreams.skip(reader);
+				}else {
+					depth++;
+				}
+			}else if(event == XMLStreamReader.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * <p>还原字符串中的转义字符
+	 * <p>xlsx会将XML中不能出现的字符写成"_xHHHH_"的形式，与POI的处理方式一致
+	 * @param text 原始文本
+	 * @return 还原后的字符串
+	 */
+	public static String decode(CharSequence text) {
+		int length = text.length();
+		StringBuilder decoded = null;
+		int last = 0;
+		for(int i = 0; i + 6 < length; i++) {
+			if(text.charAt(i) == '_' && text.charAt(i + 1) == 'x' && text.charAt(i + 6) == '_') {
+				int code = hex(text, i + 2);
+				if(code >= 0) {
+					if(decoded == null) {
+						decoded = new StringBuilder(length);
+					}
+					decoded.append(text, last, i).append((char) code);
+					last = i + 7;
+					i += 6;
+				}
+			}
+		}
+		if(decoded == null) {
+			return text.toString();
+		}
+		return decoded.append(text, last, length).toString();
+	}
+
+	private static int hex(CharSequence text, int start) {
+		int code = 0;
+		for(int i = start; i < start + 4; i++) {
+			int digit = Character.digit(text.charAt(i), 16);
+			if(digit < 0) {
+				return -1;
+			}
+			code = (code << 4) | digit;
+		}
+		return code;
+	}
+
+	/**
+	 * 根据下标获取字符串，第一次获取时才解码
+	 * @param index 下标
+	 * @return 字符串
+	 */
+	public String get(int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		int slot = index & (CACHE_SIZE - 1);
+		Entry entry = cache[slot];
+		if(entry != null && entry.index == index) {
+			return entry.value;
+		}
+		String value = decode(this.index[index]);
+		cache[slot] = new Entry(index, value);
+		return value;
+	}
+
+	/**
+	 * 解码某个位置的字符串
+	 */
+	private String decode(int location) {
+		int pageNumber = location >>> PAGE_BITS;
+		int offset = location & (PAGE_SIZE - 1);
+		byte[] page = pages[pageNumber];
+		if(page != null) {
+			int length = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = page[offset++];
+				length |= (b & 0x7F) << shift;
+				shift += 7;
+			}while(b < 0);
+			return new String(page, offset, length, StandardCharsets.UTF_8);
+		}
+		ByteBuffer buffer = mapped[pageNumber].duplicate();
+		buffer.position(offset);
+		int length = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = buffer.get();
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		}while(b < 0);
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 字符串的个数
+	 * @return 字符串的个数
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 释放字节页，删除临时文件
+	 */
+	@Override
+	public void close() throws IOException {
+		pages = new byte[0][];
+		mapped = null;
+		cache = new Entry[CACHE_SIZE];
+		try {
+			if(spillChannel != null) {
+				spillChannel.close();
+				spillChannel = null;
+			}
+		}finally {
+			if(spillFile != null) {
+				if(!spillFile.delete()) {
+					spillFile.deleteOnExit();
+				}
+				spillFile = null;
+			}
+		}
+	}
+
+	/**
+	 * 解码缓存中的一个字符串
+	 */
+	private static class Entry {
+
+		private final int index;
+		private final String value;
+
+		private Entry(int index, String value) {
+			this.index = index;
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * <p>使用已经构建好的{@link Sheet}作为行数据来源
+ * <p>用于不使用流式读取的情况，中间缺失的行以空行的形式返回，不会修改sheet
+ * <p>设置了需要读取的列时，返回只包含选中列的{@link ProjectedRow}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see RowSource
+ */
+public class SheetRowSource implements RowSource {
+	
+	private Sheet sheet;
+	
+	/**
+	 * 下一次返回的行下标
+	 */
+	private int index;
+	
+	/**
+	 * 缺失的行使用的空行
+	 */
+	private final StreamingRow empty = new StreamingRow(null, false);
+	
+	/**
+	 * 只包含选中列的行，读取所有列时为null
+	 */
+	private ProjectedRow projected;
+	
+	public SheetRowSource(Sheet sheet) {
+		this.sheet = sheet;
+	}
+
+	@Override
+	public Row next() throws IOException {
+		if(sheet == null || index > sheet.getLastRowNum() || sheet.getPhysicalNumberOfRows() == 0) {
+			return null;
+		}
+		Row row = sheet.getRow(index);
+		if(row == null) {
+			empty.reset(index);
+			row = empty;
+		}else if(projected != null) {
+			row = projected.wrap(row);
+		}
+		index++;
+		return row;
+	}
+
+	@Override
+	public void project(boolean[] columns) {
+		projected = columns == null ? null : new ProjectedRow(columns);
+	}
+
+	@Override
+	public void skipTo(int rowIndex) {
+		index = Math.max(index, rowIndex);
+	}
+
+	@Override
+	public void close() throws IOException {
+		sheet = null;
+	}
+
+}
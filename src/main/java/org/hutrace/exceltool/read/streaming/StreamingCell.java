@@ -0,0 +1,512 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.ss.formula.FormulaParseException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+/**
+ * <p>流式读取时的只读列对象
+ * <p>由{@link RowSource}填充数据，对象会随{@link StreamingRow}一起复用
+ * <p>不提供样式对象（{@link #getCellStyle()}返回null），日期格式的判断请使用{@link #isDateFormatted()}
+ * <p>除了把列转换为字符串类型外（{@link #setCellType(int)}），其它修改数据的方法都会抛出{@link UnsupportedOperationException}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see StreamingRow
+ */
+public class StreamingCell implements Cell {
+
+	/**
+	 * 所在的行
+	 */
+	private StreamingRow row;
+
+	/**
+	 * 列下标
+	 */
+	private int columnIndex;
+
+	/**
+	 * 列类型
+	 */
+	private int type;
+
+	/**
+	 * 公式列缓存结果的类型
+	 */
+	private int cachedType;
+
+	/**
+	 * 字符串值，数字列时为数字的原始文本
+	 */
+	private String text;
+
+	/**
+	 * 数字值
+	 */
+	private double number;
+
+	/**
+	 * {@link #number}是否已经由{@link #text}解析得到
+	 */
+	private boolean numberParsed;
+
+	/**
+	 * 布尔值
+	 */
+	private boolean bool;
+
+	/**
+	 * 错误码
+	 */
+	private byte error;
+
+	/**
+	 * 公式文本
+	 */
+	private String formula;
+
+	/**
+	 * 样式下标
+	 */
+	private int styleIndex;
+
+	StreamingCell(StreamingRow row, int columnIndex) {
+		this.row = row;
+		this.columnIndex = columnIndex;
+	}
+
+	/**
+	 * 重置为空白列
+	 * @param styleIndex 样式下标
+	 */
+	void reset(int styleIndex) {
+		this.type = CELL_TYPE_BLANK;
+		this.cachedType = CELL_TYPE_BLANK;
+		this.text = null;
+		this.number = 0;
+		this.numberParsed = true;
+		this.bool = false;
+		this.error = 0;
+		this.formula = null;
+		this.styleIndex = styleIndex;
+	}
+
+	/**
+	 * 设置为字符串
+	 * @param text 字符串
+	 */
+	public void setString(String text) {
+		this.type = CELL_TYPE_STRING;
+		this.text = text;
+	}
+
+	/**
+	 * 设置为数字，数字值会在使用时才从原始文本解析
+	 * @param lexeme 数字的原始文本
+	 */
+	public void setNumber(String lexeme) {
+		this.type = CELL_TYPE_NUMERIC;
+		this.text = lexeme;
+		this.numberParsed = false;
+	}
+
+	/**
+	 * 设置为数字
+	 * @param number 数字
+	 */
+	public void setNumber(double number) {
+		this.type = CELL_TYPE_NUMERIC;
+		this.text = null;
+		this.number = number;
+		this.numberParsed = true;
+	}
+
+	/**
+	 * 设置为布尔值
+	 * @param bool 布尔值
+	 */
+	public void setBoolean(boolean bool) {
+		this.type = CELL_TYPE_BOOLEAN;
+		this.bool = bool;
+	}
+
+	/**
+	 * 设置为错误
+	 * @param error 错误码
+	 */
+	public void setError(byte error) {
+		this.type = CELL_TYPE_ERROR;
+		this.error = error;
+	}
+
+	/**
+	 * <p>设置为公式列
+	 * <p>需要先通过其它set方法设置公式的缓存结果，没有缓存结果时视为数字0
+	 * @param formula 公式文本
+	 */
+	public void setFormula(String formula) {
+		this.cachedType = type == CELL_TYPE_BLANK ? CELL_TYPE_NUMERIC : type;
+		this.type = CELL_TYPE_FORMULA;
+		this.formula = formula;
+	}
+
+	/**
+	 * 当前值的类型，公式列返回缓存结果的类型
+	 * @return 值的类型
+	 */
+	private int valueType() {
+		return type == CELL_TYPE_FORMULA ? cachedType : type;
+	}
+
+	/**
+	 * <p>判断列是否为日期格式
+	 * <p>根据样式的数字格式与数值是否为有效的Excel日期判断，与{@link DateUtil#isCellDateFormatted(Cell)}一致
+	 * @return 是否为日期格式
+	 */
+	public boolean isDateFormatted() {
+		return valueType() == CELL_TYPE_NUMERIC
+				&& row.formats().isDateFormat(styleIndex)
+				&& DateUtil.isValidExcelDate(getNumericCellValue());
+	}
+
+	/**
+	 * 获取样式下标
+	 * @return 样式下标
+	 */
+	public int getStyleIndex() {
+		return styleIndex;
+	}
+
+	@Override
+	public int getColumnIndex() {
+		return columnIndex;
+	}
+
+	@Override
+	public int getRowIndex() {
+		return row.getRowNum();
+	}
+
+	@Override
+	public Sheet getSheet() {
+		return null;
+	}
+
+	@Override
+	public Row getRow() {
+		return row;
+	}
+
+	/**
+	 * 只支持转换为字符串类型，转换规则与POI一致
+	 */
+	@Override
+	public void setCellType(int cellType) {
+		if(cellType == type) {
+			return;
+		}
+		if(cellType != CELL_TYPE_STRING) {
+			throw unsupported();
+		}
+		String value;
+		switch (valueType()) {
+			case CELL_TYPE_NUMERIC:
+				value = text != null ? text : NumberToTextConverter.toText(number);
+				break;
+			case CELL_TYPE_BOOLEAN:
+				value = bool ? "TRUE" : "FALSE";
+				break;
+			case CELL_TYPE_ERROR:
+				value = FormulaError.forInt(error).getString();
+				break;
+			case CELL_TYPE_STRING:
+				value = text;
+				break;
+			default:
+				value = "";
+		}
+		this.type = CELL_TYPE_STRING;
+		this.formula = null;
+		this.text = value;
+	}
+
+	@Override
+	public int getCellType() {
+		return type;
+	}
+
+	@Override
+	public int getCachedFormulaResultType() {
+		if(type != CELL_TYPE_FORMULA) {
+			throw new IllegalStateException("Only formula cells have cached results");
+		}
+		return cachedType;
+	}
+
+	@Override
+	public String getCellFormula() {
+		if(type != CELL_TYPE_FORMULA) {
+			throw typeMismatch(CELL_TYPE_FORMULA);
+		}
+		return formula;
+	}
+
+	@Override
+	public double getNumericCellValue() {
+		switch (valueType()) {
+			case CELL_TYPE_BLANK:
+				return 0.0;
+			case CELL_TYPE_NUMERIC:
+				if(!numberParsed) {
+					number = Double.parseDouble(text);
+					numberParsed = true;
+				}
+				return number;
+			default:
+				throw typeMismatch(CELL_TYPE_NUMERIC);
+		}
+	}
+
+	/**
+	 * <p>获取数字值，不转换成文本
+	 * <p>原始文本是整数时直接解析成{@link Long}，否则见{@link #numberValue(double)}
+	 * @return 数字值
+	 */
+	public Number getNumberValue() {
+		if(!numberParsed && valueType() == CELL_TYPE_NUMERIC) {
+			Long integral = integral(text);
+			if(integral != null) {
+				return integral;
+			}
+		}
+		return numberValue(getNumericCellValue());
+	}
+
+	/**
+	 * 没有小数部分并且在double的精确范围内的数字返回{@link Long}，其它返回{@link Double}
+	 * @param number 数字
+	 * @return {@link Long}或{@link Double}
+	 */
+	public static Number numberValue(double number) {
+		if(number == Math.rint(number) && Math.abs(number) < 0x1p53) {
+			return Long.valueOf((long) number);
+		}
+		return Double.valueOf(number);
+	}
+
+	/**
+	 * 解析不超过18位的整数文本，不是整数时返回null
+	 */
+	private static Long integral(String lexeme) {
+		int length = lexeme.length();
+		int i = length > 0 && lexeme.charAt(0) == '-' ? 1 : 0;
+		if(i == length || length - i > 18) {
+			return null;
+		}
+		long value = 0;
+		for(; i < length; i++) {
+			char c = lexeme.charAt(i);
+			if(c < '0' || c > '9') {
+				return null;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return lexeme.charAt(0) == '-' ? -value : value;
+	}
+
+	@Override
+	public Date getDateCellValue() {
+		if(valueType() == CELL_TYPE_BLANK) {
+			return null;
+		}
+		return DateUtil.getJavaDate(getNumericCellValue(), row.isDate1904());
+	}
+
+	@Override
+	public RichTextString getRichStringCellValue() {
+		return new XSSFRichTextString(getStringCellValue());
+	}
+
+	@Override
+	public String getStringCellValue() {
+		switch (valueType()) {
+			case CELL_TYPE_BLANK:
+				return "";
+			case CELL_TYPE_STRING:
+				return text;
+			default:
+				throw typeMismatch(CELL_TYPE_STRING);
+		}
+	}
+
+	@Override
+	public boolean getBooleanCellValue() {
+		switch (valueType()) {
+			case CELL_TYPE_BLANK:
+				return false;
+			case CELL_TYPE_BOOLEAN:
+				return bool;
+			default:
+				throw typeMismatch(CELL_TYPE_BOOLEAN);
+		}
+	}
+
+	@Override
+	public byte getErrorCellValue() {
+		if(valueType() != CELL_TYPE_ERROR) {
+			throw typeMismatch(CELL_TYPE_ERROR);
+		}
+		return error;
+	}
+
+	@Override
+	public CellStyle getCellStyle() {
+		return null;
+	}
+
+	@Override
+	public Comment getCellComment() {
+		return null;
+	}
+
+	@Override
+	public Hyperlink getHyperlink() {
+		return null;
+	}
+
+	@Override
+	public CellRangeAddress getArrayFormulaRange() {
+		throw new IllegalStateException("Cell " + columnIndex + " is not part of an array formula");
+	}
+
+	@Override
+	public boolean isPartOfArrayFormulaGroup() {
+		return false;
+	}
+
+	@Override
+	public void setCellValue(double value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellValue(Date value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellValue(Calendar value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellValue(RichTextString value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellValue(String value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellFormula(String formula) throws FormulaParseException {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellValue(boolean value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellErrorValue(byte value) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellStyle(CellStyle style) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setAsActiveCell() {
+		throw unsupported();
+	}
+
+	@Override
+	public void setCellComment(Comment comment) {
+		throw unsupported();
+	}
+
+	@Override
+	public void removeCellComment() {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHyperlink(Hyperlink link) {
+		throw unsupported();
+	}
+
+	private IllegalStateException typeMismatch(int expected) {
+		return new IllegalStateException("Cannot get a " + typeName(expected) + " value from a "
+				+ typeName(valueType()) + " cell");
+	}
+
+	private static String typeName(int type) {
+		switch (type) {
+			case CELL_TYPE_NUMERIC:
+				return "numeric";
+			case CELL_TYPE_STRING:
+				return "text";
+			case CELL_TYPE_FORMULA:
+				return "formula";
+			case CELL_TYPE_BLANK:
+				return "blank";
+			case CELL_TYPE_BOOLEAN:
+				return "boolean";
+			case CELL_TYPE_ERROR:
+				return "error";
+			default:
+				return "#unknown cell type (" + type + ")#";
+		}
+	}
+
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("Streaming cells are read-only");
+	}
+
+	@Override
+	public String toString() {
+		switch (type) {
+			case CELL_TYPE_FORMULA:
+				return formula;
+			case CELL_TYPE_NUMERIC:
+				return text != null ? text : NumberToTextConverter.toText(number);
+			case CELL_TYPE_BOOLEAN:
+				return bool ? "TRUE" : "FALSE";
+			case CELL_TYPE_ERROR:
+				return FormulaError.forInt(error).getString();
+			case CELL_TYPE_STRING:
+				return text;
+			default:
+				return "";
+		}
+	}
+
+}
@@ -0,0 +1,296 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * <p>流式读取时的只读行对象
+ * <p>由{@link RowSource}填充数据，每读取一行都会复用同一个对象，列对象也会按列下标复用
+ * <p>没有数据的列通过{@link #getCell(int)}获取时返回null，与{@link org.apache.poi.ss.usermodel.Workbook}中的行一致
+ * <p>修改数据的方法都会抛出{@link UnsupportedOperationException}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see StreamingCell
+ */
+public class StreamingRow implements Row {
+
+	/**
+	 * 按列下标复用的列对象
+	 */
+	private StreamingCell[] cells = new StreamingCell[16];
+
+	/**
+	 * 列下标上是否有数据
+	 */
+	private boolean[] present = new boolean[16];
+
+	/**
+	 * 行下标
+	 */
+	private int rowNum;
+
+	/**
+	 * 第一个有数据的列下标
+	 */
+	private int firstCellNum;
+
+	/**
+	 * 最后一个有数据的列下标+1
+	 */
+	private int lastCellNum;
+
+	/**
+	 * 有数据的列个数
+	 */
+	private int physicalCells;
+
+	/**
+	 * 数字格式表，用于判断日期格式
+	 */
+	private NumberFormats formats;
+
+	/**
+	 * 是否使用1904日期系统
+	 */
+	private boolean date1904;
+
+	/**
+	 * @param formats 数字格式表，用于判断日期格式
+	 * @param date1904 是否使用1904日期系统
+	 */
+	public StreamingRow(NumberFormats formats, boolean date1904) {
+		this.formats = formats;
+		this.date1904 = date1904;
+	}
+
+	/**
+	 * 开始填充新的一行，清空上一行的数据
+	 * @param rowNum 行下标
+	 */
+	public void reset(int rowNum) {
+		for(int i = firstCellNum; i < lastCellNum; i++) {
+			present[i] = false;
+		}
+		this.rowNum = rowNum;
+		this.firstCellNum = -1;
+		this.lastCellNum = -1;
+		this.physicalCells = 0;
+	}
+
+	/**
+	 * <p>在列下标上开始填充一列，默认为空白列
+	 * <p>列需要按下标递增的顺序填充
+	 * @param columnIndex 列下标
+	 * @param styleIndex 样式下标
+	 * @return 复用的列对象
+	 */
+	public StreamingCell cell(int columnIndex, int styleIndex) {
+		if(columnIndex >= cells.length) {
+			int length = Math.max(cells.length << 1, columnIndex + 1);
+			StreamingCell[] grownCells = new StreamingCell[length];
+			System.arraycopy(cells, 0, grownCells, 0, cells.length);
+			cells = grownCells;
+			boolean[] grownPresent = new boolean[length];
+			System.arraycopy(present, 0, grownPresent, 0, present.length);
+			present = grownPresent;
+		}
+		StreamingCell cell = cells[columnIndex];
+		if(cell == null) {
+			cell = new StreamingCell(this, columnIndex);
+			cells[columnIndex] = cell;
+		}
+		cell.reset(styleIndex);
+		if(!present[columnIndex]) {
+			present[columnIndex] = true;
+			physicalCells++;
+		}
+		if(firstCellNum < 0 || columnIndex < firstCellNum) {
+			firstCellNum = columnIndex;
+		}
+		if(columnIndex >= lastCellNum) {
+			lastCellNum = columnIndex + 1;
+		}
+		return cell;
+	}
+
+	/**
+	 * 获取数字格式表
+	 * @return 数字格式表
+	 */
+	NumberFormats formats() {
+		return formats;
+	}
+
+	/**
+	 * 是否使用1904日期系统
+	 * @return 是否使用1904日期系统
+	 */
+	public boolean isDate1904() {
+		return date1904;
+	}
+
+	@Override
+	public int getRowNum() {
+		return rowNum;
+	}
+
+	@Override
+	public Cell getCell(int cellnum) {
+		if(cellnum < 0 || cellnum >= lastCellNum || !present[cellnum]) {
+			return null;
+		}
+		return cells[cellnum];
+	}
+
+	@Override
+	public Cell getCell(int cellnum, MissingCellPolicy policy) {
+		Cell cell = getCell(cellnum);
+		if(policy == RETURN_BLANK_AS_NULL) {
+			if(cell != null && cell.getCellType() == Cell.CELL_TYPE_BLANK) {
+				return null;
+			}
+			return cell;
+		}
+		if(policy == CREATE_NULL_AS_BLANK && cell == null) {
+			return cell(cellnum, 0);
+		}
+		return cell;
+	}
+
+	@Override
+	public short getFirstCellNum() {
+		return (short) firstCellNum;
+	}
+
+	@Override
+	public short getLastCellNum() {
+		return (short) lastCellNum;
+	}
+
+	@Override
+	public int getPhysicalNumberOfCells() {
+		return physicalCells;
+	}
+
+	@Override
+	public Iterator<Cell> cellIterator() {
+		return new Iterator<Cell>() {
+
+			private int next = advance(firstCellNum < 0 ? 0 : firstCellNum);
+
+			private int advance(int from) {
+				while(from < lastCellNum && !present[from]) {
+					from++;
+				}
+				return from;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next < lastCellNum;
+			}
+
+			@Override
+			public Cell next() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Cell cell = cells[next];
+				next = advance(next + 1);
+				return cell;
+			}
+
+			@Override
+			public void remove() {
+				throw unsupported();
+			}
+
+		};
+	}
+
+	@Override
+	public Iterator<Cell> iterator() {
+		return cellIterator();
+	}
+
+	@Override
+	public Sheet getSheet() {
+		return null;
+	}
+
+	@Override
+	public boolean getZeroHeight() {
+		return false;
+	}
+
+	@Override
+	public short getHeight() {
+		return -1;
+	}
+
+	@Override
+	public float getHeightInPoints() {
+		return -1;
+	}
+
+	@Override
+	public boolean isFormatted() {
+		return false;
+	}
+
+	@Override
+	public CellStyle getRowStyle() {
+		return null;
+	}
+
+	@Override
+	public Cell createCell(int column) {
+		throw unsupported();
+	}
+
+	@Override
+	public Cell createCell(int column, int type) {
+		throw unsupported();
+	}
+
+	@Override
+	public void removeCell(Cell cell) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setRowNum(int rowNum) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHeight(short height) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setZeroHeight(boolean zHeight) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setHeightInPoints(float height) {
+		throw unsupported();
+	}
+
+	@Override
+	public void setRowStyle(CellStyle style) {
+		throw unsupported();
+	}
+
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException("Streaming rows are read-only");
+	}
+
+}
@@ -0,0 +1,75 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * <p>读取工作簿中一个sheet的行数据来源
+ * <p>关闭时一起关闭工作簿，用于只读取一个sheet的情况
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see WorkbookSource
+ */
+public class WorkbookRowSource implements RowSource {
+
+	/**
+	 * sheet所在的工作簿
+	 */
+	private WorkbookSource workbook;
+
+	/**
+	 * sheet的行数据来源
+	 */
+	private RowSource sheet;
+
+	/**
+	 * 打开工作簿中的sheet，打开失败时关闭工作簿
+	 * @param workbook sheet所在的工作簿
+	 * @param sheetName sheet名称，为null时读取第一个sheet
+	 * @throws IOException
+	 */
+	public WorkbookRowSource(WorkbookSource workbook, String sheetName) throws IOException {
+		this.workbook = workbook;
+		try {
+			sheet = workbook.openSheet(sheetName);
+		}catch (RuntimeException e) {
+			workbook.close();
+			throw e;
+		}catch (IOException e) {
+			workbook.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public Row next() throws IOException {
+		return sheet.next();
+	}
+
+	@Override
+	public void project(boolean[] columns) {
+		sheet.project(columns);
+	}
+
+	@Override
+	public void skipTo(int rowIndex) {
+		sheet.skipTo(rowIndex);
+	}
+	
+	@Override
+	public void formulaText(boolean formulaText) {
+		sheet.formulaText(formulaText);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			sheet.close();
+		}finally {
+			workbook.close();
+		}
+	}
+
+}
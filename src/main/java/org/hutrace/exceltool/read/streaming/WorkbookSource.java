@@ -0,0 +1,34 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>流式读取的工作簿数据来源
+ * <p>打开Excel文件一次，读取共享字符串表、样式等所有sheet共用的数据，然后可以为每个sheet创建{@link RowSource}
+ * <p>{@link #openSheet(String)}需要在同一个线程中调用，创建出的{@link RowSource}可以分别在不同的线程中读取
+ * <p>关闭工作簿之前需要先关闭所有由它创建的{@link RowSource}
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see XlsxWorkbookSource
+ * @see XlsWorkbookSource
+ */
+public interface WorkbookSource extends Closeable {
+
+	/**
+	 * 获取所有sheet的名称
+	 * @return 按工作簿中的顺序排列的sheet名称
+	 */
+	List<String> getSheetNames();
+
+	/**
+	 * 创建读取某个sheet的行数据来源
+	 * @param sheetName sheet名称，为null时读取第一个sheet
+	 * @return 行数据来源
+	 * @throws IOException
+	 */
+	RowSource openSheet(String sheetName) throws IOException;
+
+}
@@ -0,0 +1,438 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.record.ArrayRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.SharedFormulaRecord;
+import org.apache.poi.hssf.record.SharedValueRecordBase;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.ss.formula.ptg.ExpPtg;
+import org.apache.poi.ss.formula.ptg.Ptg;
+import org.apache.poi.ss.usermodel.Cell;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+
+/**
+ * <p>xls的流式行数据来源
+ * <p>按BIFF8记录逐条读取Workbook流，不构建{@link HSSFWorkbook}对象模型，内存中只保留当前行的数据
+ * <p>工作簿部分由{@link XlsWorkbookSource}读取，只保留共享字符串表（SST）、数字格式与公式文本需要的sheet信息
+ * <p>支持NUMBER（包括RK、MULRK）、LABELSST、LABEL、BOOLERR、FORMULA（包括共享公式、数组公式）与BLANK记录
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see RowSource
+ */
+public class XlsRowSource extends AbstractRowSource {
+
+	/**
+	 * sheet所在的工作簿
+	 */
+	private XlsWorkbookSource workbook;
+
+	/**
+	 * 关闭时是否一起关闭工作簿
+	 */
+	private boolean ownsWorkbook;
+
+	/**
+	 * OLE2文件系统
+	 */
+	private NPOIFSFileSystem fs;
+
+	/**
+	 * Workbook流
+	 */
+	private InputStream workbookStream;
+
+	/**
+	 * BIFF8记录流
+	 */
+	private RecordFactoryInputStream records;
+
+	/**
+	 * 共享字符串表
+	 */
+	private SSTRecord sst;
+
+	/**
+	 * 共享公式与数组公式，key为第一个单元格的位置
+	 */
+	private Map<Integer, SharedValueRecordBase> sharedValues = new HashMap<>();
+
+	/**
+	 * 已经读取、但属于下一行的记录
+	 */
+	private Record pending;
+
+	/**
+	 * 当前行中等待还原公式文本的列
+	 */
+	private List<StreamingCell> formulaCells = new ArrayList<>();
+
+	/**
+	 * 当前行中等待还原公式文本的记录
+	 */
+	private List<FormulaRecord> formulaRecords = new ArrayList<>();
+
+	/**
+	 * 等待STRING记录的公式列（公式结果为字符串时，结果在下一条STRING记录中）
+	 */
+	private StreamingCell stringResultCell;
+
+	/**
+	 * sheet是否已经读取完毕
+	 */
+	private boolean sheetEnded;
+
+	/**
+	 * 使用输入流读取xls，输入流会先缓存到临时文件
+	 * @param in xls的输入流
+	 * @param sheetName 读取的sheet名称，为null时读取第一个sheet
+	 * @throws IOException
+	 */
+	public XlsRowSource(InputStream in, String sheetName) throws IOException {
+		workbook = new XlsWorkbookSource(in);
+		ownsWorkbook = true;
+		try {
+			open(workbook.sheet(sheetName));
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 读取已经打开的工作簿中的sheet，关闭时不会关闭工作簿
+	 * @param workbook sheet所在的工作簿
+	 * @param sheet sheet的BOUNDSHEET记录
+	 */
+	XlsRowSource(XlsWorkbookSource workbook, BoundSheetRecord sheet) throws IOException {
+		this.workbook = workbook;
+		try {
+			open(sheet);
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 打开Workbook流，并定位到sheet的BOF记录之后
+	 */
+	private void open(BoundSheetRecord sheet) throws IOException {
+		sst = workbook.sst();
+		init(workbook.formats(), workbook.isDate1904());
+		fs = new NPOIFSFileSystem(workbook.file(), true);
+		if(!seek(sheet.getPositionOfBof())) {
+			workbookStream.close();
+			workbookStream = XlsWorkbookSource.openWorkbookStream(fs);
+			records = new RecordFactoryInputStream(workbookStream, false);
+			skipToSheet(workbook.substream(sheet));
+		}
+	}
+
+	/**
+	 * 按BOF记录的位置直接定位到sheet的子流
+	 * @return 该位置不是BOF记录时返回false
+	 */
+	private boolean seek(long position) throws IOException {
+		workbookStream = XlsWorkbookSource.openWorkbookStream(fs);
+		long skipped = 0;
+		while(skipped < position) {
+			long n = workbookStream.skip(position - skipped);
+			if(n <= 0) {
+				return false;
+			}
+			skipped += n;
+		}
+		try {
+			records = new RecordFactoryInputStream(workbookStream, false);
+			return records.nextRecord() instanceof BOFRecord;
+		}catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 从Workbook流的开头逐条跳过前面的子流，定位到需要读取的sheet的BOF记录之后
+	 */
+	private void skipToSheet(int substream) {
+		int index = -1;
+		int depth = 0;
+		Record record;
+		while((record = records.nextRecord()) != null) {
+			if(record instanceof BOFRecord) {
+				if(depth++ == 0 && ++index == substream) {
+					return;
+				}
+			}else if(record instanceof EOFRecord) {
+				depth--;
+			}
+		}
+		throw new ExcelReaderException("The sheet was not found in the workbook stream");
+	}
+
+	/**
+	 * 读取sheet中的下一条记录，跳过嵌入的子流（例如图表），sheet结束时返回null
+	 */
+	private Record nextRecord() {
+		if(sheetEnded) {
+			return null;
+		}
+		int depth = 0;
+		Record record;
+		while((record = records.nextRecord()) != null) {
+			if(record instanceof BOFRecord) {
+				depth++;
+			}else if(record instanceof EOFRecord) {
+				if(depth-- == 0) {
+					break;
+				}
+			}else if(depth == 0) {
+				return record;
+			}
+		}
+		sheetEnded = true;
+		return null;
+	}
+
+	/**
+	 * 获取记录所在的行下标，不是单元格记录时返回-1
+	 */
+	private static int rowOf(Record record) {
+		if(record instanceof CellValueRecordInterface) {
+			return ((CellValueRecordInterface) record).getRow();
+		}
+		if(record instanceof MulBlankRecord) {
+			return ((MulBlankRecord) record).getRow();
+		}
+		return -1;
+	}
+
+	@Override
+	protected int nextRowIndex() throws IOException {
+		if(pending == null) {
+			Record record;
+			while((record = nextRecord()) != null) {
+				if(rowOf(record) >= 0) {
+					pending = record;
+					break;
+				}
+			}
+			if(pending == null) {
+				return -1;
+			}
+		}
+		return rowOf(pending);
+	}
+
+	@Override
+	protected void readRow(StreamingRow row) throws IOException {
+		Record record = pending;
+		pending = null;
+		int rowIndex = row.getRowNum();
+		try {
+			while(record != null) {
+				int recordRow = rowOf(record);
+				if(recordRow >= 0 && recordRow != rowIndex) {
+					pending = record;
+					break;
+				}
+				record(row, record);
+				record = nextRecord();
+			}
+			formulas();
+		}catch (RuntimeException e) {
+			if(e instanceof ExcelReaderException) {
+				throw e;
+			}
+			throw new ExcelReaderException("Failed to read the sheet, row " + rowIndex, e);
+		}finally {
+			formulaCells.clear();
+			formulaRecords.clear();
+			stringResultCell = null;
+		}
+	}
+
+	/**
+	 * 跳过的行只保留共享公式的定义，后面的行可能会用到
+	 */
+	@Override
+	protected void skipRow(int rowIndex) throws IOException {
+		Record record = pending;
+		pending = null;
+		while(record != null) {
+			int recordRow = rowOf(record);
+			if(recordRow >= 0 && recordRow != rowIndex) {
+				pending = record;
+				break;
+			}
+			if(record instanceof SharedFormulaRecord || record instanceof ArrayRecord) {
+				SharedValueRecordBase shared = (SharedValueRecordBase) record;
+				sharedValues.put(key(shared.getFirstRow(), shared.getFirstColumn()), shared);
+			}
+			record = nextRecord();
+		}
+	}
+
+	/**
+	 * 处理一条记录
+	 */
+	private void record(StreamingRow row, Record record) {
+		if(record instanceof NumberRecord) {
+			NumberRecord number = (NumberRecord) record;
+			if(isSelected(number.getColumn())) {
+				row.cell(number.getColumn(), number.getXFIndex()).setNumber(number.getValue());
+			}
+		}else if(record instanceof LabelSSTRecord) {
+			LabelSSTRecord label = (LabelSSTRecord) record;
+			if(isSelected(label.getColumn())) {
+				row.cell(label.getColumn(), label.getXFIndex()).setString(sst.getString(label.getSSTIndex()).getString());
+			}
+		}else if(record instanceof LabelRecord) {
+			LabelRecord label = (LabelRecord) record;
+			if(isSelected(label.getColumn())) {
+				row.cell(label.getColumn(), label.getXFIndex()).setString(label.getValue());
+			}
+		}else if(record instanceof BoolErrRecord) {
+			BoolErrRecord boolErr = (BoolErrRecord) record;
+			if(!isSelected(boolErr.getColumn())) {
+				return;
+			}
+			StreamingCell cell = row.cell(boolErr.getColumn(), boolErr.getXFIndex());
+			if(boolErr.isBoolean()) {
+				cell.setBoolean(boolErr.getBooleanValue());
+			}else {
+				cell.setError(boolErr.getErrorValue());
+			}
+		}else if(record instanceof FormulaRecord) {
+			if(isSelected(((FormulaRecord) record).getColumn())) {
+				formula(row, (FormulaRecord) record);
+			}
+		}else if(record instanceof StringRecord) {
+			if(stringResultCell != null) {
+				stringResultCell.setString(((StringRecord) record).getString());
+				stringResultCell = null;
+			}
+		}else if(record instanceof SharedFormulaRecord || record instanceof ArrayRecord) {
+			SharedValueRecordBase shared = (SharedValueRecordBase) record;
+			sharedValues.put(key(shared.getFirstRow(), shared.getFirstColumn()), shared);
+		}else if(record instanceof BlankRecord) {
+			BlankRecord blank = (BlankRecord) record;
+			if(isSelected(blank.getColumn())) {
+				row.cell(blank.getColumn(), blank.getXFIndex());
+			}
+		}else if(record instanceof MulBlankRecord) {
+			MulBlankRecord blanks = (MulBlankRecord) record;
+			for(int i = 0; i < blanks.getNumColumns(); i++) {
+				if(isSelected(blanks.getFirstColumn() + i)) {
+					row.cell(blanks.getFirstColumn() + i, blanks.getXFAt(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 读取公式的缓存结果，公式文本在整行读取完后还原（共享公式的定义在第一个公式之后）
+	 */
+	private void formula(StreamingRow row, FormulaRecord formula) {
+		StreamingCell cell = row.cell(formula.getColumn(), formula.getXFIndex());
+		switch (formula.getCachedResultType()) {
+			case Cell.CELL_TYPE_STRING:
+				cell.setString("");
+				if(formula.hasCachedResultString()) {
+					stringResultCell = cell;
+				}
+				break;
+			case Cell.CELL_TYPE_BOOLEAN:
+				cell.setBoolean(formula.getCachedBooleanValue());
+				break;
+			case Cell.CELL_TYPE_ERROR:
+				cell.setError((byte) formula.getCachedErrorValue());
+				break;
+			default:
+				cell.setNumber(formula.getValue());
+		}
+		formulaCells.add(cell);
+		formulaRecords.add(formula);
+	}
+
+	/**
+	 * 还原当前行中所有公式的文本，不需要公式的文本时只标记为公式列
+	 */
+	private void formulas() {
+		for(int i = 0; i < formulaCells.size(); i++) {
+			formulaCells.get(i).setFormula(formulaText ? formulaText(formulaRecords.get(i)) : "");
+		}
+	}
+
+	private String formulaText(FormulaRecord formula) {
+		Ptg[] ptgs = formula.getParsedExpression();
+		if(ptgs.length > 0 && ptgs[0] instanceof ExpPtg) {
+			ExpPtg exp = (ExpPtg) ptgs[0];
+			SharedValueRecordBase shared = sharedValues.get(key(exp.getRow(), exp.getColumn()));
+			if(shared instanceof SharedFormulaRecord) {
+				ptgs = ((SharedFormulaRecord) shared).getFormulaTokens(formula);
+			}else if(shared instanceof ArrayRecord) {
+				ptgs = ((ArrayRecord) shared).getFormulaTokens();
+			}else {
+				return "";
+			}
+		}
+		try {
+			return workbook.formulaText(ptgs);
+		}catch (RuntimeException e) {
+			return "";
+		}
+	}
+
+	private static int key(int row, int column) {
+		return (row << 8) | (column & 0xFF);
+	}
+
+	@Override
+	protected void release() throws IOException {
+		try {
+			if(workbookStream != null) {
+				workbookStream.close();
+			}
+		}finally {
+			try {
+				if(fs != null) {
+					fs.close();
+				}
+			}finally {
+				if(ownsWorkbook) {
+					workbook.close();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,247 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.poi.hssf.eventusermodel.EventWorkbookBuilder.SheetRecordCollectingListener;
+import org.apache.poi.hssf.model.HSSFFormulaParser;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.ExtendedFormatRecord;
+import org.apache.poi.hssf.record.FormatRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactoryInputStream;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.ss.formula.ptg.Ptg;
+import org.hutrace.exceltool.exception.NotFoundSheetException;
+
+/**
+ * <p>xls的工作簿数据来源
+ * <p>Workbook流中工作簿部分的记录只读取一次（共享字符串表、数字格式与公式文本需要的sheet信息），由所有sheet共用
+ * <p>每个sheet使用自己的文件句柄，按BOF记录的位置直接定位到sheet的子流，不需要解析前面的sheet
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see XlsRowSource
+ */
+public class XlsWorkbookSource extends AbstractWorkbookSource {
+
+	/**
+	 * 输入流缓存的临时文件
+	 */
+	private File file;
+
+	/**
+	 * 是否使用1904日期系统
+	 */
+	private boolean date1904;
+
+	/**
+	 * 数字格式表
+	 */
+	private NumberFormats formats = new NumberFormats();
+
+	/**
+	 * 共享字符串表
+	 */
+	private SSTRecord sst;
+
+	/**
+	 * 按工作簿中的顺序排列的sheet
+	 */
+	private List<BoundSheetRecord> sheets = new ArrayList<>();
+
+	/**
+	 * 按BOF位置排列的sheet
+	 */
+	private BoundSheetRecord[] ordered;
+
+	/**
+	 * 所有sheet的名称
+	 */
+	private List<String> sheetNames;
+
+	/**
+	 * 收集工作簿记录，用于还原公式文本
+	 */
+	private SheetRecordCollectingListener workbookRecords = new SheetRecordCollectingListener(null);
+
+	/**
+	 * 还原公式文本使用的工作簿
+	 */
+	private HSSFWorkbook stubWorkbook;
+
+	/**
+	 * 使用输入流读取xls，输入流会先缓存到临时文件
+	 * @param in xls的输入流
+	 * @throws IOException
+	 */
+	public XlsWorkbookSource(InputStream in) throws IOException {
+		load(spool(in, ".xls"));
+	}
+
+	/**
+	 * 直接读取xls文件，关闭时释放文件
+	 * @param file xls文件
+	 * @throws IOException
+	 */
+	public XlsWorkbookSource(File file) throws IOException {
+		load(file);
+	}
+
+	/**
+	 * 读取内存中的xls数据，数据会先写入临时文件
+	 * @param buffer xls数据，从position到limit
+	 * @throws IOException
+	 */
+	public XlsWorkbookSource(ByteBuffer buffer) throws IOException {
+		load(spool(buffer, ".xls"));
+	}
+
+	private void load(File file) throws IOException {
+		this.file = file;
+		try {
+			NPOIFSFileSystem fs = new NPOIFSFileSystem(file, true);
+			try {
+				InputStream workbookStream = openWorkbookStream(fs);
+				try {
+					open(new RecordFactoryInputStream(workbookStream, false));
+				}finally {
+					workbookStream.close();
+				}
+			}finally {
+				fs.close();
+			}
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 读取工作簿部分的记录
+	 */
+	private void open(RecordFactoryInputStream records) {
+		Record record;
+		while((record = records.nextRecord()) != null) {
+			workbookRecords.processRecordInternally(record);
+			if(record instanceof EOFRecord) {
+				break;
+			}else if(record instanceof BoundSheetRecord) {
+				sheets.add((BoundSheetRecord) record);
+			}else if(record instanceof SSTRecord) {
+				sst = (SSTRecord) record;
+			}else if(record instanceof FormatRecord) {
+				FormatRecord format = (FormatRecord) record;
+				formats.addFormat(format.getIndexCode(), format.getFormatString());
+			}else if(record instanceof ExtendedFormatRecord) {
+				formats.addStyle(((ExtendedFormatRecord) record).getFormatIndex());
+			}else if(record instanceof DateWindow1904Record) {
+				date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+			}
+		}
+		ordered = BoundSheetRecord.orderByBofPosition(sheets);
+		List<String> names = new ArrayList<>(sheets.size());
+		for(BoundSheetRecord sheet : sheets) {
+			names.add(sheet.getSheetname());
+		}
+		sheetNames = Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * 打开OLE2文件系统中的Workbook流
+	 * @param fs OLE2文件系统
+	 * @return Workbook流
+	 * @throws IOException
+	 */
+	static InputStream openWorkbookStream(NPOIFSFileSystem fs) throws IOException {
+		return fs.createDocumentInputStream(HSSFWorkbook.getWorkbookDirEntryName(fs.getRoot()));
+	}
+
+	@Override
+	public List<String> getSheetNames() {
+		return sheetNames;
+	}
+
+	@Override
+	public RowSource openSheet(String sheetName) throws IOException {
+		return new XlsRowSource(this, sheet(sheetName));
+	}
+
+	/**
+	 * 获取需要读取的sheet
+	 * @param sheetName sheet名称，为null时获取第一个sheet
+	 * @return sheet的BOUNDSHEET记录
+	 */
+	BoundSheetRecord sheet(String sheetName) {
+		for(BoundSheetRecord sheet : sheets) {
+			if(sheetName == null || sheetName.equals(sheet.getSheetname())) {
+				return sheet;
+			}
+		}
+		if(sheetName == null) {
+			throw new NotFoundSheetException("the excel does not contain any sheet");
+		}
+		throw new NotFoundSheetException("sheet with the name [" + sheetName + "] was not found");
+	}
+
+	/**
+	 * 获取sheet在Workbook流中是第几个子流（工作簿部分为第0个）
+	 * @param sheet sheet的BOUNDSHEET记录
+	 * @return 子流的序号
+	 */
+	int substream(BoundSheetRecord sheet) {
+		for(int i = 0; i < ordered.length; i++) {
+			if(ordered[i] == sheet) {
+				return i + 1;
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * <p>还原公式文本
+	 * <p>还原时使用的工作簿不是线程安全的，多个sheet同时读取时需要同步
+	 * @param ptgs 公式的解析结果
+	 * @return 公式文本
+	 */
+	synchronized String formulaText(Ptg[] ptgs) {
+		if(stubWorkbook == null) {
+			stubWorkbook = workbookRecords.getStubHSSFWorkbook();
+		}
+		return HSSFFormulaParser.toFormulaString(stubWorkbook, ptgs);
+	}
+
+	File file() {
+		return file;
+	}
+
+	boolean isDate1904() {
+		return date1904;
+	}
+
+	NumberFormats formats() {
+		return formats;
+	}
+
+	SSTRecord sst() {
+		return sst;
+	}
+
+	@Override
+	protected void release() throws IOException {
+		stubWorkbook = null;
+	}
+
+}
@@ -0,0 +1,339 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellReference;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+
+/**
+ * <p>xlsx的流式行数据来源
+ * <p>以只读方式打开xlsx压缩包，使用StAX逐个事件读取sheet的XML，内存中只保留当前行的数据
+ * <p>共享字符串表与样式表由{@link XlsxWorkbookSource}读取，同一个工作簿中的sheet共用
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see RowSource
+ */
+public class XlsxRowSource extends AbstractRowSource {
+
+	/**
+	 * sheet所在的工作簿
+	 */
+	private XlsxWorkbookSource workbook;
+
+	/**
+	 * 关闭时是否一起关闭工作簿
+	 */
+	private boolean ownsWorkbook;
+
+	/**
+	 * sheet的输入流
+	 */
+	private InputStream sheetStream;
+
+	/**
+	 * sheet的XML读取器
+	 */
+	private XMLStreamReader reader;
+
+	/**
+	 * 共享字符串表
+	 */
+	private SharedStrings strings;
+
+	/**
+	 * 共享公式表
+	 */
+	private SharedFormulas sharedFormulas = new SharedFormulas();
+
+	/**
+	 * 上一个读取到的行下标，用于没有r属性的行
+	 */
+	private int lastRowIndex = -1;
+
+	/**
+	 * 使用输入流读取xlsx，输入流会先缓存到临时文件
+	 * @param in xlsx的输入流
+	 * @param sheetName 读取的sheet名称，为null时读取第一个sheet
+	 * @throws IOException
+	 */
+	public XlsxRowSource(InputStream in, String sheetName) throws IOException {
+		this(in, sheetName, 0);
+	}
+
+	/**
+	 * 使用输入流读取xlsx，输入流会先缓存到临时文件
+	 * @param in xlsx的输入流
+	 * @param sheetName 读取的sheet名称，为null时读取第一个sheet
+	 * @param spillThreshold 共享字符串表超过此大小后写入临时文件，小于等于0时全部保存在内存中
+	 * @throws IOException
+	 */
+	public XlsxRowSource(InputStream in, String sheetName, long spillThreshold) throws IOException {
+		workbook = new XlsxWorkbookSource(in, spillThreshold);
+		ownsWorkbook = true;
+		try {
+			open(workbook.sheetStream(sheetName));
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 读取已经打开的工作簿中的sheet，关闭时不会关闭工作簿
+	 * @param workbook sheet所在的工作簿
+	 * @param sheetStream sheet的输入流
+	 */
+	XlsxRowSource(XlsxWorkbookSource workbook, InputStream sheetStream) throws IOException {
+		this.workbook = workbook;
+		try {
+			open(sheetStream);
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private void open(InputStream sheetStream) {
+		this.sheetStream = sheetStream;
+		strings = workbook.strings();
+		init(workbook.formats(), workbook.isDate1904());
+		reader = XmlStreams.open(sheetStream);
+	}
+
+	@Override
+	protected int nextRowIndex() throws IOException {
+		try {
+			while(reader.hasNext()) {
+				int event = reader.next();
+				if(event == XMLStreamReader.START_ELEMENT) {
+					if("row".equals(reader.getLocalName())) {
+						String r = reader.getAttributeValue(null, "r");
+						lastRowIndex = r == null ? lastRowIndex + 1 : Integer.parseInt(r) - 1;
+						return lastRowIndex;
+					}
+				}else if(event == XMLStreamReader.END_ELEMENT) {
+					if("sheetData".equals(reader.getLocalName())) {
+						return -1;
+					}
+				}
+			}
+			return -1;
+		}catch (XMLStreamException e) {
+			throw new ExcelReaderException("Failed to read the sheet, row " + (lastRowIndex + 1), e);
+		}
+	}
+
+	@Override
+	protected void readRow(StreamingRow row) throws IOException {
+		try {
+			int column = -1;
+			while(true) {
+				int event = reader.next();
+				if(event == XMLStreamReader.START_ELEMENT) {
+					if("c".equals(reader.getLocalName())) {
+						String r = reader.getAttributeValue(null, "r");
+						column = r == null ? column + 1 : column(r);
+						if(isSelected(column)) {
+							cell(row, column);
+						}else {
+							XmlStreams.skip(reader);
+						}
+					}else {
+						XmlStreams.skip(reader);
+					}
+				}else if(event == XMLStreamReader.END_ELEMENT) {
+					return;
+				}
+			}
+		}catch (XMLStreamException e) {
+			throw new ExcelReaderException("Failed to read the sheet, row " + row.getRowNum(), e);
+		}
+	}
+
+	/**
+	 * 跳过的行只保留共享公式的定义，后面的行可能会用到
+	 */
+	@Override
+	protected void skipRow(int rowIndex) throws IOException {
+		try {
+			int column = -1;
+			int depth = 1;
+			while(depth > 0) {
+				int event = reader.next();
+				if(event == XMLStreamReader.START_ELEMENT) {
+					String name = reader.getLocalName();
+					if("c".equals(name)) {
+						String r = reader.getAttributeValue(null, "r");
+						column = r == null ? column + 1 : column(r);
+						depth++;
+					}else if("f".equals(name) && "shared".equals(reader.getAttributeValue(null, "t"))) {
+						String si = reader.getAttributeValue(null, "si");
+						String text = XmlStreams.text(reader);
+						if(si != null && text.length() > 0) {
+							sharedFormulas.put(Integer.parseInt(si), text, rowIndex, column);
+						}
+					}else {
+						XmlStreams.skip(reader);
+					}
+				}else if(event == XMLStreamReader.END_ELEMENT) {
+					depth--;
+				}
+			}
+		}catch (XMLStreamException e) {
+			throw new ExcelReaderException("Failed to read the sheet, row " + rowIndex, e);
+		}
+	}
+
+	/**
+	 * 读取一个c元素
+	 */
+	private void cell(StreamingRow row, int column) throws XMLStreamException {
+		String type = reader.getAttributeValue(null, "t");
+		String s = reader.getAttributeValue(null, "s");
+		StreamingCell cell = row.cell(column, s == null ? 0 : Integer.parseInt(s));
+		String value = null;
+		String inline = null;
+		String formula = null;
+		boolean hasFormula = false;
+		while(true) {
+			int event = reader.next();
+			if(event == XMLStreamReader.START_ELEMENT) {
+				String name = reader.getLocalName();
+				if("v".equals(name)) {
+					value = XmlStreams.text(reader);
+				}else if("f".equals(name)) {
+					hasFormula = true;
+					if(formulaText) {
+						formula = formula(row.getRowNum(), column);
+					}else {
+						XmlStreams.skip(reader);
+					}
+				}else if("is".equals(name)) {
+					inline = inline();
+				}else {
+					XmlStreams.skip(reader);
+				}
+			}else if(event == XMLStreamReader.END_ELEMENT) {
+				break;
+			}
+		}
+		if("s".equals(type)) {
+			if(value != null && value.length() > 0) {
+				cell.setString(strings.get(Integer.parseInt(value)));
+			}
+		}else if("inlineStr".equals(type)) {
+			cell.setString(inline == null ? "" : inline);
+		}else if("str".equals(type)) {
+			cell.setString(value == null ? "" : value);
+		}else if("b".equals(type)) {
+			if(value != null) {
+				cell.setBoolean("1".equals(value) || "true".equalsIgnoreCase(value));
+			}
+		}else if("e".equals(type)) {
+			if(value != null) {
+				cell.setError(error(value));
+			}
+		}else if("d".equals(type)) {
+			if(value != null) {
+				cell.setString(value);
+			}
+		}else if(value != null && value.length() > 0) {
+			cell.setNumber(value);
+		}
+		if(hasFormula) {
+			cell.setFormula(formula == null ? "" : formula);
+		}
+	}
+
+	/**
+	 * 读取一个f元素中的公式，共享公式会平移后返回
+	 */
+	private String formula(int rowIndex, int column) throws XMLStreamException {
+		String t = reader.getAttributeValue(null, "t");
+		String si = reader.getAttributeValue(null, "si");
+		String text = XmlStreams.text(reader);
+		if("shared".equals(t) && si != null) {
+			int index = Integer.parseInt(si);
+			if(text.length() > 0) {
+				sharedFormulas.put(index, text, rowIndex, column);
+				return text;
+			}
+			return sharedFormulas.get(index, rowIndex, column);
+		}
+		return text;
+	}
+
+	/**
+	 * 读取is元素中的内联字符串
+	 */
+	private String inline() throws XMLStreamException {
+		StringBuilder text = new StringBuilder();
+		int depth = 1;
+		while(depth > 0) {
+			int event = reader.next();
+			if(event == XMLStreamReader.START_ELEMENT) {
+				String name = reader.getLocalName();
+				if("t".equals(name)) {
+					text.append(XmlStreams.text(reader));
+				}else if("rPh".equals(name)) {
+					XmlStreams.skip(reader);
+				}else {
+					depth++;
+				}
+			}else if(event == XMLStreamReader.END_ELEMENT) {
+				depth--;
+			}
+		}
+		return SharedStrings.decode(text);
+	}
+
+	/**
+	 * 从单元格引用（例如"AB12"）中获取列下标
+	 */
+	private static int column(String reference) {
+		int end = 0;
+		while(end < reference.length() && Character.isLetter(reference.charAt(end))) {
+			end++;
+		}
+		return CellReference.convertColStringToIndex(reference.substring(0, end));
+	}
+
+	private static byte error(String value) {
+		try {
+			return FormulaError.forString(value).getCode();
+		}catch (IllegalArgumentException e) {
+			return FormulaError.NA.getCode();
+		}
+	}
+
+	@Override
+	protected void release() throws IOException {
+		try {
+			if(reader != null) {
+				reader.close();
+			}
+		}catch (XMLStreamException e) {
+			// 关闭XML读取器失败不影响释放文件
+		}finally {
+			try {
+				if(sheetStream != null) {
+					sheetStream.close();
+				}
+			}finally {
+				if(ownsWorkbook) {
+					workbook.close();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,273 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.hutrace.exceltool.exception.ExcelReaderException;
+import org.hutrace.exceltool.exception.NotFoundSheetException;
+
+/**
+ * <p>xlsx的工作簿数据来源
+ * <p>以只读方式打开xlsx压缩包，共享字符串表与样式表只读取一次，由所有sheet共用
+ * <p>样式只保留判断日期格式需要的数字格式
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see XlsxRowSource
+ */
+public class XlsxWorkbookSource extends AbstractWorkbookSource {
+
+	/**
+	 * xlsx压缩包
+	 */
+	private OPCPackage pkg;
+
+	/**
+	 * xlsx中各个部分的读取器
+	 */
+	private XSSFReader xssfReader;
+
+	/**
+	 * 是否使用1904日期系统
+	 */
+	private boolean date1904;
+
+	/**
+	 * 数字格式表
+	 */
+	private NumberFormats formats;
+
+	/**
+	 * 共享字符串表
+	 */
+	private SharedStrings strings;
+
+	/**
+	 * 所有sheet的名称
+	 */
+	private List<String> sheetNames;
+
+	/**
+	 * 共享字符串表写入临时文件的阈值
+	 */
+	private long spillThreshold;
+
+	/**
+	 * 使用输入流读取xlsx，输入流会先缓存到临时文件
+	 * @param in xlsx的输入流
+	 * @throws IOException
+	 */
+	public XlsxWorkbookSource(InputStream in) throws IOException {
+		this(in, 0);
+	}
+
+	/**
+	 * 使用输入流读取xlsx，输入流会先缓存到临时文件
+	 * @param in xlsx的输入流
+	 * @param spillThreshold 共享字符串表超过此大小后写入临时文件，小于等于0时全部保存在内存中
+	 * @throws IOException
+	 * @see SharedStrings
+	 */
+	public XlsxWorkbookSource(InputStream in, long spillThreshold) throws IOException {
+		this.spillThreshold = spillThreshold;
+		load(spool(in, ".xlsx"));
+	}
+
+	/**
+	 * 直接读取xlsx文件，只会解压需要的部分，关闭时释放文件
+	 * @param file xlsx文件
+	 * @param spillThreshold 共享字符串表超过此大小后写入临时文件，小于等于0时全部保存在内存中
+	 * @throws IOException
+	 */
+	public XlsxWorkbookSource(File file, long spillThreshold) throws IOException {
+		this.spillThreshold = spillThreshold;
+		load(file);
+	}
+
+	/**
+	 * 读取内存中的xlsx数据，数据会先写入临时文件
+	 * @param buffer xlsx数据，从position到limit
+	 * @param spillThreshold 共享字符串表超过此大小后写入临时文件，小于等于0时全部保存在内存中
+	 * @throws IOException
+	 */
+	public XlsxWorkbookSource(ByteBuffer buffer, long spillThreshold) throws IOException {
+		this.spillThreshold = spillThreshold;
+		load(spool(buffer, ".xlsx"));
+	}
+
+	private void load(File file) throws IOException {
+		try {
+			open(file);
+		}catch (RuntimeException e) {
+			close();
+			throw e;
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private void open(File file) throws IOException {
+		try {
+			pkg = OPCPackage.open(file, PackageAccess.READ);
+			xssfReader = new XSSFReader(pkg);
+			date1904 = date1904(xssfReader.getWorkbookData());
+			formats = styles(xssfReader.getStylesData());
+			strings = new SharedStrings(xssfReader.getSharedStringsData(), spillThreshold);
+			sheetNames = sheetNames();
+		}catch (OpenXML4JException e) {
+			throw new ExcelReaderException("Failed to open the xlsx", e);
+		}catch (XMLStreamException e) {
+			throw new ExcelReaderException("Failed to open the xlsx", e);
+		}
+	}
+
+	/**
+	 * 读取工作簿是否使用1904日期系统
+	 */
+	private static boolean date1904(InputStream in) throws IOException, XMLStreamException {
+		try {
+			XMLStreamReader reader = XmlStreams.open(in);
+			while(reader.hasNext()) {
+				if(reader.next() == XMLStreamReader.START_ELEMENT) {
+					String name = reader.getLocalName();
+					if("workbookPr".equals(name)) {
+						String value = reader.getAttributeValue(null, "date1904");
+						return "1".equals(value) || "true".equalsIgnoreCase(value);
+					}
+					if("sheets".equals(name)) {
+						break;
+					}
+				}
+			}
+			return false;
+		}finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * 读取样式表中的数字格式
+	 */
+	private static NumberFormats styles(InputStream in) throws IOException, XMLStreamException {
+		NumberFormats formats = new NumberFormats();
+		if(in == null) {
+			return formats;
+		}
+		try {
+			XMLStreamReader reader = XmlStreams.open(in);
+			boolean cellXfs = false;
+			while(reader.hasNext()) {
+				int event = reader.next();
+				if(event == XMLStreamReader.START_ELEMENT) {
+					String name = reader.getLocalName();
+					if("numFmt".equals(name)) {
+						formats.addFormat(Integer.parseInt(reader.getAttributeValue(null, "numFmtId")),
+								reader.getAttributeValue(null, "formatCode"));
+					}else if("cellXfs".equals(name)) {
+						cellXfs = true;
+					}else if(cellXfs && "xf".equals(name)) {
+						String id = reader.getAttributeValue(null, "numFmtId");
+						formats.addStyle(id == null ? 0 : Integer.parseInt(id));
+						XmlStreams.skip(reader);
+					}
+				}else if(event == XMLStreamReader.END_ELEMENT && "cellXfs".equals(reader.getLocalName())) {
+					break;
+				}
+			}
+			reader.close();
+			return formats;
+		}finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * 读取所有sheet的名称
+	 */
+	private List<String> sheetNames() throws IOException, OpenXML4JException {
+		XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+		Iterator<InputStream> iterator = sheets;
+		List<String> names = new ArrayList<>();
+		while(iterator.hasNext()) {
+			iterator.next().close();
+			names.add(sheets.getSheetName());
+		}
+		return Collections.unmodifiableList(names);
+	}
+
+	@Override
+	public List<String> getSheetNames() {
+		return sheetNames;
+	}
+
+	@Override
+	public RowSource openSheet(String sheetName) throws IOException {
+		return new XlsxRowSource(this, sheetStream(sheetName));
+	}
+
+	/**
+	 * 获取需要读取的sheet的输入流
+	 * @param sheetName sheet名称，为null时获取第一个sheet
+	 * @return sheet的输入流
+	 * @throws IOException
+	 */
+	InputStream sheetStream(String sheetName) throws IOException {
+		try {
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+			Iterator<InputStream> iterator = sheets;
+			while(iterator.hasNext()) {
+				InputStream in = iterator.next();
+				if(sheetName == null || sheetName.equals(sheets.getSheetName())) {
+					return in;
+				}
+				in.close();
+			}
+		}catch (OpenXML4JException e) {
+			throw new ExcelReaderException("Failed to open the sheet", e);
+		}
+		if(sheetName == null) {
+			throw new NotFoundSheetException("the excel does not contain any sheet");
+		}
+		throw new NotFoundSheetException("sheet with the name [" + sheetName + "] was not found");
+	}
+
+	boolean isDate1904() {
+		return date1904;
+	}
+
+	NumberFormats formats() {
+		return formats;
+	}
+
+	SharedStrings strings() {
+		return strings;
+	}
+
+	@Override
+	protected void release() throws IOException {
+		try {
+			if(strings != null) {
+				strings.close();
+			}
+		}finally {
+			if(pkg != null) {
+				pkg.revert();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package org.hutrace.exceltool.read.streaming;
+
+import java.io.InputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.hutrace.exceltool.exception.ExcelReaderException;
+
+/**
+ * <p>XML流读取工具类
+ * <p>创建基于StAX的{@link XMLStreamReader}，按事件逐个读取XML，不会构建整个文档
+ * <p>禁用了DTD与外部实体，防止XXE
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class XmlStreams {
+
+	private static final XMLInputFactory FACTORY;
+
+	static {
+		FACTORY = XMLInputFactory.newInstance();
+		FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+	}
+
+	private XmlStreams() {}
+
+	/**
+	 * 使用输入流创建{@link XMLStreamReader}
+	 * @param in XML输入流
+	 * @return {@link XMLStreamReader}
+	 */
+	public static XMLStreamReader open(InputStream in) {
+		try {
+			return FACTORY.createXMLStreamReader(in);
+		}catch (XMLStreamException e) {
+			throw new ExcelReaderException("Failed to parse the xml of the excel", e);
+		}
+	}
+
+	/**
+	 * 读取当前元素中的所有文本，忽略子元素的标签
+	 * @param reader 位于开始标签的{@link XMLStreamReader}
+	 * @return 元素中的文本
+	 * @throws XMLStreamException
+	 */
+	public static String text(XMLStreamReader reader) throws XMLStreamException {
+		StringBuilder text = null;
+		String first = null;
+		int depth = 1;
+		while(depth > 0) {
+			switch (reader.next()) {
+				case XMLStreamReader.START_ELEMENT:
+					depth++;
+					break;
+				case XMLStreamReader.END_ELEMENT:
+					depth--;
+					break;
+				case XMLStreamReader.CHARACTERS:
+				case XMLStreamReader.CDATA:
+				case XMLStreamReader.SPACE:
+					if(first == null) {
+						first = reader.getText();
+					}else {
+						if(text == null) {
+							text = new StringBuilder(first);
+						}
+						text.append(reader.getText());
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		if(text != null) {
+			return text.toString();
+		}
+		return first == null ? "" : first;
+	}
+
+	/**
+	 * 跳过当前元素及其所有子元素
+	 * @param reader 位于开始标签的{@link XMLStreamReader}
+	 * @throws XMLStreamException
+	 */
+	public static void skip(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while(depth > 0) {
+			int event = reader.next();
+			if(event == XMLStreamReader.START_ELEMENT) {
+				depth++;
+			}else if(event == XMLStreamReader.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+}
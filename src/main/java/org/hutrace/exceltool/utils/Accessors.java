@@ -0,0 +1,173 @@
+package org.hutrace.exceltool.utils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <p>JavaBean的访问器工具类
+ * <p>使用{@link LambdaMetafactory}把构造方法、getter、setter编译成{@link Supplier}、{@link Function}、{@link BiConsumer}，
+ * 调用时没有{@link Method#invoke(Object, Object...)}的参数数组、访问检查与异常包装，可以被JIT内联
+ * <p>访问器应该在读取标题时创建一次，之后每一行重复使用
+ * <p>类或方法不是public、或者类对本工具包的类加载器不可见时（LambdaMetafactory无法访问），使用{@link MethodHandle}代替
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ */
+public class Accessors {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * 创建调用无参构造方法的{@link Supplier}
+	 * @param clazs JavaBean的类
+	 * @return 创建对象的{@link Supplier}
+	 * @throws ReflectiveOperationException 没有无参构造方法时
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Supplier<T> constructor(Class<T> clazs) throws ReflectiveOperationException {
+		Constructor<T> constructor = clazs.getDeclaredConstructor();
+		if(isPublic(clazs, constructor.getModifiers()) && isVisible(clazs)) {
+			try {
+				MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+				CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+						MethodType.methodType(Supplier.class),
+						MethodType.methodType(Object.class),
+						handle, MethodType.methodType(clazs));
+				return (Supplier<T>) site.getTarget().invoke();
+			}catch (Throwable e) {
+				// 交给下面的MethodHandle
+			}
+		}
+		constructor.setAccessible(true);
+		MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		return () -> {
+			try {
+				return (T) handle.invokeExact();
+			}catch (RuntimeException | Error e) {
+				throw e;
+			}catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+	/**
+	 * 创建调用getter的{@link Function}，基本类型的返回值会被装箱
+	 * @param method getter方法
+	 * @return 传入JavaBean对象，返回字段值的{@link Function}
+	 * @throws ReflectiveOperationException
+	 */
+	@SuppressWarnings("unchecked")
+	public static Function<Object, Object> getter(Method method) throws ReflectiveOperationException {
+		Class<?> clazs = method.getDeclaringClass();
+		if(isPublic(clazs, method.getModifiers()) && isVisible(clazs) && isVisible(method.getReturnType())) {
+			try {
+				MethodHandle handle = LOOKUP.unreflect(method);
+				CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+						MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class),
+						handle, MethodType.methodType(wrap(method.getReturnType()), clazs));
+				return (Function<Object, Object>) site.getTarget().invoke();
+			}catch (Throwable e) {
+				// 交给下面的MethodHandle
+			}
+		}
+		method.setAccessible(true);
+		MethodHandle handle = LOOKUP.unreflect(method).asType(MethodType.methodType(Object.class, Object.class));
+		return bean -> {
+			try {
+				return handle.invokeExact(bean);
+			}catch (RuntimeException | Error e) {
+				throw e;
+			}catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+	/**
+	 * 创建调用setter的{@link BiConsumer}，基本类型的参数会被拆箱（传入null时抛出{@link NullPointerException}）
+	 * @param method setter方法
+	 * @return 传入JavaBean对象与字段值的{@link BiConsumer}
+	 * @throws ReflectiveOperationException
+	 */
+	@SuppressWarnings("unchecked")
+	public static BiConsumer<Object, Object> setter(Method method) throws ReflectiveOperationException {
+		Class<?> clazs = method.getDeclaringClass();
+		if(isPublic(clazs, method.getModifiers()) && isVisible(clazs) && isVisible(method.getParameterTypes()[0])) {
+			try {
+				MethodHandle handle = LOOKUP.unreflect(method);
+				CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+						MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class),
+						handle, MethodType.methodType(void.class, clazs, wrap(method.getParameterTypes()[0])));
+				return (BiConsumer<Object, Object>) site.getTarget().invoke();
+			}catch (Throwable e) {
+				// 交给下面的MethodHandle
+			}
+		}
+		method.setAccessible(true);
+		MethodHandle handle = LOOKUP.unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+		return (bean, value) -> {
+			try {
+				handle.invokeExact(bean, value);
+			}catch (RuntimeException | Error e) {
+				throw e;
+			}catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+	/**
+	 * 类与成员是否都是public的，只有这样LambdaMetafactory才能访问
+	 */
+	private static boolean isPublic(Class<?> clazs, int modifiers) {
+		if(!Modifier.isPublic(modifiers)) {
+			return false;
+		}
+		for(Class<?> c = clazs; c != null; c = c.getDeclaringClass()) {
+			if(!Modifier.isPublic(c.getModifiers())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 生成的类由本类的类加载器加载，需要能够通过它找到JavaBean使用的类（例如JavaBean在Web应用的类加载器中时找不到）
+	 */
+	private static boolean isVisible(Class<?> type) {
+		while(type.isArray()) {
+			type = type.getComponentType();
+		}
+		if(type.isPrimitive()) {
+			return true;
+		}
+		try {
+			return Class.forName(type.getName(), false, Accessors.class.getClassLoader()) == type;
+		}catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 获取基本类型的包装类型
+	 */
+	private static Class<?> wrap(Class<?> type) {
+		if(!type.isPrimitive()) {
+			return type;
+		}
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+}
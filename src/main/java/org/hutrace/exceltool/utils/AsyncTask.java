@@ -0,0 +1,128 @@
+package org.hutrace.exceltool.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>在{@link Executor}中执行的读写任务
+ * <p>{@link #cancel(boolean)}会中断正在执行任务的线程，读取、写入在每一行之前检查中断状态，
+ * 取消后会尽快结束，不会继续解析或写入后面的行
+ * <p>只有直接调用这个对象的{@link #cancel(boolean)}才会中断任务，取消thenApply等方法返回的新对象不会影响任务
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @param <T> 任务的结果
+ * @see org.hutrace.exceltool.Excel
+ */
+public class AsyncTask<T> extends CompletableFuture<T> implements Runnable {
+
+	/**
+	 * 需要执行的任务
+	 */
+	private final Callable<? extends T> task;
+
+	/**
+	 * 正在执行任务的线程，没有执行时为null
+	 */
+	private Thread runner;
+
+	private AsyncTask(Callable<? extends T> task) {
+		this.task = task;
+	}
+
+	/**
+	 * <p>在executor中执行task
+	 * <p>task抛出的异常会原样作为结果的异常
+	 * @param task 需要执行的任务
+	 * @param executor 执行任务的线程池
+	 * @return 任务的结果
+	 */
+	public static <T> AsyncTask<T> submit(Callable<? extends T> task, Executor executor) {
+		if(task == null) {
+			throw new NullPointerException("The [task] cannot be null");
+		}
+		if(executor == null) {
+			throw new NullPointerException("The [executor] cannot be null");
+		}
+		AsyncTask<T> future = new AsyncTask<>(task);
+		executor.execute(future);
+		return future;
+	}
+
+	/**
+	 * <p>默认使用的线程池
+	 * <p>运行在支持虚拟线程的JDK上时，每个任务使用一个虚拟线程，等待IO时不会占用平台线程
+	 * <p>否则使用按需创建的守护线程，空闲60秒后回收
+	 * @return {@link Executor}
+	 */
+	public static Executor commonExecutor() {
+		return DefaultExecutor.EXECUTOR;
+	}
+
+	@Override
+	public void run() {
+		synchronized(this) {
+			if(isDone()) {
+				return;
+			}
+			runner = Thread.currentThread();
+		}
+		try {
+			complete(task.call());
+		}catch (Throwable e) {
+			completeExceptionally(e);
+		}finally {
+			synchronized(this) {
+				runner = null;
+			}
+			if(isCancelled()) {
+				// 取消时的中断只针对这个任务，不能留给线程池中的下一个任务
+				Thread.interrupted();
+			}
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if(cancelled) {
+			synchronized(this) {
+				if(runner != null) {
+					runner.interrupt();
+				}
+			}
+		}
+		return cancelled;
+	}
+
+	/**
+	 * 第一次使用时才创建默认的线程池
+	 */
+	private static class DefaultExecutor {
+
+		private static final Executor EXECUTOR = create();
+
+		private static Executor create() {
+			try {
+				Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+				return (ExecutorService) method.invoke(null);
+			}catch (ReflectiveOperationException | UnsupportedOperationException e) {
+				AtomicInteger count = new AtomicInteger();
+				ThreadFactory factory = r -> {
+					Thread thread = new Thread(r, "excel-async-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				};
+				return Executors.newCachedThreadPool(factory);
+			}
+		}
+
+	}
+
+}
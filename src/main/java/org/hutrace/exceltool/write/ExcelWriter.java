@@ -0,0 +1,558 @@
+package org.hutrace.exceltool.write;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.mapper.BeanMetadata;
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.pojo.TitleAlias;
+
+/**
+ * <p>不可修改的Excel写入配置，可以在多个线程中共用
+ * <p>使用{@link #builder()}创建，创建后配置不会再改变；每次写入都会创建一个新的{@link Writer}并应用这些配置，
+ * 解析器、{@link Workbook}等写入过程中的状态只属于这一次写入，不同线程之间不会互相影响
+ * <p>JavaBean的映射已经按类缓存（见{@link BeanMetadata}），所有写入共用，不会重复解析
+ * @author HuTrace
+ * @since 1.8
+ * @version 1.0
+ * @see Writer
+ */
+public final class ExcelWriter {
+	
+	/**
+	 * 创建{@link Writer}的方法
+	 */
+	private final Supplier<? extends Writer> factory;
+	
+	/**
+	 * 按设置的顺序保存的配置，键为配置的名称
+	 */
+	private final Map<String, Consumer<Writer>> settings;
+	
+	private ExcelWriter(Builder builder) {
+		this.factory = builder.factory;
+		this.settings = Collections.unmodifiableMap(new LinkedHashMap<>(builder.settings));
+	}
+	
+	/**
+	 * 创建使用{@link Writer}写入的Builder
+	 * @return {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder(Writer::new);
+	}
+	
+	/**
+	 * <p>创建使用自定义的{@link Writer}写入的Builder
+	 * <p>扩展了{@link Writer}时使用，factory每次需要返回一个新的对象
+	 * @param factory 创建{@link Writer}的方法
+	 * @return {@link Builder}
+	 */
+	public static Builder builder(Supplier<? extends Writer> factory) {
+		if(factory == null) {
+			throw new NullPointerException("The [factory] cannot be null");
+		}
+		return new Builder(factory);
+	}
+	
+	/**
+	 * 创建包含当前所有配置的Builder，用于在当前配置的基础上创建新的配置
+	 * @return {@link Builder}
+	 */
+	public Builder toBuilder() {
+		Builder builder = new Builder(factory);
+		settings.forEach(builder::set);
+		return builder;
+	}
+	
+	/**
+	 * <p>创建一个新的{@link Writer}并应用所有的配置
+	 * <p>返回的对象只属于调用者，修改它不会影响当前的配置
+	 * @return {@link Writer}
+	 */
+	public Writer newWriter() {
+		Writer writer = factory.get();
+		for(Consumer<Writer> setting : settings.values()) {
+			setting.accept(writer);
+		}
+		return writer;
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, String[])}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String)
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath) throws IOException {
+		newWriter().mapToFile(list, realPath);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, String[])
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, String[] collation) throws IOException {
+		newWriter().mapToFile(list, realPath, collation);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, TitleAlias[], String[])}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, TitleAlias[])
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, TitleAlias[] titleAlias) throws IOException {
+		newWriter().mapToFile(list, realPath, titleAlias);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, TitleAlias[], String[])
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, TitleAlias[] titleAlias, String[] collation) throws IOException {
+		newWriter().mapToFile(list, realPath, titleAlias, collation);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照JavaBean的字段顺序进行解析，生成Excel列的顺序会按照JavaBean中字段的顺序而定
+	 * <p>当然，你可以使用{@link Writer#javaBeanToFile(List, String, String[])}，它可以自定义顺序
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @throws IOException
+	 * @see Writer#javaBeanToFile(List, String)
+	 */
+	public void javaBeanToFile(List<Object> list, String realPath) throws IOException {
+		newWriter().javaBeanToFile(list, realPath);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照collation参数的顺序进行解析，生成Excel列的顺序会按照collation参数的顺序而定
+	 * <p><b>需要注意：可以通过设置collation参数来对Excel写入列的个数做处理（过滤不需要的字段），该解析器是根据collation参数来获取JavaBean中的数据的</b>
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @throws IOException
+	 * @see Writer#javaBeanToFile(List, String, String[])
+	 */
+	public void javaBeanToFile(List<Object> list, String realPath, String[] collation) throws IOException {
+		newWriter().javaBeanToFile(list, realPath, collation);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, String[])}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, ExcelType)
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, ExcelType type) throws IOException {
+		newWriter().mapToFile(list, realPath, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, String[], ExcelType)
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, String[] collation, ExcelType type) throws IOException {
+		newWriter().mapToFile(list, realPath, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, TitleAlias[], String[])}
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, TitleAlias[], ExcelType)
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, TitleAlias[] titleAlias, ExcelType type) throws IOException {
+		newWriter().mapToFile(list, realPath, titleAlias, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#mapToFile(List, String, TitleAlias[], String[], ExcelType)
+	 */
+	public void mapToFile(List<Map<String, Object>> list, String realPath, TitleAlias[] titleAlias, String[] collation, ExcelType type) throws IOException {
+		newWriter().mapToFile(list, realPath, titleAlias, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照JavaBean的字段顺序进行解析，生成Excel列的顺序会按照JavaBean中字段的顺序而定
+	 * <p>当然，你可以使用{@link Writer#javaBeanToFile(List, String, String[])}，它可以自定义顺序
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#javaBeanToFile(List, String, ExcelType)
+	 */
+	public void javaBeanToFile(List<Object> list, String realPath, ExcelType type) throws IOException {
+		newWriter().javaBeanToFile(list, realPath, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照collation参数的顺序进行解析，生成Excel列的顺序会按照collation参数的顺序而定
+	 * <p><b>需要注意：可以通过设置collation参数来对Excel写入列的个数做处理（过滤不需要的字段），该解析器是根据collation参数来获取JavaBean中的数据的</b>
+	 * @param list 写入Excel的数据
+	 * @param realPath 写入文件的绝对路径
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式，而不需要通过realPath参数的后缀去解析。
+	 * @throws IOException
+	 * @see Writer#javaBeanToFile(List, String, String[], ExcelType)
+	 */
+	public void javaBeanToFile(List<Object> list, String realPath, String[] collation, ExcelType type) throws IOException {
+		newWriter().javaBeanToFile(list, realPath, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, String[])}
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#mapToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public void mapToOutputStream(List<Map<String, Object>> list, OutputStream out, ExcelType type) throws IOException {
+		newWriter().mapToOutputStream(list, out, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#mapToOutputStream(List, OutputStream, String[], ExcelType)
+	 */
+	public void mapToOutputStream(List<Map<String, Object>> list, OutputStream out, String[] collation, ExcelType type) throws IOException {
+		newWriter().mapToOutputStream(list, out, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, TitleAlias[], String[])}
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#mapToOutputStream(List, OutputStream, TitleAlias[], ExcelType)
+	 */
+	public void mapToOutputStream(List<Map<String, Object>> list, OutputStream out, TitleAlias[] titleAlias, ExcelType type) throws IOException {
+		newWriter().mapToOutputStream(list, out, titleAlias, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#mapToOutputStream(List, OutputStream, TitleAlias[], String[], ExcelType)
+	 */
+	public void mapToOutputStream(List<Map<String, Object>> list, OutputStream out, TitleAlias[] titleAlias, String[] collation, ExcelType type) throws IOException {
+		newWriter().mapToOutputStream(list, out, titleAlias, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照JavaBean的字段顺序进行解析，生成Excel列的顺序会按照JavaBean中字段的顺序而定
+	 * <p>当然，你可以使用{@link Writer#javaBeanToFile(List, String, String[])}，它可以自定义顺序
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#javaBeanToOutputStream(List, OutputStream, ExcelType)
+	 */
+	public void javaBeanToOutputStream(List<Object> list, OutputStream out, ExcelType type) throws IOException {
+		newWriter().javaBeanToOutputStream(list, out, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照collation参数的顺序进行解析，生成Excel列的顺序会按照collation参数的顺序而定
+	 * <p><b>需要注意：可以通过设置collation参数来对Excel写入列的个数做处理（过滤不需要的字段），该解析器是根据collation参数来获取JavaBean中的数据的</b>
+	 * @param list 写入Excel的数据
+	 * @param out 输出流，向输出流中写入Excel数据
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @throws IOException
+	 * @see Writer#javaBeanToOutputStream(List, OutputStream, String[], ExcelType)
+	 */
+	public void javaBeanToOutputStream(List<Object> list, OutputStream out, String[] collation, ExcelType type) throws IOException {
+		newWriter().javaBeanToOutputStream(list, out, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, String[])}
+	 * @param list 写入Excel的数据
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#mapToBytes(List, ExcelType)
+	 */
+	public byte[] mapToBytes(List<Map<String, Object>> list, ExcelType type) throws IOException {
+		return newWriter().mapToBytes(list, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#mapToBytes(List, String[], ExcelType)
+	 */
+	public byte[] mapToBytes(List<Map<String, Object>> list, String[] collation, ExcelType type) throws IOException {
+		return newWriter().mapToBytes(list, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是无序的（针对整体而言无序）
+	 * <p>它是通过{@link Map#keySet()}与{@link Map#values()}实现的，所有是整体而言无序的
+	 * <p>你不能确定哪一列排在第一，哪一列排在最后。
+	 * <p>如果你想要列有序，使用{@link Writer#mapToFile(List, String, TitleAlias[], String[])}
+	 * @param list 写入Excel的数据
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#mapToBytes(List, TitleAlias[], ExcelType)
+	 */
+	public byte[] mapToBytes(List<Map<String, Object>> list, TitleAlias[] titleAlias, ExcelType type) throws IOException {
+		return newWriter().mapToBytes(list, titleAlias, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>可以通过{@link TitleAlias}数组对Excel的标题进行设置，{@link TitleAlias#getAlias()}对应map的key，{@link TitleAlias#getTitle()}作为标题
+	 * <p>{@link TitleAlias}数组没有个数要求，如果没有设置的，则使用map的key作为标题
+	 * <p>此解析器写入Excel的列是有序序的
+	 * <p>它是通过collation参数的顺序获取Map中的值
+	 * <p>所以Excel的列数是根据collation参数确定的（可以过滤不需要的属性）
+	 * @param list 写入Excel的数据
+	 * @param titleAlias 标题别名数组，通过它可以设置写入Excel的标题
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#mapToBytes(List, TitleAlias[], String[], ExcelType)
+	 */
+	public byte[] mapToBytes(List<Map<String, Object>> list, TitleAlias[] titleAlias, String[] collation, ExcelType type) throws IOException {
+		return newWriter().mapToBytes(list, titleAlias, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照JavaBean的字段顺序进行解析，生成Excel列的顺序会按照JavaBean中字段的顺序而定
+	 * <p>当然，你可以使用{@link Writer#javaBeanToFile(List, String, String[])}，它可以自定义顺序
+	 * @param list 写入Excel的数据
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#javaBeanToBytes(List, ExcelType)
+	 */
+	public byte[] javaBeanToBytes(List<Object> list, ExcelType type) throws IOException {
+		return newWriter().javaBeanToBytes(list, type);
+	}
+	
+	/**
+	 * <p>向Excel文件中写入数据，如果文件不存在则创建，存在则覆盖
+	 * <p>JavaBean可以使用{@link ExcelField}注解设置Excel的标题，如果不设置，则采用JavaBean的字段名称
+	 * <p>该解析器是按照collation参数的顺序进行解析，生成Excel列的顺序会按照collation参数的顺序而定
+	 * <p><b>需要注意：可以通过设置collation参数来对Excel写入列的个数做处理（过滤不需要的字段），该解析器是根据collation参数来获取JavaBean中的数据的</b>
+	 * @param list 写入Excel的数据
+	 * @param collation 排序规则，对列进行排序，可以指定map中的key写入Excel的顺序，也可以过滤不需要的属性
+	 * @param type 它可以对Excel指定格式
+	 * @return 字节数组
+	 * @throws IOException
+	 * @see Writer#javaBeanToBytes(List, String[], ExcelType)
+	 */
+	public byte[] javaBeanToBytes(List<Object> list, String[] collation, ExcelType type) throws IOException {
+		return newWriter().javaBeanToBytes(list, collation, type);
+	}
+	
+	/**
+	 * <p>向Excel写入数据
+	 * <p>创建{@link Workbook}与{@link Sheet}后，调用{@link Writer#writing(Sheet, int, WriterResolver)}
+	 * @param size 数据的长度，这里可以理解为Excel需要创建的多少行（除去标题行）
+	 * @param type Excel的类型，它决定了{@link Workbook}、{@link Sheet}、{@link Row}、{@link Cell}等Excel相关的实现类
+	 * @param resolver 写入数据解析器
+	 * @return {@link Workbook}
+	 * @throws IOException
+	 * @see Writer#write(int, ExcelType, WriterResolver)
+	 */
+	public Workbook write(int size, ExcelType type, WriterResolver resolver) throws IOException {
+		return newWriter().write(size, type, resolver);
+	}
+	
+	/**
+	 * <p>{@link ExcelWriter}的构造器
+	 * <p>设置的值会立即检查，与{@link Writer}的set方法抛出相同的异常；同一个配置设置多次时使用最后一次的值
+	 * <p>Builder不能在多个线程中同时使用
+	 */
+	public static final class Builder {
+		
+		/**
+		 * 创建{@link Writer}的方法
+		 */
+		private final Supplier<? extends Writer> factory;
+		
+		/**
+		 * 用于检查设置的值
+		 */
+		private final Writer validator;
+		
+		/**
+		 * 按设置的顺序保存的配置
+		 */
+		private final Map<String, Consumer<Writer>> settings = new LinkedHashMap<>();
+		
+		private Builder(Supplier<? extends Writer> factory) {
+			this.factory = factory;
+			this.validator = new Writer();
+		}
+		
+		private Builder set(String name, Consumer<Writer> setting) {
+			setting.accept(validator);
+			settings.remove(name);
+			settings.put(name, setting);
+			return this;
+		}
+		
+		/**
+		 * 设置创建sheet的名称，默认为"sheet1"
+		 * @param sheetName sheet的名称
+		 * @return 当前的Builder
+		 * @see Writer#setSheetName(String)
+		 */
+		public Builder sheetName(String sheetName) {
+			return set("sheetName", target -> target.setSheetName(sheetName));
+		}
+		
+		/**
+		 * 创建不可修改的{@link ExcelWriter}，之后对Builder的修改不会影响它
+		 * @return {@link ExcelWriter}
+		 */
+		public ExcelWriter build() {
+			return new ExcelWriter(this);
+		}
+		
+	}
+	
+}
@@ -1,15 +1,14 @@
 package org.hutrace.exceltool.write;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.apache.poi.ss.usermodel.Row;
 import org.hutrace.exceltool.annotation.ExcelField;
-import org.hutrace.exceltool.exception.ExcelReaderException;
 import org.hutrace.exceltool.exception.ExcelWriteException;
+import org.hutrace.exceltool.mapper.BeanMetadata;
+import org.hutrace.exceltool.mapper.BeanMetadata.Property;
 
 /**
  * <p>Excel写入数据解析器
@@ -32,9 +31,9 @@ public class JavaBeanCollationResolver extends AbstractWriterResolver<Object> {
 	private String[] collation;
 	
 	/**
-	 * JavaBean字段的get方法数组
+	 * JavaBean字段的getter访问器，与列的顺序一致，没有对应字段的列为null
 	 */
-	private Method[] methods;
+	private List<Function<Object, Object>> getters;
 
 	/**
 	 * <p>Excel写入数据解析器
@@ -55,52 +54,32 @@ public class JavaBeanCollationResolver extends AbstractWriterResolver<Object> {
 	@Override
 	public void title(Row row) {
 		Object obj = get(0);
-		Class<?> clazs = obj.getClass();
-		Field[] fields = clazs.getDeclaredFields();
-		if(collation.length > fields.length) {
+		BeanMetadata metadata = BeanMetadata.of(obj.getClass());
+		if(collation.length > metadata.properties().length) {
 			throw new ExcelWriteException("The 'collation' length must not be greater than the number of 'fields'");
 		}
-		methods = new Method[collation.length];
-		Field field;
-		ExcelField annot;
+		getters = new ArrayList<>(collation.length);
+		Property property;
 		String name;
 		for(int i = 0; i < collation.length; i++) {
 			name = collation[i];
-			for(int j = 0; j < fields.length; j++) {
-				field = fields[j];
-				if(name.equals(field.getName())) {
-					methods[i] = method(name, clazs);
-					annot = field.getAnnotation(ExcelField.class);
-					if(annot != null) {
-						name = annot.title();
-					}
-					break;
-				}
+			property = metadata.property(name);
+			if(property != null) {
+				getters.add(property.getter());
+				name = property.title();
+			}else {
+				getters.add(null);
 			}
 			row.createCell(i).setCellValue(name);
 		}
 	}
-	
-	/**
-	 * <p>构造字段的getter方法
-	 * @param name 字段名称
-	 * @return 方法({@link Method})
-	 */
-	private Method method(String name, Class<?> clazs) {
-		try {
-			return new PropertyDescriptor(name, clazs).getReadMethod();
-		}catch (IntrospectionException e) {
-			e.printStackTrace();
-			throw new ExcelReaderException(e);
-		}
-	}
 
 	@Override
 	public void row(Row row, int index) {
 		Object obj = get(index);
-		for(int i = 0; i < methods.length; i++) {
+		for(int i = 0; i < getters.size(); i++) {
 			try {
-				cell(row.createCell(i), methods[i].invoke(obj), index, i);
+				cell(row.createCell(i), getters.get(i).apply(obj), index, i);
 			}catch (Exception e) {
 				throw new ExcelWriteException("Error writing data, row " + index + ", column " + i, e);
 			}
@@ -56,16 +56,9 @@ public class MapAliasCollationResolver extends AbstractWriterResolver<Map<String
 
 	@Override
 	public void title(Row row) {
-		String title;
+		Map<String, String> titles = TitleAlias.titles(titleAlias);
 		for(int i = 0; i < collation.length; i++) {
-			title = collation[i];
-			for(int j = 0; j < titleAlias.length; j++) {
-				if(title.equals(titleAlias[j].getAlias())) {
-					title = titleAlias[j].getTitle();
-					break;
-				}
-			}
-			row.createCell(i).setCellValue(title);
+			row.createCell(i).setCellValue(titles.getOrDefault(collation[i], collation[i]));
 		}
 	}
 
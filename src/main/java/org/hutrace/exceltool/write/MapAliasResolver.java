@@ -54,15 +54,10 @@ public class MapAliasResolver extends AbstractWriterResolver<Map<String, Object>
 	public void title(Row row) {
 		Map<String, Object> map = get(0);
 		Set<String> keys = map.keySet();
+		Map<String, String> titles = TitleAlias.titles(titleAlias);
 		int i = 0;
 		for(String key : keys) {
-			for(int j = 0; j < titleAlias.length; j++) {
-				if(key.equals(titleAlias[j].getAlias())) {
-					key = titleAlias[j].getTitle();
-					break;
-				}
-			}
-			row.createCell(i++).setCellValue(key);
+			row.createCell(i++).setCellValue(titles.getOrDefault(key, key));
 		}
 	}
 
@@ -13,6 +13,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.exception.ExcelWriteException;
 import org.hutrace.exceltool.pojo.ExcelType;
 import org.hutrace.exceltool.pojo.TitleAlias;
 import org.hutrace.exceltool.utils.ExcelCommon;
@@ -577,6 +578,7 @@ public class Writer extends ExcelCommon {
 	/**
 	 * <p>向Excel的{@link Sheet}中写入数据
 	 * <p>调用{@link WriterResolver#title(Row)}与{@link WriterResolver#row(Row, int)}具体实现写入过程。
+	 * <p>线程被中断时（例如取消了异步写入）不再写入后面的行，抛出{@link ExcelWriteException}
 	 * @param sheet Excel的{@link Sheet}
 	 * @param size 数据的长度，这里可以理解为Excel需要创建的多少行（除去标题行）
 	 * @param resolver 写入数据解析器
@@ -584,6 +586,9 @@ public class Writer extends ExcelCommon {
 	public void writing(Sheet sheet, int size, WriterResolver resolver) {
 		resolver.title(sheet.createRow(0));
 		for(int i = 0; i < size; i++) {
+			if(Thread.currentThread().isInterrupted()) {
+				throw new ExcelWriteException("Interrupted while writing the rows");
+			}
 			resolver.row(sheet.createRow(i + 1), i);
 		}
 	}
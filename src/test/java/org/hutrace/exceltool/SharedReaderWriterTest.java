@@ -0,0 +1,177 @@
+package org.hutrace.exceltool;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hutrace.exceltool.annotation.ExcelField;
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.pojo.NumberMode;
+import org.hutrace.exceltool.read.ExcelReader;
+import org.hutrace.exceltool.write.ExcelWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * <p>多个线程共用同一个{@link ExcelReader}/{@link ExcelWriter}
+ * <p>每个线程写入自己的数据后再读取出来，xls与xlsx交替使用，读取的结果必须与写入的数据一致
+ * @author HuTrace
+ */
+public class SharedReaderWriterTest {
+
+	private static final int THREADS = 8;
+
+	private static final int TASKS = 32;
+
+	private static final int ROWS = 300;
+
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void mapRoundTrip() throws Exception {
+		ExcelWriter writer = ExcelWriter.builder().sheetName("data").build();
+		ExcelReader reader = ExcelReader.builder()
+				.sheetName("data")
+				.columns("id", "name")
+				.numberMode(NumberMode.TYPED)
+				.build();
+		run(task -> {
+			ExcelType type = type(task);
+			List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+			for(int i = 0; i < ROWS; i++) {
+				Map<String, Object> row = new LinkedHashMap<>();
+				row.put("id", id(task, i));
+				row.put("name", "task" + task + "-" + i);
+				row.put("price", i * 0.5);
+				rows.add(row);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			writer.mapToOutputStream(rows, out, new String[] {"id", "name", "price"}, type);
+			List<Map<String, Object>> read = reader.toMap(out.toByteArray(), type);
+			assertEquals(type + " task " + task, ROWS, read.size());
+			for(int i = 0; i < ROWS; i++) {
+				Map<String, Object> row = read.get(i);
+				// 只读取了id与name两列
+				assertEquals(2, row.size());
+				assertEquals(Long.valueOf(id(task, i)), row.get("id"));
+				assertEquals("task" + task + "-" + i, row.get("name"));
+			}
+		});
+	}
+
+	@Test
+	public void javaBeanRoundTrip() throws Exception {
+		ExcelWriter writer = ExcelWriter.builder().build();
+		ExcelReader reader = ExcelReader.builder().convertThreads(2).build();
+		run(task -> {
+			ExcelType type = type(task);
+			List<Object> beans = new ArrayList<>(ROWS);
+			for(int i = 0; i < ROWS; i++) {
+				Item item = new Item();
+				item.setName("task" + task + "-" + i);
+				item.setPrice(id(task, i) + 0.25);
+				beans.add(item);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			writer.javaBeanToOutputStream(beans, out, type);
+			List<Item> read = reader.toJavaBean(out.toByteArray(), type, Item.class);
+			assertEquals(type + " task " + task, ROWS, read.size());
+			for(int i = 0; i < ROWS; i++) {
+				assertEquals("task" + task + "-" + i, read.get(i).getName());
+				assertEquals(id(task, i) + 0.25, read.get(i).getPrice(), 0);
+			}
+		});
+	}
+
+	/**
+	 * 在所有线程中同时开始执行TASKS个任务，等待全部完成，任务中的错误原样抛出
+	 */
+	private void run(Task task) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Void>> futures = new ArrayList<>(TASKS);
+		for(int i = 0; i < TASKS; i++) {
+			int number = i;
+			futures.add(executor.submit((Callable<Void>) () -> {
+				start.await();
+				task.run(number);
+				return null;
+			}));
+		}
+		start.countDown();
+		for(Future<Void> future : futures) {
+			try {
+				future.get(60, TimeUnit.SECONDS);
+			}catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if(cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw (Exception) cause;
+			}
+		}
+	}
+
+	private static ExcelType type(int task) {
+		return task % 2 == 0 ? ExcelType.XLSX : ExcelType.XLS;
+	}
+
+	private static int id(int task, int row) {
+		return task * 1000 + row;
+	}
+
+	private interface Task {
+
+		void run(int task) throws Exception;
+
+	}
+
+	public static class Item {
+
+		@ExcelField(title = "名称")
+		private String name;
+
+		@ExcelField(title = "价格")
+		private double price;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public double getPrice() {
+			return price;
+		}
+
+		public void setPrice(double price) {
+			this.price = price;
+		}
+
+	}
+
+}
@@ -0,0 +1,315 @@
+package org.hutrace.exceltool.read;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hutrace.exceltool.exception.TypeCastException;
+import org.hutrace.exceltool.pojo.ColumnType;
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.junit.Test;
+
+/**
+ * <p>{@link ExcelColumn}的类型转换与空数据位图
+ * <p>整数列出现小数时转换为小数列，其它类型不一致时转换为{@link ColumnType#MIXED}，转换前后已有的数据与空数据都不能改变
+ * <p>空数据位图按需扩容，第一个有类型的数据之前与基本类型数组长度之后都可能有空数据
+ * @author HuTrace
+ */
+public class ExcelColumnTest {
+
+	/**
+	 * 按列读取的行数，超过位图一个long的64位与数组的初始容量
+	 */
+	private static final int ROWS = 150;
+
+	private static final String[] TITLES = {"id", "amount", "mixed", "date", "flag", "name", "blank", "tail"};
+
+	@Test
+	public void longToDouble() {
+		ExcelColumn column = column(1L, null, 3L, 2.5, 4L);
+		assertEquals(ColumnType.DOUBLE, column.type());
+		assertValues(column, 1D, null, 3D, 2.5, 4D);
+		assertEquals(0D, column.getDouble(1), 0);
+		assertEquals(2.5, column.getDouble(3), 0);
+	}
+
+	@Test
+	public void doubleStaysDouble() {
+		ExcelColumn column = column(2.5, 1L, null, 1);
+		assertEquals(ColumnType.DOUBLE, column.type());
+		assertValues(column, 2.5, 1D, null, 1D);
+	}
+
+	@Test
+	public void longColumn() {
+		ExcelColumn column = column(1L, 2, null, (short) 3);
+		assertEquals(ColumnType.LONG, column.type());
+		assertValues(column, 1L, 2L, null, 3L);
+		assertEquals(0L, column.getLong(2));
+		assertEquals(2D, column.getDouble(1), 0);
+	}
+
+	@Test
+	public void nullsBeforeFirstValue() {
+		Object[] values = new Object[100];
+		values[70] = 5L;
+		values[99] = 6L;
+		ExcelColumn column = column(values);
+		assertEquals(ColumnType.LONG, column.type());
+		assertValues(column, values);
+		for(int i = 0; i < 70; i++) {
+			assertEquals(0L, column.getLong(i));
+		}
+		assertEquals(5L, column.getLong(70));
+	}
+
+	@Test
+	public void trailingNullsPastArrayLength() {
+		// 第一个数据之后有40个空数据，行数超过long[]的初始长度，之后出现小数时转换
+		Object[] values = new Object[43];
+		values[0] = 1L;
+		values[42] = 2.5;
+		ExcelColumn column = column(values);
+		assertEquals(ColumnType.DOUBLE, column.type());
+		assertSparse(column, 1D, 41, 2.5);
+
+		// 之后再出现字符串时转换为MIXED
+		values = Arrays.copyOf(values, 200);
+		values[199] = "x";
+		column = column(values);
+		assertEquals(ColumnType.MIXED, column.type());
+		Object[] expected = values.clone();
+		expected[0] = 1D;
+		assertValues(column, expected);
+	}
+
+	@Test
+	public void trailingNulls() {
+		// 读取完毕时最后一段全部为空，位图与数组都不会越界
+		Object[] values = new Object[130];
+		values[0] = true;
+		values[1] = false;
+		ExcelColumn column = column(values);
+		assertEquals(ColumnType.BOOLEAN, column.type());
+		assertValues(column, values);
+		assertTrue(column.getBoolean(0));
+		assertFalse(column.getBoolean(1));
+		assertFalse(column.getBoolean(129));
+	}
+
+	@Test
+	public void anyToMixed() {
+		Date date = new Date(86_400_000L);
+		Object[][] pairs = {
+				{1L, "a"}, {2.5, "a"}, {"a", 1L}, {"a", 2.5}, {date, 1L}, {1L, date},
+				{true, "a"}, {"a", false}, {2.5, true}, {date, "a"}, {true, date}
+		};
+		for(Object[] pair : pairs) {
+			ExcelColumn column = column(null, pair[0], null, pair[0], pair[1], null, pair[0]);
+			assertEquals(Arrays.toString(pair), ColumnType.MIXED, column.type());
+			assertValues(column, null, pair[0], null, pair[0], pair[1], null, pair[0]);
+		}
+	}
+
+	@Test
+	public void mixedWithNullBitmap() {
+		// 转换为MIXED时第一个数据之前与数组长度之后的空数据保持为空
+		Object[] values = new Object[140];
+		values[70] = 1L;
+		values[71] = 2.5;
+		values[139] = "a";
+		ExcelColumn column = column(values);
+		assertEquals(ColumnType.MIXED, column.type());
+		Object[] expected = values.clone();
+		expected[70] = 1D;
+		assertValues(column, expected);
+	}
+
+	@Test
+	public void stringDictionary() {
+		ExcelColumn column = column("b", "a", null, "b", "");
+		assertEquals(ColumnType.STRING, column.type());
+		assertValues(column, "b", "a", null, "b", null);
+		assertEquals(Arrays.asList("b", "a"), column.dictionary());
+		assertEquals(0, column.getCode(0));
+		assertEquals(column.getCode(0), column.getCode(3));
+		assertEquals(-1, column.getCode(2));
+	}
+
+	@Test
+	public void emptyColumn() {
+		ExcelColumn column = column(null, "", null);
+		assertEquals(ColumnType.EMPTY, column.type());
+		assertValues(column, null, null, null);
+	}
+
+	@Test(expected = TypeCastException.class)
+	public void wrongGetter() {
+		column("a").getLong(0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void rowOutOfRange() {
+		column(1L).get(1);
+	}
+
+	/**
+	 * 读取一个每列都混有空数据与多种类型的sheet，按列读取的结果与写入的数据一致
+	 */
+	@Test
+	public void readColumns() throws Exception {
+		for(ExcelType type : new ExcelType[] {ExcelType.XLS, ExcelType.XLSX}) {
+			byte[] bytes = workbook(type);
+			for(boolean streaming : new boolean[] {false, true}) {
+				String message = type + (streaming ? " streaming" : "");
+				ExcelTable table = ExcelReader.builder().streaming(streaming).build().toTable(bytes, type);
+				assertEquals(message, ROWS, table.rowCount());
+				assertEquals(message, TITLES.length, table.columns().size());
+				ColumnType[] types = {
+						ColumnType.LONG, ColumnType.DOUBLE, ColumnType.MIXED, ColumnType.DATE,
+						ColumnType.BOOLEAN, ColumnType.STRING, ColumnType.EMPTY, ColumnType.LONG
+				};
+				for(int c = 0; c < TITLES.length; c++) {
+					ExcelColumn column = table.column(TITLES[c]);
+					assertEquals(message + " " + TITLES[c], types[c], column.type());
+					assertEquals(message, ROWS, column.size());
+					for(int r = 0; r < ROWS; r++) {
+						Object expected = value(c, r);
+						if(expected instanceof Number && types[c] == ColumnType.DOUBLE) {
+							expected = ((Number) expected).doubleValue();
+						}
+						assertEquals(message + " " + TITLES[c] + " row " + r, expected, column.get(r));
+						assertEquals(message + " " + TITLES[c] + " row " + r, expected == null, column.isNull(r));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 按列读取时每一列的数据，null表示空白的列
+	 * @param column 列下标
+	 * @param row 行下标，不包括标题
+	 */
+	private static Object value(int column, int row) {
+		switch (column) {
+			case 0:
+				return (long) row;
+			case 1:
+				// 前20行为空，第100行为小数，最后20行为空
+				if(row < 20 || row >= 130 || row % 7 == 0) {
+					return null;
+				}
+				return row == 100 ? row + 0.5 : (Object) (long) row;
+			case 2:
+				// 整数中出现字符串与布尔值，转换为MIXED
+				if(row < 10 || row >= 120) {
+					return null;
+				}
+				if(row == 70) {
+					return "s" + row;
+				}
+				return row == 80 ? (Object) Boolean.TRUE : (Object) (long) row;
+			case 3:
+				if(row % 3 == 0) {
+					return null;
+				}
+				Calendar calendar = Calendar.getInstance();
+				calendar.clear();
+				calendar.set(2020, Calendar.JANUARY, 1);
+				calendar.add(Calendar.DAY_OF_MONTH, row);
+				return calendar.getTime();
+			case 4:
+				return row >= 100 || row % 5 == 0 ? null : (Object) (row % 2 == 0);
+			case 5:
+				return row % 4 == 0 ? null : "n" + row % 10;
+			case 6:
+				return null;
+			default:
+				// 只有第一行有数据，之后全部为空
+				return row == 0 ? (Object) 1L : null;
+		}
+	}
+
+	private static byte[] workbook(ExcelType type) throws Exception {
+		Workbook workbook = type == ExcelType.XLS ? new HSSFWorkbook() : new XSSFWorkbook();
+		Sheet sheet = workbook.createSheet();
+		CellStyle dateStyle = workbook.createCellStyle();
+		dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+		Row title = sheet.createRow(0);
+		for(int c = 0; c < TITLES.length; c++) {
+			title.createCell(c).setCellValue(TITLES[c]);
+		}
+		for(int r = 0; r < ROWS; r++) {
+			Row row = sheet.createRow(r + 1);
+			for(int c = 0; c < TITLES.length; c++) {
+				Object value = value(c, r);
+				if(value instanceof Number) {
+					row.createCell(c).setCellValue(((Number) value).doubleValue());
+				}else if(value instanceof String) {
+					row.createCell(c).setCellValue((String) value);
+				}else if(value instanceof Boolean) {
+					row.createCell(c).setCellValue((Boolean) value);
+				}else if(value instanceof Date) {
+					row.createCell(c).setCellValue((Date) value);
+					row.getCell(c).setCellStyle(dateStyle);
+				}
+			}
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		workbook.write(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * 依次加入数据，null加入空数据
+	 */
+	private static ExcelColumn column(Object... values) {
+		ExcelColumn column = new ExcelColumn("column");
+		for(Object value : values) {
+			if(value == null) {
+				column.addNull();
+			}else {
+				column.add(value);
+			}
+		}
+		column.finish();
+		return column;
+	}
+
+	/**
+	 * 比较所有行的数据，null表示空数据
+	 */
+	private static void assertValues(ExcelColumn column, Object... expected) {
+		assertEquals(expected.length, column.size());
+		Object[] actual = new Object[column.size()];
+		for(int i = 0; i < actual.length; i++) {
+			actual[i] = column.get(i);
+			assertEquals("row " + i, expected[i] == null, column.isNull(i));
+		}
+		assertArrayEquals(expected, actual);
+	}
+
+	/**
+	 * 比较第一行与最后一行的数据，中间的行都是空数据
+	 */
+	private static void assertSparse(ExcelColumn column, Object first, int nulls, Object last) {
+		Object[] expected = new Object[nulls + 2];
+		expected[0] = first;
+		expected[expected.length - 1] = last;
+		assertValues(column, expected);
+	}
+
+}
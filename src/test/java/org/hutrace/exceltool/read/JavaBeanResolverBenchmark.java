@@ -0,0 +1,138 @@
+package org.hutrace.exceltool.read;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * <p>读取JavaBean时类型转换与setter调用的速度（每秒处理的单元格数）
+ * <p>只测量{@link JavaBeanResolver#convert(Object[], int)}，不包括解析Excel，8个属性的JavaBean
+ * <p>不是单元测试，使用main方法运行，在修改前后的代码上分别运行并比较输出：
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/classes:target/test-classes:&lt;poi&gt; org.hutrace.exceltool.read.JavaBeanResolverBenchmark [rows] [rounds]
+ * </pre>
+ * <p>前两轮作为预热，不输出结果
+ * @author HuTrace
+ */
+public class JavaBeanResolverBenchmark {
+
+	/**
+	 * 预热的轮数
+	 */
+	private static final int WARMUP = 2;
+
+	/**
+	 * {@link Bean}的属性名，作为标题
+	 */
+	public static final String[] TITLES = {"a", "b", "c", "d", "e", "f", "g", "h"};
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		HSSFWorkbook workbook = new HSSFWorkbook();
+		Row title = workbook.createSheet().createRow(0);
+		for(int i = 0; i < TITLES.length; i++) {
+			title.createCell(i).setCellValue(TITLES[i]);
+		}
+		JavaBeanResolver<Bean> resolver = new JavaBeanResolver<>(Bean.class, bean -> {});
+		resolver.title(title);
+		resolver.project(null);
+		Object[] values = {"x", 5, 2.5, 7L, "y", 9, Boolean.TRUE, "z"};
+		long sink = 0;
+		for(int round = 0; round < WARMUP + rounds; round++) {
+			long start = System.nanoTime();
+			for(int i = 0; i < rows; i++) {
+				sink += resolver.convert(values, i).getB();
+			}
+			long nanos = System.nanoTime() - start;
+			if(round >= WARMUP) {
+				System.out.printf("read  %.1f M cells/s%n", (double) rows * TITLES.length / (nanos / 1e3));
+			}
+		}
+		// 使用结果，避免循环被优化掉
+		if(sink == 1) {
+			System.out.println();
+		}
+	}
+
+	/**
+	 * 测试使用的JavaBean，读写的测试共用
+	 */
+	public static class Bean {
+
+		private String a;
+		private int b;
+		private double c;
+		private long d;
+		private String e;
+		private Integer f;
+		private boolean g;
+		private String h;
+
+		public String getA() {
+			return a;
+		}
+
+		public void setA(String a) {
+			this.a = a;
+		}
+
+		public int getB() {
+			return b;
+		}
+
+		public void setB(int b) {
+			this.b = b;
+		}
+
+		public double getC() {
+			return c;
+		}
+
+		public void setC(double c) {
+			this.c = c;
+		}
+
+		public long getD() {
+			return d;
+		}
+
+		public void setD(long d) {
+			this.d = d;
+		}
+
+		public String getE() {
+			return e;
+		}
+
+		public void setE(String e) {
+			this.e = e;
+		}
+
+		public Integer getF() {
+			return f;
+		}
+
+		public void setF(Integer f) {
+			this.f = f;
+		}
+
+		public boolean isG() {
+			return g;
+		}
+
+		public void setG(boolean g) {
+			this.g = g;
+		}
+
+		public String getH() {
+			return h;
+		}
+
+		public void setH(String h) {
+			this.h = h;
+		}
+
+	}
+
+}
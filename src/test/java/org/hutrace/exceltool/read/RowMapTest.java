@@ -0,0 +1,269 @@
+package org.hutrace.exceltool.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+/**
+ * <p>{@link RowMap}必须与{@link LinkedHashMap}的行为一致
+ * <p>每个测试都对RowMap与LinkedHashMap做相同的修改，再比较两者的内容
+ * @author HuTrace
+ */
+public class RowMapTest {
+
+	private static final String[] TITLES = {"id", "name", "price"};
+
+	@Test
+	public void getAndContainsKey() {
+		RowMap map = row(1L, "a", null);
+		assertEquals(3, map.size());
+		assertEquals(1L, map.get("id"));
+		assertTrue(map.containsKey("price"));
+		assertNull(map.get("price"));
+		assertFalse(map.containsKey("other"));
+		assertNull(map.get("other"));
+		assertFalse(map.containsKey(null));
+		assertFalse(map.containsKey(1));
+		assertTrue(map.containsValue("a"));
+		assertTrue(map.containsValue(null));
+	}
+
+	@Test
+	public void putAndRemoveAbsentKeys() {
+		RowMap map = row(1L, "a", 2.5);
+		Map<String, Object> expected = expected(1L, "a", 2.5);
+
+		// 标题以外的键
+		assertNull(map.put("other", "x"));
+		expected.put("other", "x");
+		assertEquals("x", map.put("other", "y"));
+		expected.put("other", "y");
+		assertTrue(map.containsKey("other"));
+		assertEquals(expected, map);
+
+		assertEquals("y", map.remove("other"));
+		expected.remove("other");
+		assertNull(map.remove("other"));
+		assertFalse(map.containsKey("other"));
+		assertNull(map.remove("missing"));
+		assertEquals(expected, map);
+
+		// 删除标题的键后再次放入
+		assertEquals("a", map.remove("name"));
+		expected.remove("name");
+		assertNull(map.remove("name"));
+		assertFalse(map.containsKey("name"));
+		assertNull(map.get("name"));
+		assertEquals(2, map.size());
+		assertEquals(expected, map);
+
+		assertNull(map.put("name", "b"));
+		expected.put("name", "b");
+		assertTrue(map.containsKey("name"));
+		assertEquals(3, map.size());
+		assertEquals(expected, map);
+
+		// 值为null与键不存在不同
+		assertEquals(2.5, map.put("price", null));
+		expected.put("price", null);
+		assertTrue(map.containsKey("price"));
+		assertEquals(3, map.size());
+		assertEquals(expected, map);
+
+		map.clear();
+		expected.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey("id"));
+		assertEquals(expected, map);
+		map.put("other", 1);
+		map.put("id", 2L);
+		expected.put("other", 1);
+		expected.put("id", 2L);
+		assertEquals(expected, map);
+	}
+
+	@Test
+	public void entrySetIteration() {
+		RowMap map = row(1L, "a", 2.5);
+		map.put("other", "x");
+		map.remove("name");
+		List<String> keys = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		for(Map.Entry<String, Object> entry : map.entrySet()) {
+			keys.add(entry.getKey());
+			values.add(entry.getValue());
+		}
+		// 按标题的顺序，标题以外的键在最后
+		assertEquals(Arrays.asList("id", "price", "other"), keys);
+		assertEquals(Arrays.asList(1L, 2.5, "x"), values);
+		assertEquals(keys, new ArrayList<>(map.keySet()));
+		assertEquals(values, new ArrayList<>(map.values()));
+		assertEquals(3, map.entrySet().size());
+
+		List<String> forEach = new ArrayList<>();
+		map.forEach((key, value) -> forEach.add(key));
+		assertEquals(keys, forEach);
+
+		Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+		for(int i = 0; i < 3; i++) {
+			assertTrue(iterator.hasNext());
+			iterator.next();
+		}
+		assertFalse(iterator.hasNext());
+		try {
+			iterator.next();
+			throw new AssertionError("next() after the last entry must fail");
+		}catch (NoSuchElementException e) {
+			// 预期的异常
+		}
+	}
+
+	@Test
+	public void entrySetRemoval() {
+		RowMap map = row(1L, "a", 2.5);
+		map.put("other", "x");
+		map.put("more", "y");
+		Map<String, Object> expected = expected(1L, "a", 2.5);
+		expected.put("other", "x");
+		expected.put("more", "y");
+
+		Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+		try {
+			iterator.remove();
+			throw new AssertionError("remove() before next() must fail");
+		}catch (IllegalStateException e) {
+			// 预期的异常
+		}
+		while(iterator.hasNext()) {
+			String key = iterator.next().getKey();
+			if(key.equals("name") || key.equals("other")) {
+				iterator.remove();
+				expected.remove(key);
+				try {
+					iterator.remove();
+					throw new AssertionError("remove() twice must fail");
+				}catch (IllegalStateException e) {
+					// 预期的异常
+				}
+			}
+		}
+		assertEquals(expected, map);
+		assertEquals(3, map.size());
+		assertFalse(map.containsKey("name"));
+		assertFalse(map.containsKey("other"));
+
+		// 通过Entry修改值
+		for(Map.Entry<String, Object> entry : map.entrySet()) {
+			if(entry.getKey().equals("id")) {
+				assertEquals(1L, entry.setValue(5L));
+				expected.put("id", 5L);
+			}
+		}
+		assertEquals(expected, map);
+
+		map.entrySet().removeIf(entry -> entry.getKey().equals("more"));
+		expected.remove("more");
+		assertEquals(expected, map);
+
+		map.entrySet().clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.entrySet().iterator().hasNext());
+	}
+
+	@Test
+	public void equalsAndHashCode() {
+		RowMap map = row(1L, "a", null);
+		Map<String, Object> expected = expected(1L, "a", null);
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		assertEquals(expected.toString(), map.toString());
+
+		map.put("other", "x");
+		assertNotEquals(expected, map);
+		assertNotEquals(map, expected);
+		expected.put("other", "x");
+		assertEquals(expected, map);
+		assertEquals(expected.hashCode(), map.hashCode());
+
+		map.remove("id");
+		assertNotEquals(expected, map);
+		expected.remove("id");
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+
+		// 与相同内容的另一行相等
+		RowMap other = row(1L, "a", null);
+		other.remove("id");
+		other.put("other", "x");
+		assertEquals(other, map);
+		assertEquals(other.hashCode(), map.hashCode());
+		other.put("price", 0);
+		assertNotEquals(other, map);
+	}
+
+	@Test
+	public void duplicateAndUnselectedColumns() {
+		// 相同的标题使用同一个位置，没有选中的列不在Map中
+		RowMap.Keys keys = new RowMap.Keys(new String[] {"a", "b", "a", "c"}, new boolean[] {true, true, true, false});
+		assertEquals(2, keys.size());
+		assertEquals(0, keys.column(0));
+		assertEquals(1, keys.column(1));
+		assertEquals(0, keys.column(2));
+		assertEquals(-1, keys.column(3));
+		RowMap map = new RowMap(keys, new Object[] {"a", "b"});
+		assertEquals(2, map.size());
+		assertFalse(map.containsKey("c"));
+		assertNull(map.put("c", 1));
+		assertEquals(3, map.size());
+		assertEquals(1, map.get("c"));
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		RowMap map = row(1L, "a", null);
+		map.remove("name");
+		map.put("other", "x");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(map);
+		}
+		Object read;
+		try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			read = in.readObject();
+		}
+		// 写入为LinkedHashMap，保持遍历顺序
+		assertEquals(LinkedHashMap.class, read.getClass());
+		assertEquals(map, read);
+		assertEquals(new ArrayList<>(map.keySet()), new ArrayList<>(((Map<?, ?>) read).keySet()));
+	}
+
+	private static RowMap row(Object... values) {
+		return new RowMap(new RowMap.Keys(TITLES, null), values);
+	}
+
+	private static Map<String, Object> expected(Object... values) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for(int i = 0; i < TITLES.length; i++) {
+			map.put(TITLES[i], values[i]);
+		}
+		return map;
+	}
+
+}
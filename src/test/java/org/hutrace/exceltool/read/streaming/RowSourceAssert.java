@@ -0,0 +1,97 @@
+package org.hutrace.exceltool.read.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * <p>比较流式读取的行与POI读取整个Workbook得到的行
+ * <p>行号必须连续，缺失的行是空行；每一列的类型、数据、公式文本、样式下标与是否为日期都必须一致
+ * @author HuTrace
+ */
+final class RowSourceAssert {
+
+	private RowSourceAssert() {
+	}
+
+	/**
+	 * 从头到尾读取source，与sheet中的每一行比较
+	 * @param sheet POI读取的sheet
+	 * @param source 同一个sheet的流式读取
+	 */
+	static void assertRows(Sheet sheet, RowSource source) throws IOException {
+		for(int r = 0; r <= sheet.getLastRowNum(); r++) {
+			Row actual = source.next();
+			assertNotNull("row " + r, actual);
+			assertEquals(r, actual.getRowNum());
+			assertRow(sheet.getRow(r), actual);
+		}
+		assertNull(source.next());
+	}
+
+	/**
+	 * 比较一行
+	 * @param expected POI读取的行，为null时表示缺失的行
+	 * @param actual 流式读取的行
+	 */
+	static void assertRow(Row expected, Row actual) {
+		String message = "row " + actual.getRowNum();
+		if(expected == null) {
+			assertEquals(message, -1, actual.getLastCellNum());
+			return;
+		}
+		assertEquals(message, expected.getLastCellNum(), actual.getLastCellNum());
+		assertEquals(message, expected.getPhysicalNumberOfCells(), actual.getPhysicalNumberOfCells());
+		for(int c = 0; c < expected.getLastCellNum(); c++) {
+			assertCell(expected.getCell(c), actual.getCell(c));
+		}
+	}
+
+	/**
+	 * 比较一列
+	 * @param expected POI读取的列，为null时表示缺失的列
+	 * @param actual 流式读取的列
+	 */
+	static void assertCell(Cell expected, Cell actual) {
+		if(expected == null) {
+			assertNull(actual);
+			return;
+		}
+		String message = "cell " + expected.getRowIndex() + ":" + expected.getColumnIndex();
+		assertNotNull(message, actual);
+		assertEquals(message, expected.getColumnIndex(), actual.getColumnIndex());
+		assertEquals(message, expected.getCellType(), actual.getCellType());
+		assertEquals(message, expected.getCellStyle().getIndex() & 0xFFFF, ((StreamingCell) actual).getStyleIndex());
+		int type = expected.getCellType();
+		if(type == Cell.CELL_TYPE_FORMULA) {
+			assertEquals(message, expected.getCellFormula(), actual.getCellFormula());
+			type = expected.getCachedFormulaResultType();
+			assertEquals(message, type, actual.getCachedFormulaResultType());
+		}
+		switch (type) {
+			case Cell.CELL_TYPE_NUMERIC:
+				assertEquals(message, expected.getNumericCellValue(), actual.getNumericCellValue(), 0);
+				assertEquals(message, DateUtil.isCellDateFormatted(expected), ((StreamingCell) actual).isDateFormatted());
+				break;
+			case Cell.CELL_TYPE_STRING:
+				assertEquals(message, expected.getStringCellValue(), actual.getStringCellValue());
+				break;
+			case Cell.CELL_TYPE_BOOLEAN:
+				assertEquals(message, expected.getBooleanCellValue(), actual.getBooleanCellValue());
+				break;
+			case Cell.CELL_TYPE_ERROR:
+				assertEquals(message, expected.getErrorCellValue(), actual.getErrorCellValue());
+				break;
+			default:
+				break;
+		}
+	}
+
+}
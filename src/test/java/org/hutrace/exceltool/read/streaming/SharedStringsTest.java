@@ -0,0 +1,122 @@
+package org.hutrace.exceltool.read.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * <p>{@link SharedStrings}的读取、转义字符的还原与写入临时文件
+ * @author HuTrace
+ */
+public class SharedStringsTest {
+
+	@Test
+	public void richTextAndPhonetic() throws Exception {
+		String xml = "<sst xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" uniqueCount=\"4\">"
+				+ "<si><t>plain</t></si>"
+				+ "<si><r><rPr><b/><sz val=\"11\"/></rPr><t>Hel</t></r><r><t xml:space=\"preserve\">lo </t></r><r><t>world</t></r></si>"
+				+ "<si><t>漢字</t><rPh sb=\"0\" eb=\"2\"><t>かんじ</t></rPh><phoneticPr fontId=\"1\"/></si>"
+				+ "<si><t/></si>"
+				+ "</sst>";
+		try(SharedStrings strings = strings(xml, 0)) {
+			assertEquals(4, strings.size());
+			assertEquals("plain", strings.get(0));
+			assertEquals("Hello world", strings.get(1));
+			assertEquals("漢字", strings.get(2));
+			assertEquals("", strings.get(3));
+			assertNull(field(strings, "spillFile"));
+		}
+	}
+
+	@Test
+	public void decode() {
+		assertEquals("a\tb", SharedStrings.decode("a_x0009_b"));
+		assertEquals("\r\n", SharedStrings.decode("_x000D__x000A_"));
+		assertEquals("_x00_", SharedStrings.decode("_x00_"));
+		assertEquals("_xZZZZ_", SharedStrings.decode("_xZZZZ_"));
+		assertEquals("plain", SharedStrings.decode("plain"));
+	}
+
+	@Test
+	public void noSharedStrings() throws IOException {
+		try(SharedStrings strings = new SharedStrings(null)) {
+			assertEquals(0, strings.size());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void indexOutOfRange() throws IOException {
+		try(SharedStrings strings = strings("<sst><si><t>a</t></si></sst>", 0)) {
+			strings.get(1);
+		}
+	}
+
+	/**
+	 * 超过spillThreshold后写满的页写入临时文件，关闭时删除；包括多字节字符与单独占一页的超长字符串
+	 */
+	@Test
+	public void spillToDisk() throws Exception {
+		int count = 5000;
+		StringBuilder xml = new StringBuilder("<sst>");
+		String[] expected = new String[count];
+		for(int i = 0; i < count; i++) {
+			expected[i] = i == 2500 ? text(i, 1_500_000) : text(i, 300 + i % 700);
+			xml.append("<si><t>").append(expected[i]).append("</t></si>");
+		}
+		xml.append("</sst>");
+		SharedStrings strings = strings(xml.toString(), 1);
+		File file;
+		try {
+			file = (File) field(strings, "spillFile");
+			assertNotNull(file);
+			assertTrue(file.length() > 0);
+			assertEquals(count, strings.size());
+			for(int i = 0; i < count; i++) {
+				assertEquals("string " + i, expected[i], strings.get(i));
+			}
+			// 倒序读取，不经过解码缓存
+			for(int i = count - 1; i >= 0; i -= 7) {
+				assertEquals("string " + i, expected[i], strings.get(i));
+			}
+		}finally {
+			strings.close();
+		}
+		assertFalse(file.exists());
+	}
+
+	/**
+	 * 生成测试使用的字符串，包括多字节字符
+	 * @param index 字符串的序号，不同的序号生成不同的字符串
+	 * @param length 字符个数
+	 */
+	static String text(int index, int length) {
+		StringBuilder text = new StringBuilder(length);
+		text.append(index).append(':');
+		while(text.length() < length) {
+			text.append("数据").append((char) ('a' + text.length() % 26));
+		}
+		text.setLength(length);
+		return text.toString();
+	}
+
+	private static SharedStrings strings(String xml, long spillThreshold) throws IOException {
+		return new SharedStrings(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), spillThreshold);
+	}
+
+	private static Object field(SharedStrings strings, String name) throws ReflectiveOperationException {
+		Field field = SharedStrings.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(strings);
+	}
+
+}
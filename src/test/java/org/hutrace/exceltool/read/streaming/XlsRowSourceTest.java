@@ -0,0 +1,302 @@
+package org.hutrace.exceltool.read.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.hutrace.exceltool.read.streaming.RowSourceAssert.assertRow;
+import static org.hutrace.exceltool.read.streaming.RowSourceAssert.assertRows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.poi.hssf.usermodel.HSSFCellStyle;
+import org.apache.poi.hssf.usermodel.HSSFFont;
+import org.apache.poi.hssf.usermodel.HSSFFormulaEvaluator;
+import org.apache.poi.hssf.usermodel.HSSFRichTextString;
+import org.apache.poi.hssf.usermodel.HSSFRow;
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * <p>{@link XlsRowSource}的读取结果必须与{@link HSSFWorkbook}一致
+ * <p>POI不会写入共享公式与LABEL记录（不在共享字符串表中的字符串），测试使用的xls由POI创建后修改sheet中的记录：
+ * C2:C4的公式改为共享公式（SHRFMLA），C1改为LABEL记录
+ * <p>共享字符串表中有富文本、超过一条记录长度的中文字符串，以及足够多的字符串，保证SST记录后有CONTINUE记录
+ * @author HuTrace
+ */
+public class XlsRowSourceTest {
+
+	private static final int FORMULA = 0x0006;
+	private static final int LABEL = 0x0204;
+	private static final int LABEL_SST = 0x00FD;
+	private static final int SHARED_FORMULA = 0x04BC;
+	private static final int CONTINUE = 0x003C;
+	private static final int BOF = 0x0809;
+
+	/**
+	 * 共享字符串表后面的字符串行从这一行开始
+	 */
+	private static final int STRING_ROWS = 10;
+
+	private static final int STRING_COUNT = 2000;
+
+	private static byte[] bytes;
+
+	/**
+	 * 超过一条记录长度（8224字节）的富文本字符串
+	 */
+	private static String longText;
+
+	@BeforeClass
+	public static void setUp() throws IOException {
+		StringBuilder text = new StringBuilder();
+		while(text.length() < 10000) {
+			text.append("长字符串").append(text.length());
+		}
+		longText = text.toString();
+
+		HSSFWorkbook workbook = new HSSFWorkbook();
+		HSSFSheet sheet = workbook.createSheet("data");
+		HSSFFont bold = workbook.createFont();
+		bold.setBoldweight(HSSFFont.BOLDWEIGHT_BOLD);
+		HSSFCellStyle date = workbook.createCellStyle();
+		date.setDataFormat((short) 14);
+		HSSFCellStyle dateTime = workbook.createCellStyle();
+		dateTime.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+
+		HSSFRow row = sheet.createRow(0);
+		row.createCell(0).setCellValue("plain");
+		HSSFRichTextString rich = new HSSFRichTextString("Hello world");
+		rich.applyFont(0, 3, bold);
+		row.createCell(1).setCellValue(rich);
+		row.createCell(2).setCellValue("label");
+		HSSFRichTextString richLong = new HSSFRichTextString(longText);
+		richLong.applyFont(5000, 5010, bold);
+		row.createCell(3).setCellValue(richLong);
+		row.createCell(4).setCellValue(43831);
+		row.getCell(4).setCellStyle(date);
+		row.createCell(5).setCellValue(43831.5);
+		row.getCell(5).setCellStyle(dateTime);
+
+		for(int r = 1; r <= 3; r++) {
+			row = sheet.createRow(r);
+			row.createCell(0).setCellValue(r);
+			row.createCell(1).setCellValue(r + 0.5);
+			row.createCell(2).setCellFormula("A" + (r + 1) + "+B" + (r + 1));
+			row.createCell(3).setCellFormula("A" + (r + 1) + "&\"x\"");
+			row.createCell(4).setCellValue(r % 2 == 0);
+			row.createCell(5).setCellErrorValue(FormulaError.DIV0.getCode());
+		}
+		// 第5行（下标4）缺失，第6行只有样式的空白列与一个布尔值
+		row = sheet.createRow(5);
+		row.createCell(2).setCellStyle(date);
+		row.createCell(3).setCellStyle(date);
+		row.createCell(6).setCellValue(true);
+		for(int i = 0; i < STRING_COUNT; i++) {
+			sheet.createRow(STRING_ROWS + i).createCell(i % 3).setCellValue(SharedStringsTest.text(i, 40));
+		}
+		HSSFFormulaEvaluator.evaluateAllFormulaCells(workbook);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		workbook.write(out);
+		bytes = patch(out.toByteArray());
+	}
+
+	@Test
+	public void sameAsWorkbook() throws IOException {
+		Sheet sheet = new HSSFWorkbook(new ByteArrayInputStream(bytes)).getSheetAt(0);
+		try(XlsRowSource source = new XlsRowSource(new ByteArrayInputStream(bytes), null)) {
+			assertRows(sheet, source);
+		}
+	}
+
+	@Test
+	public void values() throws IOException {
+		try(XlsRowSource source = new XlsRowSource(new ByteArrayInputStream(bytes), "data")) {
+			Row row = source.next();
+			assertEquals("plain", row.getCell(0).getStringCellValue());
+			assertEquals("Hello world", row.getCell(1).getStringCellValue());
+			assertEquals("label text", row.getCell(2).getStringCellValue());
+			assertEquals(longText, row.getCell(3).getStringCellValue());
+			assertTrue(((StreamingCell) row.getCell(4)).isDateFormatted());
+			assertTrue(((StreamingCell) row.getCell(5)).isDateFormatted());
+
+			for(int r = 1; r <= 3; r++) {
+				row = source.next();
+				assertFalse(((StreamingCell) row.getCell(0)).isDateFormatted());
+				// 共享公式按所在的行平移
+				assertEquals("A" + (r + 1) + "+B" + (r + 1), row.getCell(2).getCellFormula());
+				assertEquals(r * 2 + 0.5, row.getCell(2).getNumericCellValue(), 0);
+				assertEquals("A" + (r + 1) + "&\"x\"", row.getCell(3).getCellFormula());
+				assertEquals(Cell.CELL_TYPE_STRING, row.getCell(3).getCachedFormulaResultType());
+				assertEquals(r + "x", row.getCell(3).getStringCellValue());
+				assertEquals(r % 2 == 0, row.getCell(4).getBooleanCellValue());
+				assertEquals(FormulaError.DIV0.getCode(), row.getCell(5).getErrorCellValue());
+			}
+
+			// 缺失的行返回空行
+			row = source.next();
+			assertEquals(4, row.getRowNum());
+			assertEquals(-1, row.getLastCellNum());
+
+			row = source.next();
+			assertNull(row.getCell(0));
+			assertEquals(Cell.CELL_TYPE_BLANK, row.getCell(2).getCellType());
+			assertEquals(Cell.CELL_TYPE_BLANK, row.getCell(3).getCellType());
+			assertNull(row.getCell(4));
+			assertTrue(row.getCell(6).getBooleanCellValue());
+			assertEquals(7, row.getLastCellNum());
+
+			for(int r = 6; r < STRING_ROWS; r++) {
+				assertEquals(-1, source.next().getLastCellNum());
+			}
+			for(int i = 0; i < STRING_COUNT; i++) {
+				row = source.next();
+				assertEquals(SharedStringsTest.text(i, 40), row.getCell(i % 3).getStringCellValue());
+			}
+			assertNull(source.next());
+		}
+	}
+
+	@Test
+	public void skipTo() throws IOException {
+		Sheet sheet = new HSSFWorkbook(new ByteArrayInputStream(bytes)).getSheetAt(0);
+		try(XlsRowSource source = new XlsRowSource(new ByteArrayInputStream(bytes), null)) {
+			// SHRFMLA记录在跳过的第2行中
+			source.skipTo(2);
+			Row row = source.next();
+			assertEquals(2, row.getRowNum());
+			assertRow(sheet.getRow(2), row);
+			assertEquals("A3+B3", row.getCell(2).getCellFormula());
+		}
+	}
+
+	@Test
+	public void project() throws IOException {
+		try(XlsRowSource source = new XlsRowSource(new ByteArrayInputStream(bytes), null)) {
+			source.project(new boolean[] {false, false, true});
+			Row row = source.next();
+			assertNull(row.getCell(0));
+			assertEquals("label text", row.getCell(2).getStringCellValue());
+			assertNull(row.getCell(3));
+			assertEquals(3, row.getLastCellNum());
+			row = source.next();
+			assertEquals("A2+B2", row.getCell(2).getCellFormula());
+			assertNull(row.getCell(3));
+			row = source.next();
+			assertEquals("A3+B3", row.getCell(2).getCellFormula());
+		}
+	}
+
+	@Test
+	public void withoutFormulaText() throws IOException {
+		try(XlsRowSource source = new XlsRowSource(new ByteArrayInputStream(bytes), null)) {
+			source.formulaText(false);
+			source.next();
+			Row row = source.next();
+			assertEquals(Cell.CELL_TYPE_FORMULA, row.getCell(2).getCellType());
+			assertEquals("", row.getCell(2).getCellFormula());
+			assertEquals("1x", row.getCell(3).getStringCellValue());
+		}
+	}
+
+	/**
+	 * <p>修改Workbook流中的记录，sheet之前的记录不变，BOUNDSHEET中sheet的位置仍然正确
+	 * <p>C2:C4的FORMULA记录改为引用共享公式，C2之后加入SHRFMLA记录；C1的LABELSST记录改为LABEL记录
+	 */
+	private static byte[] patch(byte[] xls) throws IOException {
+		POIFSFileSystem fs = new POIFSFileSystem(new ByteArrayInputStream(xls));
+		byte[] stream;
+		try(InputStream in = fs.createDocumentInputStream("Workbook")) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int n;
+			while((n = in.read(buffer)) > 0) {
+				out.write(buffer, 0, n);
+			}
+			stream = out.toByteArray();
+		}
+		ByteBuffer records = ByteBuffer.wrap(stream).order(ByteOrder.LITTLE_ENDIAN);
+		ByteArrayOutputStream patched = new ByteArrayOutputStream();
+		int substream = 0;
+		int continues = 0;
+		boolean sharedFormula = false;
+		boolean label = false;
+		while(records.remaining() >= 4) {
+			int sid = records.getShort() & 0xFFFF;
+			int length = records.getShort() & 0xFFFF;
+			byte[] data = new byte[length];
+			records.get(data);
+			if(sid == BOF) {
+				substream++;
+			}else if(sid == CONTINUE && substream == 1) {
+				continues++;
+			}
+			ByteBuffer body = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+			int row = length >= 4 ? body.getShort(0) & 0xFFFF : -1;
+			int column = length >= 4 ? body.getShort(2) & 0xFFFF : -1;
+			if(substream == 2 && sid == FORMULA && column == 2 && row >= 1 && row <= 3) {
+				ByteBuffer formula = buffer(20 + 2 + 5);
+				formula.put(data, 0, 20);
+				// fShrFmla
+				formula.putShort(14, (short) (body.getShort(14) | 0x0008));
+				formula.putShort((short) 5).put((byte) 0x01).putShort((short) 1).putShort((short) 2);
+				write(patched, FORMULA, formula);
+				if(row == 1) {
+					// C2:C4共用 A(行)+B(行)，RefN中的列为相对C列的偏移
+					ByteBuffer shared = buffer(8 + 2 + 11);
+					shared.putShort((short) 1).putShort((short) 3).put((byte) 2).put((byte) 2).put((byte) 0).put((byte) 3);
+					shared.putShort((short) 11);
+					shared.put((byte) 0x2C).putShort((short) 0).putShort((short) 0xC0FE);
+					shared.put((byte) 0x2C).putShort((short) 0).putShort((short) 0xC0FF);
+					shared.put((byte) 0x03);
+					write(patched, SHARED_FORMULA, shared);
+					sharedFormula = true;
+				}
+				continue;
+			}
+			if(substream == 2 && sid == LABEL_SST && row == 0 && column == 2) {
+				byte[] text = "label text".getBytes(StandardCharsets.ISO_8859_1);
+				ByteBuffer record = buffer(6 + 3 + text.length);
+				record.put(data, 0, 6).putShort((short) text.length).put((byte) 0).put(text);
+				write(patched, LABEL, record);
+				label = true;
+				continue;
+			}
+			write(patched, sid, ByteBuffer.wrap(data));
+		}
+		assertTrue("the shared strings must span CONTINUE records", continues > 0);
+		assertTrue(sharedFormula);
+		assertTrue(label);
+
+		POIFSFileSystem result = new POIFSFileSystem();
+		result.createDocument(new ByteArrayInputStream(patched.toByteArray()), "Workbook");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		result.writeFilesystem(out);
+		return out.toByteArray();
+	}
+
+	private static ByteBuffer buffer(int length) {
+		return ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static void write(ByteArrayOutputStream out, int sid, ByteBuffer data) {
+		byte[] body = data.array();
+		ByteBuffer header = buffer(4).putShort((short) sid).putShort((short) body.length);
+		out.write(header.array(), 0, 4);
+		out.write(body, 0, body.length);
+	}
+
+}
@@ -0,0 +1,276 @@
+package org.hutrace.exceltool.read.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.hutrace.exceltool.read.streaming.RowSourceAssert.assertRow;
+import static org.hutrace.exceltool.read.streaming.RowSourceAssert.assertRows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.hutrace.exceltool.pojo.ExcelType;
+import org.hutrace.exceltool.read.ExcelReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * <p>{@link XlsxRowSource}的读取结果必须与{@link XSSFWorkbook}一致
+ * <p>POI不会写入内联字符串与共享公式，测试使用的xlsx由POI创建后替换sheet1.xml与sharedStrings.xml，
+ * 包括内联字符串、富文本、注音、转义字符、共享公式、缺失的行与列、没有r属性的行与列、日期格式
+ * @author HuTrace
+ */
+public class XlsxRowSourceTest {
+
+	private static final String NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+	private static final String SHARED_STRINGS = "<sst xmlns=\"" + NS + "\" count=\"4\" uniqueCount=\"4\">"
+			+ "<si><t>plain</t></si>"
+			+ "<si><r><rPr><b/></rPr><t>Hel</t></r><r><t xml:space=\"preserve\">lo world</t></r></si>"
+			+ "<si><t>ph</t><rPh sb=\"0\" eb=\"1\"><t>PH</t></rPh><phoneticPr fontId=\"1\"/></si>"
+			+ "<si><t>tab_x0009_esc</t></si>"
+			+ "</sst>";
+
+	/**
+	 * 第4行（下标3）与第7行（下标6）缺失；第6行的列与第9行没有r属性；样式1为内置日期格式，样式2为自定义日期格式
+	 */
+	private static final String SHEET = "<worksheet xmlns=\"" + NS + "\"><sheetData>"
+			+ "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c><c r=\"C1\" t=\"s\"><v>2</v></c>"
+			+ "<c r=\"D1\" t=\"inlineStr\"><is><t>inline</t></is></c>"
+			+ "<c r=\"E1\" t=\"inlineStr\"><is><r><rPr><b/></rPr><t xml:space=\"preserve\">rich </t></r><r><t>inline</t></r>"
+			+ "<rPh sb=\"0\" eb=\"1\"><t>ignored</t></rPh></is></c></row>"
+			+ "<row r=\"2\"><c r=\"A2\"><v>1</v></c><c r=\"B2\"><v>2.5</v></c>"
+			+ "<c r=\"C2\"><f t=\"shared\" ref=\"C2:C5\" si=\"0\">A2+B2</f><v>3.5</v></c><c r=\"F2\" s=\"1\"><v>43831</v></c></row>"
+			+ "<row r=\"3\"><c r=\"A3\"><v>2</v></c><c r=\"B3\"><v>3</v></c>"
+			+ "<c r=\"C3\"><f t=\"shared\" si=\"0\"/><v>5</v></c><c r=\"E3\" t=\"s\"><v>3</v></c></row>"
+			+ "<row r=\"5\"><c r=\"A5\"><v>4</v></c><c r=\"B5\"><v>-1</v></c>"
+			+ "<c r=\"C5\"><f t=\"shared\" si=\"0\"/><v>3</v></c><c r=\"F5\" s=\"2\"><v>43831.5</v></c></row>"
+			+ "<row r=\"6\"><c t=\"b\"><v>1</v></c><c t=\"e\"><v>#DIV/0!</v></c><c t=\"str\"><f>\"a\"&amp;\"b\"</f><v>ab</v></c></row>"
+			+ "<row r=\"8\"><c r=\"B8\" t=\"inlineStr\"><is><t>x_x000D_y</t></is></c><c r=\"D8\" s=\"1\"/><c r=\"F8\"><v>1E-3</v></c></row>"
+			+ "<row><c r=\"A9\"><v>7</v></c></row>"
+			+ "</sheetData></worksheet>";
+
+	private static byte[] bytes;
+
+	@BeforeClass
+	public static void setUp() throws IOException {
+		bytes = xlsx(SHEET);
+	}
+
+	@Test
+	public void sameAsWorkbook() throws IOException {
+		// XSSFRow不支持没有r属性的行，比较时给最后一行加上r属性
+		byte[] numbered = xlsx(SHEET.replace("<row><c r=\"A9\">", "<row r=\"9\"><c r=\"A9\">"));
+		Sheet sheet = new XSSFWorkbook(new ByteArrayInputStream(numbered)).getSheetAt(0);
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(bytes), null)) {
+			assertRows(sheet, source);
+		}
+	}
+
+	@Test
+	public void values() throws IOException {
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(bytes), "data")) {
+			Row row = source.next();
+			assertEquals("plain", row.getCell(0).getStringCellValue());
+			// 富文本与注音只保留文本
+			assertEquals("Hello world", row.getCell(1).getStringCellValue());
+			assertEquals("ph", row.getCell(2).getStringCellValue());
+			assertEquals("inline", row.getCell(3).getStringCellValue());
+			assertEquals("rich inline", row.getCell(4).getStringCellValue());
+
+			row = source.next();
+			assertEquals("A2+B2", row.getCell(2).getCellFormula());
+			assertEquals(3.5, row.getCell(2).getNumericCellValue(), 0);
+			assertTrue(((StreamingCell) row.getCell(5)).isDateFormatted());
+			assertFalse(((StreamingCell) row.getCell(0)).isDateFormatted());
+			assertNull(row.getCell(3));
+
+			row = source.next();
+			// 共享公式按所在的行平移
+			assertEquals("A3+B3", row.getCell(2).getCellFormula());
+			assertEquals("tab\tesc", row.getCell(4).getStringCellValue());
+
+			// 缺失的行返回空行
+			row = source.next();
+			assertEquals(3, row.getRowNum());
+			assertEquals(-1, row.getLastCellNum());
+			assertFalse(row.iterator().hasNext());
+
+			row = source.next();
+			assertEquals("A5+B5", row.getCell(2).getCellFormula());
+			assertTrue(((StreamingCell) row.getCell(5)).isDateFormatted());
+
+			// 没有r属性的列按顺序排列
+			row = source.next();
+			assertTrue(row.getCell(0).getBooleanCellValue());
+			assertEquals(7, row.getCell(1).getErrorCellValue());
+			assertEquals("\"a\"&\"b\"", row.getCell(2).getCellFormula());
+			assertEquals(Cell.CELL_TYPE_STRING, row.getCell(2).getCachedFormulaResultType());
+			assertEquals("ab", row.getCell(2).getStringCellValue());
+
+			assertEquals(-1, source.next().getLastCellNum());
+
+			row = source.next();
+			assertEquals("x\ry", row.getCell(1).getStringCellValue());
+			assertEquals(Cell.CELL_TYPE_BLANK, row.getCell(3).getCellType());
+			assertFalse(((StreamingCell) row.getCell(3)).isDateFormatted());
+			assertEquals(0.001, row.getCell(5).getNumericCellValue(), 0);
+
+			// 没有r属性的行是上一行的下一行
+			row = source.next();
+			assertEquals(8, row.getRowNum());
+			assertEquals(7L, ((StreamingCell) row.getCell(0)).getNumberValue());
+			assertNull(source.next());
+			assertNull(source.next());
+		}
+	}
+
+	@Test
+	public void skipTo() throws IOException {
+		Sheet sheet = new XSSFWorkbook(new ByteArrayInputStream(bytes)).getSheetAt(0);
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(bytes), null)) {
+			// 共享公式定义在跳过的行中
+			source.skipTo(4);
+			Row row = source.next();
+			assertEquals(4, row.getRowNum());
+			assertRow(sheet.getRow(4), row);
+			assertEquals("A5+B5", row.getCell(2).getCellFormula());
+		}
+	}
+
+	@Test
+	public void project() throws IOException {
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(bytes), null)) {
+			source.project(new boolean[] {false, true, true});
+			Row row = source.next();
+			assertNull(row.getCell(0));
+			assertEquals("Hello world", row.getCell(1).getStringCellValue());
+			assertNull(row.getCell(3));
+			assertEquals(3, row.getLastCellNum());
+			row = source.next();
+			assertNull(row.getCell(0));
+			assertEquals("A2+B2", row.getCell(2).getCellFormula());
+			row = source.next();
+			assertEquals("A3+B3", row.getCell(2).getCellFormula());
+			assertNull(row.getCell(4));
+		}
+	}
+
+	@Test
+	public void withoutFormulaText() throws IOException {
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(bytes), null)) {
+			source.formulaText(false);
+			source.next();
+			Row row = source.next();
+			assertEquals(Cell.CELL_TYPE_FORMULA, row.getCell(2).getCellType());
+			assertEquals("", row.getCell(2).getCellFormula());
+			assertEquals(3.5, row.getCell(2).getNumericCellValue(), 0);
+		}
+	}
+
+	/**
+	 * 共享字符串表超过spillThreshold后写入临时文件，读取的结果不变
+	 */
+	@Test
+	public void spillToDisk() throws IOException {
+		XSSFWorkbook workbook = new XSSFWorkbook();
+		XSSFSheet sheet = workbook.createSheet("data");
+		Row title = sheet.createRow(0);
+		title.createCell(0).setCellValue("id");
+		title.createCell(1).setCellValue("text");
+		// 超过一页（1MB）的共享字符串
+		for(int i = 1; i <= 3000; i++) {
+			Row row = sheet.createRow(i);
+			row.createCell(0).setCellValue(i);
+			row.createCell(1).setCellValue(SharedStringsTest.text(i, 600));
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		workbook.write(out);
+		byte[] spilled = out.toByteArray();
+		Sheet dom = new XSSFWorkbook(new ByteArrayInputStream(spilled)).getSheetAt(0);
+		try(XlsxRowSource source = new XlsxRowSource(new ByteArrayInputStream(spilled), null, 1)) {
+			assertRows(dom, source);
+		}
+
+		ExcelReader reader = ExcelReader.builder()
+				.streaming(true)
+				.spillThreshold(1)
+				.build();
+		List<Map<String, Object>> rows = reader.toMap(spilled, ExcelType.XLSX);
+		assertEquals(3000, rows.size());
+		for(int i = 0; i < rows.size(); i++) {
+			assertEquals(SharedStringsTest.text(i + 1, 600), rows.get(i).get("text"));
+		}
+	}
+
+	/**
+	 * 使用POI创建xlsx（包括两个日期格式的样式），再替换sheet1.xml与sharedStrings.xml
+	 * @param sheetXml sheet1.xml的内容
+	 */
+	private static byte[] xlsx(String sheetXml) throws IOException {
+		XSSFWorkbook workbook = new XSSFWorkbook();
+		XSSFSheet sheet = workbook.createSheet("data");
+		Row row = sheet.createRow(0);
+		row.createCell(0).setCellValue("plain");
+		row.createCell(1).setCellStyle(workbook.createCellStyle());
+		row.getCell(1).getCellStyle().setDataFormat((short) 14);
+		row.createCell(2).setCellStyle(workbook.createCellStyle());
+		row.getCell(2).getCellStyle().setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		workbook.write(out);
+		return replace(out.toByteArray(), "xl/worksheets/sheet1.xml", sheetXml, "xl/sharedStrings.xml", SHARED_STRINGS);
+	}
+
+	/**
+	 * 替换压缩包中的文件
+	 * @param zip 压缩包
+	 * @param entries 依次为文件名与新的内容
+	 */
+	static byte[] replace(byte[] zip, String... entries) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip));
+				ZipOutputStream out = new ZipOutputStream(bytes)) {
+			ZipEntry entry;
+			while((entry = in.getNextEntry()) != null) {
+				out.putNextEntry(new ZipEntry(entry.getName()));
+				String content = null;
+				for(int i = 0; i < entries.length; i += 2) {
+					if(entries[i].equals(entry.getName())) {
+						content = entries[i + 1];
+					}
+				}
+				if(content == null) {
+					copy(in, out);
+				}else {
+					out.write(content.getBytes(StandardCharsets.UTF_8));
+				}
+				out.closeEntry();
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void copy(InputStream in, OutputStream out) throws IOException {
+		byte[] buffer = new byte[8192];
+		int n;
+		while((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+	}
+
+}
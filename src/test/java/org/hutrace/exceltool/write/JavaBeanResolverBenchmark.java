@@ -0,0 +1,79 @@
+package org.hutrace.exceltool.write;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.hutrace.exceltool.read.JavaBeanResolverBenchmark.Bean;
+
+/**
+ * <p>写入JavaBean时getter调用与单元格赋值的速度（每秒处理的单元格数）
+ * <p>只测量{@link JavaBeanResolver#row(Row, int)}与{@link JavaBeanCollationResolver#row(Row, int)}，
+ * 不包括输出文件，每次都写入同一行的HSSF单元格
+ * <p>不是单元测试，使用main方法运行，在修改前后的代码上分别运行并比较输出：
+ * <pre>
+ * mvn -q test-compile
+ * java -cp target/classes:target/test-classes:&lt;poi&gt; org.hutrace.exceltool.write.JavaBeanResolverBenchmark [rows] [rounds]
+ * </pre>
+ * <p>前两轮作为预热，不输出结果
+ * @author HuTrace
+ */
+public class JavaBeanResolverBenchmark {
+
+	/**
+	 * 预热的轮数
+	 */
+	private static final int WARMUP = 2;
+
+	/**
+	 * 数据的条数，按下标循环写入
+	 */
+	private static final int DATA = 1000;
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		List<Object> data = new ArrayList<>(DATA);
+		for(int i = 0; i < DATA; i++) {
+			Bean bean = new Bean();
+			bean.setA("a" + i);
+			bean.setB(i);
+			bean.setC(i * 0.5);
+			bean.setD(i);
+			bean.setE("e");
+			bean.setF(i);
+			bean.setG(true);
+			bean.setH("h");
+			data.add(bean);
+		}
+		String[] titles = org.hutrace.exceltool.read.JavaBeanResolverBenchmark.TITLES;
+		String[] collation = {"h", "a", "b", "c"};
+		HSSFWorkbook workbook = new HSSFWorkbook();
+		Sheet sheet = workbook.createSheet();
+		JavaBeanResolver resolver = new JavaBeanResolver(data);
+		resolver.title(sheet.createRow(0));
+		JavaBeanCollationResolver collationResolver = new JavaBeanCollationResolver(data, collation);
+		collationResolver.title(sheet.createRow(1));
+		Row row = sheet.createRow(2);
+		for(int round = 0; round < WARMUP + rounds; round++) {
+			long start = System.nanoTime();
+			for(int i = 0; i < rows; i++) {
+				resolver.row(row, i % DATA);
+			}
+			long nanos = System.nanoTime() - start;
+			start = System.nanoTime();
+			for(int i = 0; i < rows; i++) {
+				collationResolver.row(row, i % DATA);
+			}
+			long collationNanos = System.nanoTime() - start;
+			if(round >= WARMUP) {
+				System.out.printf("write %.1f M cells/s, collation %.1f M cells/s%n",
+						(double) rows * titles.length / (nanos / 1e3),
+						(double) rows * collation.length / (collationNanos / 1e3));
+			}
+		}
+	}
+
+}